@@ -0,0 +1,13 @@
+package com.ecom.catalog.admin.application.category.retrieve.get;
+
+import java.time.Instant;
+
+public record CategoryVersionOutput(
+        String id,
+        Instant updatedAt
+) {
+
+    public static CategoryVersionOutput with(final String anId, final Instant anUpdatedAt) {
+        return new CategoryVersionOutput(anId, anUpdatedAt);
+    }
+}
@@ -0,0 +1,25 @@
+package com.ecom.catalog.admin.application.category.retrieve.get;
+
+import com.ecom.catalog.admin.domain.category.Category;
+import com.ecom.catalog.admin.domain.category.CategoryGateway;
+import com.ecom.catalog.admin.domain.category.CategoryID;
+import com.ecom.catalog.admin.domain.exceptions.NotFoundException;
+
+import java.util.Objects;
+
+public class DefaultGetCategoryVersionUseCase extends GetCategoryVersionUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoryVersionUseCase(CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CategoryVersionOutput execute(final String anIn) {
+        final var anId = CategoryID.from(anIn);
+        return this.categoryGateway.findUpdatedAtById(anId)
+                .map(anUpdatedAt -> CategoryVersionOutput.with(anId.getValue(), anUpdatedAt))
+                .orElseThrow(() -> NotFoundException.with(Category.class, anId));
+    }
+}
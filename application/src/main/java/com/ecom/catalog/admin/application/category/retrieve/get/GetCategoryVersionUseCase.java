@@ -0,0 +1,7 @@
+package com.ecom.catalog.admin.application.category.retrieve.get;
+
+import com.ecom.catalog.admin.application.UseCase;
+
+public abstract class GetCategoryVersionUseCase
+    extends UseCase<String, CategoryVersionOutput> {
+}
@@ -20,11 +20,14 @@ public class DefaultCreateProductUseCase extends CreateProductUseCase {
 
     private ProductImageGateway productImageGateway;
 
-    public DefaultCreateProductUseCase(ProductGateway productGateway, CategoryGateway categoryGateway, StoreGateway storeGateway, ProductImageGateway productImageGateway) {
+    private final ProductSearchGateway productSearchGateway;
+
+    public DefaultCreateProductUseCase(ProductGateway productGateway, CategoryGateway categoryGateway, StoreGateway storeGateway, ProductImageGateway productImageGateway, ProductSearchGateway productSearchGateway) {
         this.productGateway = Objects.requireNonNull(productGateway);
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.storeGateway = Objects.requireNonNull(storeGateway);
         this.productImageGateway = Objects.requireNonNull(productImageGateway);
+        this.productSearchGateway = Objects.requireNonNull(productSearchGateway);
     }
 
     @Override
@@ -46,7 +49,9 @@ public class DefaultCreateProductUseCase extends CreateProductUseCase {
         if(notification.hasError()) {
             throw new NotificationException("Could not create Aggregate Product,", notification);
         }
-        return CreateProductOutput.from(create(aCommand, aStore, aProduct));
+        final var aCreatedProduct = create(aCommand, aStore, aProduct);
+        this.productSearchGateway.index(aCreatedProduct);
+        return CreateProductOutput.from(aCreatedProduct);
     }
 
     private Product create(final CreateProductCommand aCommand, final Store aStore, final Product aProduct) {
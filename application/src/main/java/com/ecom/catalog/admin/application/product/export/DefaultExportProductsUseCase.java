@@ -0,0 +1,23 @@
+package com.ecom.catalog.admin.application.product.export;
+
+import com.ecom.catalog.admin.application.product.retrieve.list.ProductListOutput;
+import com.ecom.catalog.admin.domain.product.ProductGateway;
+
+import java.util.Objects;
+
+public class DefaultExportProductsUseCase extends ExportProductsUseCase {
+
+    private final ProductGateway productGateway;
+
+    public DefaultExportProductsUseCase(ProductGateway productGateway) {
+        this.productGateway = Objects.requireNonNull(productGateway);
+    }
+
+    @Override
+    public void execute(ExportProductsCommand aCommand) {
+        this.productGateway.forEachPreview(
+                aCommand.filter(),
+                aPreview -> aCommand.consumer().accept(ProductListOutput.from(aPreview))
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.ecom.catalog.admin.application.product.export;
+
+import com.ecom.catalog.admin.application.product.retrieve.list.ProductListOutput;
+import com.ecom.catalog.admin.domain.product.ProductFilter;
+
+import java.util.function.Consumer;
+
+public record ExportProductsCommand(
+        ProductFilter filter,
+        Consumer<ProductListOutput> consumer) {
+
+    public static ExportProductsCommand with(final ProductFilter aFilter, final Consumer<ProductListOutput> aConsumer) {
+        return new ExportProductsCommand(aFilter, aConsumer);
+    }
+}
@@ -0,0 +1,7 @@
+package com.ecom.catalog.admin.application.product.export;
+
+import com.ecom.catalog.admin.application.UnitUseCase;
+
+public abstract class ExportProductsUseCase
+    extends UnitUseCase<ExportProductsCommand> {
+}
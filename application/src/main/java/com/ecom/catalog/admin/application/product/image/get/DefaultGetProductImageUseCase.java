@@ -23,14 +23,25 @@ public class DefaultGetProductImageUseCase extends GetProductImageUseCase {
                 .orElseThrow(() -> notFound(anId.getValue()));
         final var aStore = aProduct.getStore();
 
-        final var anImage = this.productImageGateway.getImage(aStore, aProduct.getId(), getImage(aProduct, anId))
+        final var anImage = getImage(aProduct, anId);
+        if (aCommand.size() != null) {
+            final var aVariant = this.productImageGateway.openVariant(aStore, aProduct.getId(), anImage, aCommand.size(), aCommand.range());
+            if (aVariant.isPresent()) {
+                return ProductImageOutput.with(anImage, aVariant.get(), aCommand.size());
+            }
+        }
+        // the original until the variant is generated
+        final var aContent = this.productImageGateway.openImage(aStore, aProduct.getId(), anImage, aCommand.range())
                 .orElseThrow(() -> notFound(anId.getValue()));
 
-        return ProductImageOutput.with(anImage);
+        return ProductImageOutput.with(anImage, aContent);
     }
 
     private ProductImage getImage(final Product aProduct, final ProductImageID anId ) {
-        return aProduct.getImages().stream().findFirst().orElseThrow(() -> notFound(anId.getValue()));
+        return aProduct.getImages().stream()
+                .filter(anImage -> anId.equals(anImage.getId()))
+                .findFirst()
+                .orElseThrow(() -> notFound(anId.getValue()));
     }
 
     private NotFoundException notFound(final String anId) {
@@ -0,0 +1,28 @@
+package com.ecom.catalog.admin.application.product.image.get;
+
+import com.ecom.catalog.admin.domain.exceptions.NotFoundException;
+import com.ecom.catalog.admin.domain.product.ProductGateway;
+import com.ecom.catalog.admin.domain.product.ProductImageID;
+import com.ecom.catalog.admin.domain.validation.Error;
+
+import java.util.Objects;
+
+public class DefaultGetProductImageVersionUseCase extends GetProductImageVersionUseCase {
+
+    private final ProductGateway productGateway;
+
+    public DefaultGetProductImageVersionUseCase(final ProductGateway productGateway) {
+        this.productGateway = Objects.requireNonNull(productGateway);
+    }
+
+    @Override
+    public ProductImageVersionOutput execute(final GetProductImageCommand aCommand) {
+        final var anId = ProductImageID.from(aCommand.imageId());
+        return this.productGateway.findByImageId(anId)
+                .flatMap(aProduct -> aProduct.getImages().stream()
+                        .filter(anImage -> anId.equals(anImage.getId()))
+                        .findFirst())
+                .map(ProductImageVersionOutput::with)
+                .orElseThrow(() -> NotFoundException.with(new Error("Image with ID %s not found".formatted(anId.getValue()))));
+    }
+}
@@ -1,10 +1,22 @@
 package com.ecom.catalog.admin.application.product.image.get;
 
+import com.ecom.catalog.admin.domain.product.ByteRange;
+
 public record GetProductImageCommand(
         String productId,
-        String imageId) {
+        String imageId,
+        Integer size,
+        ByteRange range) {
 
     public static GetProductImageCommand with(final String aProductId, final String anImageId) {
-        return new GetProductImageCommand(aProductId, anImageId);
+        return with(aProductId, anImageId, ByteRange.all());
+    }
+
+    public static GetProductImageCommand with(final String aProductId, final String anImageId, final ByteRange aRange) {
+        return with(aProductId, anImageId, null, aRange);
+    }
+
+    public static GetProductImageCommand with(final String aProductId, final String anImageId, final Integer aSize, final ByteRange aRange) {
+        return new GetProductImageCommand(aProductId, anImageId, aSize, aRange);
     }
 }
@@ -0,0 +1,7 @@
+package com.ecom.catalog.admin.application.product.image.get;
+
+import com.ecom.catalog.admin.application.UseCase;
+
+public abstract class GetProductImageVersionUseCase
+    extends UseCase<GetProductImageCommand, ProductImageVersionOutput> {
+}
@@ -1,13 +1,22 @@
 package com.ecom.catalog.admin.application.product.image.get;
 
+import com.ecom.catalog.admin.domain.product.ImageContent;
 import com.ecom.catalog.admin.domain.product.ProductImage;
 
 public record ProductImageOutput(
-        byte[] content,
-        String name
+        ImageContent content,
+        String name,
+        Integer size
 ) {
 
-    public static ProductImageOutput with(final ProductImage anImage) {
-        return new ProductImageOutput(anImage.getContent(), anImage.getName());
+    public static ProductImageOutput with(final ProductImage anImage, final ImageContent aContent) {
+        return with(anImage, aContent, null);
+    }
+
+    /**
+     * @param aSize the width of the variant served, {@code null} for the original
+     */
+    public static ProductImageOutput with(final ProductImage anImage, final ImageContent aContent, final Integer aSize) {
+        return new ProductImageOutput(aContent, anImage.getName(), aSize);
     }
 }
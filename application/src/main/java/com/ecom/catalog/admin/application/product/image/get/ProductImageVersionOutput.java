@@ -0,0 +1,13 @@
+package com.ecom.catalog.admin.application.product.image.get;
+
+import com.ecom.catalog.admin.domain.product.ProductImage;
+
+public record ProductImageVersionOutput(
+        String id,
+        String checksum
+) {
+
+    public static ProductImageVersionOutput with(final ProductImage anImage) {
+        return new ProductImageVersionOutput(anImage.getId().getValue(), anImage.getChecksum());
+    }
+}
@@ -1,18 +1,24 @@
 package com.ecom.catalog.admin.application.product.image.upload;
 
 import com.ecom.catalog.admin.domain.product.Product;
+import com.ecom.catalog.admin.domain.product.ProductImage;
 import com.ecom.catalog.admin.domain.utils.CollectionUtils;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public record UploadProductImagesOutput(
         String productId,
-        Set<String> imagesIds
+        Set<String> imagesIds,
+        Map<String, String> checksums
 ) {
 
     public static UploadProductImagesOutput with(final Product aProduct) {
         return new UploadProductImagesOutput(aProduct.getId().getValue(),
-                CollectionUtils.mapTo(aProduct.getImages(), productImage -> productImage.getId().getValue()));
+                CollectionUtils.mapTo(aProduct.getImages(), productImage -> productImage.getId().getValue()),
+                aProduct.getImages().stream()
+                        .collect(Collectors.toMap(productImage -> productImage.getId().getValue(), ProductImage::getChecksum)));
     }
 
 }
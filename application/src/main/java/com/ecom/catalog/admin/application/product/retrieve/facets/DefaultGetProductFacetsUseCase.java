@@ -0,0 +1,20 @@
+package com.ecom.catalog.admin.application.product.retrieve.facets;
+
+import com.ecom.catalog.admin.application.product.retrieve.list.ListProductCommand;
+import com.ecom.catalog.admin.domain.product.ProductGateway;
+
+import java.util.Objects;
+
+public class DefaultGetProductFacetsUseCase extends GetProductFacetsUseCase {
+
+    private final ProductGateway productGateway;
+
+    public DefaultGetProductFacetsUseCase(ProductGateway productGateway) {
+        this.productGateway = Objects.requireNonNull(productGateway);
+    }
+
+    @Override
+    public ProductFacetsOutput execute(ListProductCommand aCommand) {
+        return ProductFacetsOutput.from(this.productGateway.facets(aCommand.query(), aCommand.filter()));
+    }
+}
@@ -0,0 +1,8 @@
+package com.ecom.catalog.admin.application.product.retrieve.facets;
+
+import com.ecom.catalog.admin.application.UseCase;
+import com.ecom.catalog.admin.application.product.retrieve.list.ListProductCommand;
+
+public abstract class GetProductFacetsUseCase
+    extends UseCase<ListProductCommand, ProductFacetsOutput> {
+}
@@ -0,0 +1,21 @@
+package com.ecom.catalog.admin.application.product.retrieve.facets;
+
+import com.ecom.catalog.admin.domain.product.ProductFacets;
+import com.ecom.catalog.admin.domain.product.ProductStatus;
+
+import java.util.Map;
+
+public record ProductFacetsOutput(
+        Map<String, Long> categories,
+        Map<ProductStatus, Long> statuses,
+        Map<String, Long> stores
+) {
+
+    public static ProductFacetsOutput from(final ProductFacets aFacets) {
+        return new ProductFacetsOutput(
+                aFacets.categories(),
+                aFacets.statuses(),
+                aFacets.stores()
+        );
+    }
+}
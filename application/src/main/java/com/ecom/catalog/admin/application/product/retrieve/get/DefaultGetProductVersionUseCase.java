@@ -0,0 +1,25 @@
+package com.ecom.catalog.admin.application.product.retrieve.get;
+
+import com.ecom.catalog.admin.domain.exceptions.NotFoundException;
+import com.ecom.catalog.admin.domain.product.Product;
+import com.ecom.catalog.admin.domain.product.ProductGateway;
+import com.ecom.catalog.admin.domain.product.ProductID;
+
+import java.util.Objects;
+
+public class DefaultGetProductVersionUseCase extends GetProductVersionUseCase {
+
+    private final ProductGateway productGateway;
+
+    public DefaultGetProductVersionUseCase(ProductGateway productGateway) {
+        this.productGateway = Objects.requireNonNull(productGateway);
+    }
+
+    @Override
+    public ProductVersionOutput execute(final String anIn) {
+        final var anId = ProductID.from(anIn);
+        return this.productGateway.findUpdatedAtById(anId)
+                .map(anUpdatedAt -> ProductVersionOutput.with(anId.getValue(), anUpdatedAt))
+                .orElseThrow(() -> NotFoundException.with(Product.class, anId));
+    }
+}
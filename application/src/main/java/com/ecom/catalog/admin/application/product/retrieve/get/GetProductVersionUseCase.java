@@ -0,0 +1,7 @@
+package com.ecom.catalog.admin.application.product.retrieve.get;
+
+import com.ecom.catalog.admin.application.UseCase;
+
+public abstract class GetProductVersionUseCase
+    extends UseCase<String, ProductVersionOutput> {
+}
@@ -0,0 +1,13 @@
+package com.ecom.catalog.admin.application.product.retrieve.get;
+
+import java.time.Instant;
+
+public record ProductVersionOutput(
+        String id,
+        Instant updatedAt
+) {
+
+    public static ProductVersionOutput with(final String anId, final Instant anUpdatedAt) {
+        return new ProductVersionOutput(anId, anUpdatedAt);
+    }
+}
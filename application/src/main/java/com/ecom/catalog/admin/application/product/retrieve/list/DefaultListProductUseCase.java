@@ -2,21 +2,62 @@ package com.ecom.catalog.admin.application.product.retrieve.list;
 
 import com.ecom.catalog.admin.domain.pagination.Pagination;
 import com.ecom.catalog.admin.domain.pagination.SearchQuery;
+import com.ecom.catalog.admin.domain.product.ProductFilter;
 import com.ecom.catalog.admin.domain.product.ProductGateway;
+import com.ecom.catalog.admin.domain.product.ProductID;
+import com.ecom.catalog.admin.domain.product.ProductPreview;
+import com.ecom.catalog.admin.domain.product.ProductSearchGateway;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class DefaultListProductUseCase extends ListProductUseCase {
 
     private final ProductGateway productGateway;
 
-    public DefaultListProductUseCase(ProductGateway productGateway) {
+    private final ProductSearchGateway productSearchGateway;
+
+    public DefaultListProductUseCase(ProductGateway productGateway, ProductSearchGateway productSearchGateway) {
         this.productGateway = Objects.requireNonNull(productGateway);
+        this.productSearchGateway = Objects.requireNonNull(productSearchGateway);
     }
 
     @Override
-    public Pagination<ProductListOutput> execute(SearchQuery aQuery) {
-        return this.productGateway.findAll(aQuery)
+    public Pagination<ProductListOutput> execute(ListProductCommand aCommand) {
+        final var aQuery = aCommand.query();
+        final var aFilter = aCommand.filter();
+        return search(aQuery, aFilter)
+                .orElseGet(() -> this.productGateway.findAllPreviews(aQuery, aFilter))
                 .map(ProductListOutput::from);
     }
+
+    private Optional<Pagination<ProductPreview>> search(final SearchQuery aQuery, final ProductFilter aFilter) {
+        // the search index only knows the text, filtered listings go to the indexed columns
+        if (aQuery.terms() == null || aQuery.terms().isBlank() || !aFilter.isEmpty()) {
+            return Optional.empty();
+        }
+        return this.productSearchGateway.search(aQuery)
+                .map(this::hydrate);
+    }
+
+    private Pagination<ProductPreview> hydrate(final Pagination<ProductID> aPage) {
+        final var products = this.productGateway.findAllPreviewsByIds(aPage.items()).stream()
+                .collect(Collectors.toMap(ProductPreview::id, Function.identity()));
+        final var items = aPage.items().stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        // ids the index still has but the database no longer does are not counted either
+        return new Pagination<>(
+                aPage.currentPage(),
+                aPage.perPage(),
+                aPage.total() - (aPage.items().size() - items.size()),
+                items,
+                aPage.nextCursor(),
+                aPage.hasNext()
+        );
+    }
 }
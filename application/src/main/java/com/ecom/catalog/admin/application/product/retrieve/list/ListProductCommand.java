@@ -0,0 +1,17 @@
+package com.ecom.catalog.admin.application.product.retrieve.list;
+
+import com.ecom.catalog.admin.domain.pagination.SearchQuery;
+import com.ecom.catalog.admin.domain.product.ProductFilter;
+
+public record ListProductCommand(
+        SearchQuery query,
+        ProductFilter filter) {
+
+    public static ListProductCommand with(final SearchQuery aQuery) {
+        return with(aQuery, ProductFilter.empty());
+    }
+
+    public static ListProductCommand with(final SearchQuery aQuery, final ProductFilter aFilter) {
+        return new ListProductCommand(aQuery, aFilter);
+    }
+}
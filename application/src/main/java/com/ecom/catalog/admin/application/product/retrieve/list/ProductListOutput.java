@@ -2,6 +2,7 @@ package com.ecom.catalog.admin.application.product.retrieve.list;
 
 import com.ecom.catalog.admin.domain.product.Money;
 import com.ecom.catalog.admin.domain.product.Product;
+import com.ecom.catalog.admin.domain.product.ProductPreview;
 import com.ecom.catalog.admin.domain.product.ProductStatus;
 
 import java.time.Instant;
@@ -31,4 +32,18 @@ public record ProductListOutput(
                 aProduct.getStore().getId()
         );
     }
+
+    public static ProductListOutput from(final ProductPreview aPreview) {
+        return new ProductListOutput(
+                aPreview.id().getValue(),
+                aPreview.name(),
+                aPreview.description(),
+                aPreview.status(),
+                aPreview.price(),
+                aPreview.stock(),
+                aPreview.categoryId().getValue(),
+                aPreview.createdAt(),
+                aPreview.storeId()
+        );
+    }
 }
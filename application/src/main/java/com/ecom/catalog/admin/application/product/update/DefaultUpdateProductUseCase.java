@@ -28,11 +28,14 @@ public class DefaultUpdateProductUseCase extends UpdateProductUseCase {
 
     private final ProductImageGateway productImageGateway;
 
-    public DefaultUpdateProductUseCase(ProductGateway productGateway, CategoryGateway categoryGateway, StoreGateway storeGateway, ProductImageGateway productImageGateway) {
+    private final ProductSearchGateway productSearchGateway;
+
+    public DefaultUpdateProductUseCase(ProductGateway productGateway, CategoryGateway categoryGateway, StoreGateway storeGateway, ProductImageGateway productImageGateway, ProductSearchGateway productSearchGateway) {
         this.productGateway = Objects.requireNonNull(productGateway);
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.storeGateway = Objects.requireNonNull(storeGateway);
         this.productImageGateway = Objects.requireNonNull(productImageGateway);
+        this.productSearchGateway = Objects.requireNonNull(productSearchGateway);
     }
 
     @Override
@@ -58,7 +61,9 @@ public class DefaultUpdateProductUseCase extends UpdateProductUseCase {
         if(notification.hasError()) {
             throw new NotificationException("Could not update Aggregate Product %s".formatted(aCommand.id()), notification);
         }
-        return UpdateProductOutput.from(update(aCommand, aStore, aProduct));
+        final var anUpdatedProduct = update(aCommand, aStore, aProduct);
+        this.productSearchGateway.index(anUpdatedProduct);
+        return UpdateProductOutput.from(anUpdatedProduct);
     }
 
     private Product update(final UpdateProductCommand aCommand, final Store aStore, final Product aProduct) {
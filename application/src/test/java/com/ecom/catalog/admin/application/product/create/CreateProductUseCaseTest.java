@@ -48,9 +48,12 @@ class CreateProductUseCaseTest extends UseCaseTest {
     @Mock
     private ProductImageGateway productImageGateway;
 
+    @Mock
+    private ProductSearchGateway productSearchGateway;
+
     @Override
     protected List<Object> getMocks() {
-        return List.of(productGateway, categoryGateway, storeGateway, productImageGateway);
+        return List.of(productGateway, categoryGateway, storeGateway, productImageGateway, productSearchGateway);
     }
 
     @Test
@@ -89,6 +92,8 @@ class CreateProductUseCaseTest extends UseCaseTest {
         Mockito.verify(categoryGateway, times(1)).existsById(eq(expectedCategoryId));
         Mockito.verify(storeGateway, times(1)).existsById(eq(expectedStoreId));
         Mockito.verify(productImageGateway, times(1)).create(eq(Store.from(expectedStoreId)), eq(ProductID.from(actualOutput.id())), eq(expectedImages));
+        Mockito.verify(productSearchGateway, times(1)).index(Mockito.argThat(aProduct ->
+                Objects.equals(actualOutput.id(), aProduct.getId().getValue())));
         Mockito.verify(productGateway).create(Mockito.argThat(aProduct ->
             Objects.equals(expectedName, aProduct.getName())
                     && Objects.equals(expectedDescription, aProduct.getDescription())
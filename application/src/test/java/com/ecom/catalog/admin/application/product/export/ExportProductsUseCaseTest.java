@@ -0,0 +1,65 @@
+package com.ecom.catalog.admin.application.product.export;
+
+import com.ecom.catalog.admin.application.product.UseCaseTest;
+import com.ecom.catalog.admin.application.product.retrieve.list.ProductListOutput;
+import com.ecom.catalog.admin.domain.category.CategoryID;
+import com.ecom.catalog.admin.domain.product.*;
+import com.ecom.catalog.admin.domain.utils.IdUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+
+class ExportProductsUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultExportProductsUseCase useCase;
+
+    @Mock
+    private ProductGateway productGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(productGateway);
+    }
+
+    @Test
+    public void givenAFilter_whenCallsExportProducts_shouldHandEveryProductToTheConsumer() {
+        // given
+        final var expectedStore = Store.with(IdUtils.uuid(), "Minha Loja");
+        final var previews = List.of(
+                ProductPreview.from(Product.newProduct("Celular", "Celular do tipo ABC", ProductStatus.ACTIVE, Money.with(3000.0), 10, CategoryID.from("123"), expectedStore, null)),
+                ProductPreview.from(Product.newProduct("Notebook", "Notebook do tipo 123", ProductStatus.ACTIVE, Money.with(5000.0), 10, CategoryID.from("123"), expectedStore, null))
+        );
+        final var expectedFilter = ProductFilter.with(expectedStore.getId(), CategoryID.from("123"), null, false);
+        final var expectedItems = previews.stream()
+                .map(ProductListOutput::from)
+                .toList();
+
+        doAnswer(invocation -> {
+            final Consumer<ProductPreview> consumer = invocation.getArgument(1);
+            previews.forEach(consumer);
+            return null;
+        }).when(productGateway).forEachPreview(any(), any());
+
+        final var actualItems = new ArrayList<ProductListOutput>();
+
+        // when
+        useCase.execute(ExportProductsCommand.with(expectedFilter, actualItems::add));
+
+        // then
+        Assertions.assertEquals(expectedItems, actualItems);
+
+        Mockito.verify(productGateway, times(1)).forEachPreview(eq(expectedFilter), any());
+    }
+}
@@ -3,6 +3,8 @@ package com.ecom.catalog.admin.application.product.image.get;
 import com.ecom.catalog.admin.application.product.UseCaseTest;
 import com.ecom.catalog.admin.domain.Fixture;
 import com.ecom.catalog.admin.domain.exceptions.NotFoundException;
+import com.ecom.catalog.admin.domain.product.ByteRange;
+import com.ecom.catalog.admin.domain.product.ImageContent;
 import com.ecom.catalog.admin.domain.product.ProductGateway;
 import com.ecom.catalog.admin.domain.product.ProductImageGateway;
 import com.ecom.catalog.admin.domain.product.ProductImageID;
@@ -12,12 +14,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class GetProductImageUseCaseTest extends UseCaseTest {
@@ -47,20 +52,75 @@ class GetProductImageUseCaseTest extends UseCaseTest {
         when(productGateway.findByImageId(expectedId))
                 .thenReturn(Optional.of(aProduct));
 
-        when(productImageGateway.getImage(aStore, aProduct.getId(), expectedImage))
-                .thenReturn(Optional.of(expectedImage));
+        final var expectedRange = ByteRange.of(0, 9L);
+        final var expectedContent = ImageContent.with(100, 0, 10, InputStream.nullInputStream());
 
-        final var aCommand = GetProductImageCommand.with(aProduct.getId().getValue(), expectedId.getValue());
+        when(productImageGateway.openImage(aStore, aProduct.getId(), expectedImage, expectedRange))
+                .thenReturn(Optional.of(expectedContent));
+
+        final var aCommand = GetProductImageCommand.with(aProduct.getId().getValue(), expectedId.getValue(), expectedRange);
 
         // when
         final var actualResult = this.useCase.execute(aCommand);
 
         // then
         Assertions.assertEquals(expectedImage.getName(), actualResult.name());
-        Assertions.assertEquals(expectedImage.getContent(), actualResult.content());
+        Assertions.assertEquals(expectedContent, actualResult.content());
 
     }
 
+    @Test
+    public void givenAGeneratedVariant_whenCallsGetImageWithASize_shouldReturnTheVariant() {
+        // given
+        final var aProduct = Fixture.Products.celular();
+        final var aStore = aProduct.getStore();
+        final var expectedImage = aProduct.getImages().stream().findFirst().get();
+        final var expectedId = expectedImage.getId();
+        final var expectedSize = 150;
+        final var expectedContent = ImageContent.with(10, 0, 10, InputStream.nullInputStream());
+
+        when(productGateway.findByImageId(expectedId))
+                .thenReturn(Optional.of(aProduct));
+        when(productImageGateway.openVariant(aStore, aProduct.getId(), expectedImage, expectedSize, ByteRange.all()))
+                .thenReturn(Optional.of(expectedContent));
+
+        final var aCommand = GetProductImageCommand.with(aProduct.getId().getValue(), expectedId.getValue(), expectedSize, ByteRange.all());
+
+        // when
+        final var actualResult = this.useCase.execute(aCommand);
+
+        // then
+        Assertions.assertEquals(expectedContent, actualResult.content());
+        Assertions.assertEquals(expectedSize, actualResult.size());
+        verify(productImageGateway, never()).openImage(any(), any(), any(), any());
+    }
+
+    @Test
+    public void givenAVariantNotGeneratedYet_whenCallsGetImageWithASize_shouldReturnTheOriginal() {
+        // given
+        final var aProduct = Fixture.Products.celular();
+        final var aStore = aProduct.getStore();
+        final var expectedImage = aProduct.getImages().stream().findFirst().get();
+        final var expectedId = expectedImage.getId();
+        final var expectedContent = ImageContent.with(100, 0, 100, InputStream.nullInputStream());
+
+        when(productGateway.findByImageId(expectedId))
+                .thenReturn(Optional.of(aProduct));
+        when(productImageGateway.openVariant(aStore, aProduct.getId(), expectedImage, 150, ByteRange.all()))
+                .thenReturn(Optional.empty());
+        when(productImageGateway.openImage(aStore, aProduct.getId(), expectedImage, ByteRange.all()))
+                .thenReturn(Optional.of(expectedContent));
+
+        final var aCommand = GetProductImageCommand.with(aProduct.getId().getValue(), expectedId.getValue(), 150, ByteRange.all());
+
+        // when
+        final var actualResult = this.useCase.execute(aCommand);
+
+        // then
+        Assertions.assertEquals(expectedContent, actualResult.content());
+        Assertions.assertNull(actualResult.size());
+    }
+
     @Test
     public void givenAnInvalidId_whenCallsGetImage_shouldReturnNotFoundException() {
         // given
@@ -72,7 +132,7 @@ class GetProductImageUseCaseTest extends UseCaseTest {
         when(productGateway.findByImageId(expectedId))
                 .thenReturn(Optional.of(aProduct));
 
-        when(productImageGateway.getImage(aStore, aProduct.getId(), expectedImage))
+        when(productImageGateway.openImage(aStore, aProduct.getId(), expectedImage, ByteRange.all()))
                 .thenReturn(Optional.empty());
 
         final var aCommand = GetProductImageCommand.with(aProduct.getId().getValue(), expectedId.getValue());
@@ -0,0 +1,65 @@
+package com.ecom.catalog.admin.application.product.image.get;
+
+import com.ecom.catalog.admin.application.product.UseCaseTest;
+import com.ecom.catalog.admin.domain.Fixture;
+import com.ecom.catalog.admin.domain.exceptions.NotFoundException;
+import com.ecom.catalog.admin.domain.product.ProductGateway;
+import com.ecom.catalog.admin.domain.product.ProductImageID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+class GetProductImageVersionUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetProductImageVersionUseCase useCase;
+
+    @Mock
+    private ProductGateway productGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(productGateway);
+    }
+
+    @Test
+    public void givenAValidImageId_whenCallsGetImageVersion_shouldReturnItsChecksum() {
+        // given
+        final var aProduct = Fixture.Products.celular();
+        final var expectedImage = aProduct.getImages().stream().findFirst().get();
+        final var expectedId = expectedImage.getId();
+
+        when(productGateway.findByImageId(expectedId))
+                .thenReturn(Optional.of(aProduct));
+
+        // when
+        final var actualOutput = this.useCase.execute(GetProductImageCommand.with(aProduct.getId().getValue(), expectedId.getValue()));
+
+        // then
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
+        Assertions.assertEquals(expectedImage.getChecksum(), actualOutput.checksum());
+    }
+
+    @Test
+    public void givenAnUnknownImageId_whenCallsGetImageVersion_shouldReturnNotFoundException() {
+        // given
+        final var expectedId = ProductImageID.unique();
+
+        when(productGateway.findByImageId(any()))
+                .thenReturn(Optional.empty());
+
+        // when
+        final var actualException = Assertions.assertThrows(NotFoundException.class,
+                () -> this.useCase.execute(GetProductImageCommand.with("123", expectedId.getValue())));
+
+        // then
+        Assertions.assertEquals("Image with ID %s not found".formatted(expectedId.getValue()), actualException.getErrors().get(0).message());
+    }
+}
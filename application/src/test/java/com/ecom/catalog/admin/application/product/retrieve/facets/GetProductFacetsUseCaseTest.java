@@ -0,0 +1,61 @@
+package com.ecom.catalog.admin.application.product.retrieve.facets;
+
+import com.ecom.catalog.admin.application.product.UseCaseTest;
+import com.ecom.catalog.admin.application.product.retrieve.list.ListProductCommand;
+import com.ecom.catalog.admin.domain.category.CategoryID;
+import com.ecom.catalog.admin.domain.pagination.SearchQuery;
+import com.ecom.catalog.admin.domain.product.ProductFacets;
+import com.ecom.catalog.admin.domain.product.ProductFilter;
+import com.ecom.catalog.admin.domain.product.ProductGateway;
+import com.ecom.catalog.admin.domain.product.ProductStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+class GetProductFacetsUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetProductFacetsUseCase useCase;
+
+    @Mock
+    private ProductGateway productGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(productGateway);
+    }
+
+    @Test
+    public void givenAValidQuery_whenCallsGetProductFacets_shouldReturnFacets() {
+        // given
+        final var aQuery = new SearchQuery(0, 10, "celular", "name", "asc");
+        final var aFilter = ProductFilter.with(null, CategoryID.from("123"), null, false);
+        final var expectedFacets = ProductFacets.with(
+                Map.of("123", 2L),
+                Map.of(ProductStatus.ACTIVE, 1L, ProductStatus.INACTIVE, 1L),
+                Map.of("store-1", 2L)
+        );
+
+        when(productGateway.facets(eq(aQuery), eq(aFilter)))
+                .thenReturn(expectedFacets);
+
+        // when
+        final var actualOutput = useCase.execute(ListProductCommand.with(aQuery, aFilter));
+
+        // then
+        Assertions.assertEquals(expectedFacets.categories(), actualOutput.categories());
+        Assertions.assertEquals(expectedFacets.statuses(), actualOutput.statuses());
+        Assertions.assertEquals(expectedFacets.stores(), actualOutput.stores());
+
+        Mockito.verify(productGateway, times(1)).facets(eq(aQuery), eq(aFilter));
+    }
+}
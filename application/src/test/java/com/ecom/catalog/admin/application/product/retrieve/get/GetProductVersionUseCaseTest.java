@@ -0,0 +1,72 @@
+package com.ecom.catalog.admin.application.product.retrieve.get;
+
+import com.ecom.catalog.admin.application.product.UseCaseTest;
+import com.ecom.catalog.admin.domain.exceptions.NotFoundException;
+import com.ecom.catalog.admin.domain.product.ProductGateway;
+import com.ecom.catalog.admin.domain.product.ProductID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.when;
+
+class GetProductVersionUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetProductVersionUseCase useCase;
+
+    @Mock
+    private ProductGateway productGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(productGateway);
+    }
+
+    @Test
+    public void givenAValidId_whenCallsGetProductVersion_shouldReturnItsLastUpdate() {
+        // given
+        final var expectedId = ProductID.from("123");
+        final var expectedUpdatedAt = Instant.parse("2024-01-01T10:15:30.123456Z");
+
+        when(productGateway.findUpdatedAtById(eq(expectedId)))
+                .thenReturn(Optional.of(expectedUpdatedAt));
+
+        // when
+        final var actualOutput = useCase.execute(expectedId.getValue());
+
+        // then
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
+        Assertions.assertEquals(expectedUpdatedAt, actualOutput.updatedAt());
+
+        Mockito.verify(productGateway, never()).findById(any());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsGetProductVersion_shouldReturnNotFound() {
+        // given
+        final var expectedErrorMessage = "Product with ID 123 was not found";
+        final var expectedId = ProductID.from("123");
+
+        when(productGateway.findUpdatedAtById(eq(expectedId)))
+                .thenReturn(Optional.empty());
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(expectedId.getValue())
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
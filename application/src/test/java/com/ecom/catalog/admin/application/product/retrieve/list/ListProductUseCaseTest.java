@@ -17,6 +17,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -33,9 +34,12 @@ class ListProductUseCaseTest extends UseCaseTest {
     @Mock
     private ProductGateway productGateway;
 
+    @Mock
+    private ProductSearchGateway productSearchGateway;
+
     @Override
     protected List<Object> getMocks() {
-        return List.of(productGateway);
+        return List.of(productGateway, productSearchGateway);
     }
 
     @Test
@@ -63,17 +67,17 @@ class ListProductUseCaseTest extends UseCaseTest {
             expectedPage,
             expectedPerPage,
             expectedTotal,
-            products
+            products.stream().map(ProductPreview::from).toList()
         );
 
-        when(productGateway.findAll(any()))
+        when(productGateway.findAllPreviews(any(), any()))
                 .thenReturn(expectedPagination);
 
         final var aQuery =
                 new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
         // when
-        final var actualOutput = useCase.execute(aQuery);
+        final var actualOutput = useCase.execute(ListProductCommand.with(aQuery));
 
         // then
         Assertions.assertEquals(expectedPage, actualOutput.currentPage());
@@ -81,7 +85,7 @@ class ListProductUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedTotal, actualOutput.total());
         Assertions.assertEquals(expectedItems, actualOutput.items());
 
-        Mockito.verify(productGateway, times(1)).findAll(eq(aQuery));
+        Mockito.verify(productGateway, times(1)).findAllPreviews(eq(aQuery), eq(ProductFilter.empty()));
 
     }
 
@@ -103,17 +107,17 @@ class ListProductUseCaseTest extends UseCaseTest {
                 expectedPage,
                 expectedPerPage,
                 expectedTotal,
-                products
+                products.stream().map(ProductPreview::from).toList()
         );
 
-        when(productGateway.findAll(any()))
+        when(productGateway.findAllPreviews(any(), any()))
                 .thenReturn(expectedPagination);
 
         final var aQuery =
                 new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
         // when
-        final var actualOutput = useCase.execute(aQuery);
+        final var actualOutput = useCase.execute(ListProductCommand.with(aQuery));
 
         // then
         Assertions.assertEquals(expectedPage, actualOutput.currentPage());
@@ -121,7 +125,7 @@ class ListProductUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedTotal, actualOutput.total());
         Assertions.assertEquals(expectedItems, actualOutput.items());
 
-        Mockito.verify(productGateway, times(1)).findAll(eq(aQuery));
+        Mockito.verify(productGateway, times(1)).findAllPreviews(eq(aQuery), eq(ProductFilter.empty()));
 
     }
 
@@ -136,7 +140,7 @@ class ListProductUseCaseTest extends UseCaseTest {
 
         final var expectedErrorMessage = "Gateway error";
 
-        when(productGateway.findAll(any()))
+        when(productGateway.findAllPreviews(any(), any()))
                 .thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var aQuery =
@@ -144,14 +148,77 @@ class ListProductUseCaseTest extends UseCaseTest {
 
         // when
         final var actualOutput = Assertions.assertThrows(
-                IllegalStateException.class, () -> useCase.execute(aQuery)
+                IllegalStateException.class, () -> useCase.execute(ListProductCommand.with(aQuery))
         );
 
         // then
         Assertions.assertEquals(expectedErrorMessage, actualOutput.getMessage());
 
-        Mockito.verify(productGateway, times(1)).findAll(eq(aQuery));
+        Mockito.verify(productGateway, times(1)).findAllPreviews(eq(aQuery), eq(ProductFilter.empty()));
+    }
+
+    @Test
+    public void givenTermsAndAnIndexedSearch_whenCallsListProduct_shouldHydrateOnlyTheMatchedPage() {
+        // given
+        final var expectedStore = Store.with(IdUtils.uuid(), "Minha Loja");
+        final var aCellPhone =
+                Product.newProduct("Celular", "Celular do tipo ABC", ProductStatus.ACTIVE, Money.with(3000.0), 10, CategoryID.from("123"), expectedStore, null);
+        final var aNotebook =
+                Product.newProduct("Notebook", "Notebook do tipo 123", ProductStatus.ACTIVE, Money.with(5000.0), 10, CategoryID.from("456"), expectedStore, null);
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 2;
+        final var expectedTotal = 5;
+        final var expectedItems = List.of(ProductListOutput.from(aNotebook), ProductListOutput.from(aCellPhone));
+
+        final var expectedIds = List.of(aNotebook.getId(), aCellPhone.getId());
+
+        when(productSearchGateway.search(any()))
+                .thenReturn(Optional.of(new Pagination<>(expectedPage, expectedPerPage, expectedTotal, expectedIds)));
+        when(productGateway.findAllPreviewsByIds(any()))
+                .thenReturn(List.of(ProductPreview.from(aCellPhone), ProductPreview.from(aNotebook)));
+
+        final var aQuery =
+                new SearchQuery(expectedPage, expectedPerPage, "tipo", "relevance", "asc");
+
+        // when
+        final var actualOutput = useCase.execute(ListProductCommand.with(aQuery));
+
+        // then
+        Assertions.assertEquals(expectedPage, actualOutput.currentPage());
+        Assertions.assertEquals(expectedPerPage, actualOutput.perPage());
+        Assertions.assertEquals(expectedTotal, actualOutput.total());
+        Assertions.assertTrue(actualOutput.hasNext());
+        Assertions.assertEquals(expectedItems, actualOutput.items());
+
+        Mockito.verify(productGateway, times(1)).findAllPreviewsByIds(eq(expectedIds));
+        Mockito.verify(productGateway, times(0)).findAllPreviews(any(), any());
     }
 
+    @Test
+    public void givenAnIndexedIdMissingFromTheDatabase_whenCallsListProduct_shouldNotCountIt() {
+        // given
+        final var expectedStore = Store.with(IdUtils.uuid(), "Minha Loja");
+        final var aCellPhone =
+                Product.newProduct("Celular", "Celular do tipo ABC", ProductStatus.ACTIVE, Money.with(3000.0), 10, CategoryID.from("123"), expectedStore, null);
+
+        final var expectedTotal = 4;
+        final var expectedItems = List.of(ProductListOutput.from(aCellPhone));
+
+        when(productSearchGateway.search(any()))
+                .thenReturn(Optional.of(new Pagination<>(0, 2, 5, List.of(ProductID.unique(), aCellPhone.getId()))));
+        when(productGateway.findAllPreviewsByIds(any()))
+                .thenReturn(List.of(ProductPreview.from(aCellPhone)));
+
+        final var aQuery =
+                new SearchQuery(0, 2, "tipo", "relevance", "asc");
+
+        // when
+        final var actualOutput = useCase.execute(ListProductCommand.with(aQuery));
+
+        // then
+        Assertions.assertEquals(expectedTotal, actualOutput.total());
+        Assertions.assertEquals(expectedItems, actualOutput.items());
+    }
 
-}
\ No newline at end of file
+}
@@ -47,9 +47,12 @@ class UpdateProductUseCaseTest extends UseCaseTest {
     @Mock
     private ProductImageGateway productImageGateway;
 
+    @Mock
+    private ProductSearchGateway productSearchGateway;
+
     @Override
     protected List<Object> getMocks() {
-        return List.of(productGateway, categoryGateway, storeGateway, productImageGateway);
+        return List.of(productGateway, categoryGateway, storeGateway, productImageGateway, productSearchGateway);
     }
 
     @Test
@@ -105,6 +108,9 @@ class UpdateProductUseCaseTest extends UseCaseTest {
         Mockito.verify(productGateway, times(1)).findById(eq(expectedId));
         Mockito.verify(categoryGateway, times(1)).existsById(eq(expectedCategoryId));
         Mockito.verify(storeGateway, times(1)).existsById(eq(expectedStore.getId()));
+        Mockito.verify(productSearchGateway, times(1)).index(Mockito.argThat(anIndexedProduct ->
+                Objects.equals(expectedId, anIndexedProduct.getId())
+                        && Objects.equals(expectedName, anIndexedProduct.getName())));
         Mockito.verify(productGateway).update(Mockito.argThat(aUpdatedProduct ->
                         Objects.equals(expectedId, aUpdatedProduct.getId())
                         && Objects.equals(expectedName, aUpdatedProduct.getName())
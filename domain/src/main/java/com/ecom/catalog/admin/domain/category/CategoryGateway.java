@@ -3,6 +3,7 @@ package com.ecom.catalog.admin.domain.category;
 import com.ecom.catalog.admin.domain.pagination.Pagination;
 import com.ecom.catalog.admin.domain.pagination.SearchQuery;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,11 @@ public interface CategoryGateway {
 
     Optional<Category> findById(CategoryID anId);
 
+    /**
+     * Version of the category (its last update), without loading the aggregate.
+     */
+    Optional<Instant> findUpdatedAtById(CategoryID anId);
+
     Category update(Category aCategory);
 
     Pagination<Category> findAll(SearchQuery aQuery);
@@ -0,0 +1,27 @@
+package com.ecom.catalog.admin.domain.pagination;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * How {@link Pagination#total()} is computed for a listing.
+ */
+public enum CountMode {
+
+    /** Exact count of the filtered rows. */
+    EXACT,
+    /** No count at all; {@link Pagination#hasNext()} is still reported. */
+    NONE,
+    /** Approximate count taken from table statistics. */
+    ESTIMATED,
+    /** Exact count, reused for a short period for the same search. */
+    CACHED;
+
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public static Optional<CountMode> of(final String label) {
+        return Arrays.stream(CountMode.values())
+                .filter(it -> it.name().equalsIgnoreCase(label))
+                .findFirst();
+    }
+}
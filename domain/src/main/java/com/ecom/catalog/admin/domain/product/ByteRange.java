@@ -0,0 +1,50 @@
+package com.ecom.catalog.admin.domain.product;
+
+/**
+ * A range of bytes of a content whose size is not known yet, with the semantics of an HTTP
+ * {@code Range}: {@code first} and {@code last} are inclusive, a missing {@code last} reads to
+ * the end and a missing {@code first} asks for the last {@code last} bytes.
+ */
+public record ByteRange(Long first, Long last) {
+
+    public ByteRange {
+        if (first == null && (last == null || last < 0)) {
+            throw new IllegalArgumentException("a suffix range needs a length");
+        }
+        if (first != null && (first < 0 || (last != null && last < first))) {
+            throw new IllegalArgumentException("'first' should be positive and not after 'last'");
+        }
+    }
+
+    public static ByteRange all() {
+        return new ByteRange(0L, null);
+    }
+
+    public static ByteRange of(final long first, final Long last) {
+        return new ByteRange(first, last);
+    }
+
+    public static ByteRange suffix(final long length) {
+        return new ByteRange(null, length);
+    }
+
+    public boolean isAll() {
+        return first != null && first == 0 && last == null;
+    }
+
+    public boolean isSatisfiable(final long size) {
+        return first == null ? last > 0 && size > 0 : first < size;
+    }
+
+    public long start(final long size) {
+        return first == null ? Math.max(0, size - last) : first;
+    }
+
+    public long end(final long size) {
+        return first == null || last == null ? size - 1 : Math.min(last, size - 1);
+    }
+
+    public long length(final long size) {
+        return end(size) - start(size) + 1;
+    }
+}
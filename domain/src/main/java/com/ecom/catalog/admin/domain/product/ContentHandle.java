@@ -0,0 +1,51 @@
+package com.ecom.catalog.admin.domain.product;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * The content of an image, opened as a stream when it is needed instead of being held as an
+ * array, e.g. an uploaded file spooled to disk that the storage reads straight from there.
+ */
+public interface ContentHandle {
+
+    long size();
+
+    /**
+     * A new stream over the whole content, to be closed by the caller.
+     */
+    InputStream open();
+
+    default byte[] readAllBytes() {
+        try (final var stream = open()) {
+            return stream.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static ContentHandle of(final byte[] content) {
+        return new InMemory(Objects.requireNonNull(content));
+    }
+
+    record InMemory(byte[] content) implements ContentHandle {
+
+        @Override
+        public long size() {
+            return content.length;
+        }
+
+        @Override
+        public InputStream open() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public byte[] readAllBytes() {
+            return content;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.ecom.catalog.admin.domain.product;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * An open stream over the {@code length} bytes of an image starting at {@code start}, out of
+ * {@code size} bytes in total. The caller owns the stream and has to close it.
+ */
+public record ImageContent(long size, long start, long length, InputStream stream) implements AutoCloseable {
+
+    public static ImageContent with(final long size, final long start, final long length, final InputStream stream) {
+        return new ImageContent(size, start, length, stream);
+    }
+
+    /**
+     * The requested range starts past the end of an image of {@code size} bytes.
+     */
+    public static ImageContent unsatisfiable(final long size) {
+        return new ImageContent(size, -1, 0, InputStream.nullInputStream());
+    }
+
+    public boolean isSatisfiable() {
+        return start >= 0;
+    }
+
+    public boolean isPartial() {
+        return length != size;
+    }
+
+    public ImageContent withStream(final InputStream aStream) {
+        return new ImageContent(size, start, length, aStream);
+    }
+
+    @Override
+    public void close() {
+        try {
+            stream.close();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
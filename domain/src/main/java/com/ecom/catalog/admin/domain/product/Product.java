@@ -235,6 +235,7 @@ public class Product extends AggregateRoot<ProductID> {
 
     public Product updateImages(final Set<ProductImage> images) {
         this.images = new HashSet<>(images != null ? images : Collections.emptySet());
+        this.updatedAt = InstantUtils.now();
         return this;
     }
 
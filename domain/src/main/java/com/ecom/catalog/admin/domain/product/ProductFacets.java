@@ -0,0 +1,18 @@
+package com.ecom.catalog.admin.domain.product;
+
+import java.util.Map;
+
+public record ProductFacets(
+        Map<String, Long> categories,
+        Map<ProductStatus, Long> statuses,
+        Map<String, Long> stores
+) {
+
+    public static ProductFacets with(
+            final Map<String, Long> categories,
+            final Map<ProductStatus, Long> statuses,
+            final Map<String, Long> stores
+    ) {
+        return new ProductFacets(Map.copyOf(categories), Map.copyOf(statuses), Map.copyOf(stores));
+    }
+}
@@ -0,0 +1,39 @@
+package com.ecom.catalog.admin.domain.product;
+
+import com.ecom.catalog.admin.domain.category.CategoryID;
+
+public record ProductFilter(
+        String storeId,
+        CategoryID categoryId,
+        ProductStatus status,
+        boolean inStock
+) {
+
+    public static ProductFilter empty() {
+        return new ProductFilter(null, null, null, false);
+    }
+
+    public static ProductFilter with(
+            final String aStoreId,
+            final CategoryID aCategoryId,
+            final ProductStatus aStatus,
+            final boolean inStock
+    ) {
+        return new ProductFilter(aStoreId, aCategoryId, aStatus, inStock);
+    }
+
+    public boolean isEmpty() {
+        return storeId == null && categoryId == null && status == null && !inStock;
+    }
+
+    /**
+     * The values of the filter, equal for equal filters, to key what is cached per filter.
+     */
+    public String cacheKey() {
+        return "store=%s|category=%s|status=%s|inStock=%s".formatted(
+                storeId,
+                categoryId == null ? null : categoryId.getValue(),
+                status,
+                inStock);
+    }
+}
@@ -3,8 +3,10 @@ package com.ecom.catalog.admin.domain.product;
 import com.ecom.catalog.admin.domain.pagination.Pagination;
 import com.ecom.catalog.admin.domain.pagination.SearchQuery;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ProductGateway {
 
@@ -12,12 +14,33 @@ public interface ProductGateway {
 
     Optional<Product> findById(ProductID anId);
 
+    /**
+     * Version of the product (its last update), without loading the aggregate.
+     */
+    Optional<Instant> findUpdatedAtById(ProductID anId);
+
     Optional<Product> findByImageId(ProductImageID imageId);
 
     Product update(Product aProduct);
 
     Pagination<Product> findAll(SearchQuery aQuery);
 
+    Pagination<Product> findAll(SearchQuery aQuery, ProductFilter aFilter);
+
+    Pagination<ProductPreview> findAllPreviews(SearchQuery aQuery, ProductFilter aFilter);
+
+    List<ProductPreview> findAllPreviewsByIds(Iterable<ProductID> ids);
+
+    /**
+     * Hands every matching product to the consumer, in id order, without holding them in memory.
+     */
+    void forEachPreview(ProductFilter aFilter, Consumer<ProductPreview> aConsumer);
+
+    /**
+     * Number of products per category, status and store among those matching the search terms and the filter.
+     */
+    ProductFacets facets(SearchQuery aQuery, ProductFilter aFilter);
+
     List<ProductID> existsByIds(Iterable<ProductID> ids);
 
 
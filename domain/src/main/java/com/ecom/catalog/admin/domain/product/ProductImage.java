@@ -10,12 +10,12 @@ import java.util.Objects;
 public class ProductImage extends Entity<ProductImageID> {
 
     private final String checksum;
-    private final byte[] content;
+    private final ContentHandle content;
     private final String name;
     private final String location;
     private final boolean featured;
 
-    private ProductImage(final ProductImageID anId, final String aChecksum, final byte[] aContent,  String aName, final String aLocation, final boolean aFeatured) {
+    private ProductImage(final ProductImageID anId, final String aChecksum, final ContentHandle aContent,  String aName, final String aLocation, final boolean aFeatured) {
         super(anId);
         this.checksum = aChecksum;
         this.content = aContent;
@@ -36,6 +36,10 @@ public class ProductImage extends Entity<ProductImageID> {
     }
 
     public static ProductImage with(final String aChecksum, final byte[] aContent, final String aName, final String aLocation, final boolean aFeatured) {
+        return with(aChecksum, contentOf(aContent), aName, aLocation, aFeatured);
+    }
+
+    public static ProductImage with(final String aChecksum, final ContentHandle aContent, final String aName, final String aLocation, final boolean aFeatured) {
         return new ProductImage(ProductImageID.unique(), aChecksum, aContent, aName, aLocation, aFeatured);
     }
 
@@ -48,6 +52,10 @@ public class ProductImage extends Entity<ProductImageID> {
     }
 
     public static ProductImage with(final String aChecksum, final byte[] aContent, final String aName, final boolean aFeatured) {
+        return with(aChecksum, contentOf(aContent), aName, aFeatured);
+    }
+
+    public static ProductImage with(final String aChecksum, final ContentHandle aContent, final String aName, final boolean aFeatured) {
         return new ProductImage(ProductImageID.unique(), aChecksum, aContent, aName, "location", aFeatured);
     }
 
@@ -59,6 +67,14 @@ public class ProductImage extends Entity<ProductImageID> {
         return new ProductImage(aImage.getId(), aImage.getChecksum(), aImage.getContent(), aImage.getName(), aLocation, aImage.isFeatured());
     }
 
+    public static ProductImage with(final ProductImage aImage, final ContentHandle aContent) {
+        return new ProductImage(aImage.getId(), aImage.getChecksum(), aContent, aImage.getName(), aImage.getLocation(), aImage.isFeatured());
+    }
+
+    private static ContentHandle contentOf(final byte[] aContent) {
+        return aContent == null ? null : ContentHandle.of(aContent);
+    }
+
     public void validate(ValidationHandler handler) {
         new ProductImageValidator(this, handler).validate();
     }
@@ -75,7 +91,7 @@ public class ProductImage extends Entity<ProductImageID> {
         return checksum;
     }
 
-    public byte[] getContent() {
+    public ContentHandle getContent() {
         return content;
     }
 
@@ -12,5 +12,12 @@ public interface ProductImageGateway {
 
     Optional<ProductImage> getImage(Store store, ProductID anProductId, ProductImage image);
 
+    Optional<ImageContent> openImage(Store store, ProductID anProductId, ProductImage image, ByteRange range);
+
+    /**
+     * Opens the variant of the image resized to the given width, empty until it is generated.
+     */
+    Optional<ImageContent> openVariant(Store store, ProductID anProductId, ProductImage image, int size, ByteRange range);
+
     void clearImages(Store store, ProductID anId);
 }
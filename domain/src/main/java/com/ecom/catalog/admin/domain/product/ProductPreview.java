@@ -0,0 +1,36 @@
+package com.ecom.catalog.admin.domain.product;
+
+import com.ecom.catalog.admin.domain.category.CategoryID;
+
+import java.time.Instant;
+
+/**
+ * Read model of a listed product: the columns shown in listings, without images and
+ * without going through the aggregate validation.
+ */
+public record ProductPreview(
+        ProductID id,
+        String name,
+        String description,
+        ProductStatus status,
+        Money price,
+        int stock,
+        CategoryID categoryId,
+        Instant createdAt,
+        String storeId
+) {
+
+    public static ProductPreview from(final Product aProduct) {
+        return new ProductPreview(
+                aProduct.getId(),
+                aProduct.getName(),
+                aProduct.getDescription(),
+                aProduct.getStatus(),
+                aProduct.getPrice(),
+                aProduct.getStock(),
+                aProduct.getCategoryId(),
+                aProduct.getCreatedAt(),
+                aProduct.getStore().getId()
+        );
+    }
+}
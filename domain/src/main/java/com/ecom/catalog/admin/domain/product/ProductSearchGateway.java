@@ -0,0 +1,16 @@
+package com.ecom.catalog.admin.domain.product;
+
+import com.ecom.catalog.admin.domain.pagination.Pagination;
+import com.ecom.catalog.admin.domain.pagination.SearchQuery;
+
+import java.util.Optional;
+
+public interface ProductSearchGateway {
+
+    /**
+     * Ids of the requested page, or empty when the query has to be answered by {@link ProductGateway#findAll}.
+     */
+    Optional<Pagination<ProductID>> search(SearchQuery aQuery);
+
+    void index(Product aProduct);
+}
@@ -95,4 +95,20 @@ class ProductImageTest extends UnitTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void givenAnImage_whenCallsWithAContentHandle_shouldKeepItsIdentityAndReadTheNewContent() throws Exception {
+        // given
+        final byte[] expectedContent = {10, 20, 30, 40, 50};
+        final var anImage = ProductImage.with("abc", new byte[]{1}, "Banner.png", "/image/ac", true);
+
+        // when
+        final var actualImage = ProductImage.with(anImage, ContentHandle.of(expectedContent));
+
+        // then
+        Assertions.assertEquals(anImage.getId(), actualImage.getId());
+        Assertions.assertEquals(anImage.getLocation(), actualImage.getLocation());
+        Assertions.assertEquals(expectedContent.length, actualImage.getContent().size());
+        Assertions.assertArrayEquals(expectedContent, actualImage.getContent().open().readAllBytes());
+    }
+
+}
@@ -507,4 +507,25 @@ class ProductTest extends UnitTest {
         Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void givenAValidProduct_whenCallsUpdateImages_shouldReturnProductUpdated() {
+        // given
+        final var expectedStore = Store.with(IdUtils.uuid(), "Minha Loja");
+        final var expectedImages = Set.of(ProductImage.with("456", new byte[]{60,70,80},"image02.jpg", "/image02", true));
+
+        final var aProduct =
+                Product.newProduct("Celular", "Celular do tipo ABC", Money.with(1800.03), 10, CategoryID.from("123"), expectedStore, Set.of(ProductImage.with("123", new byte[]{10,20,30,40,50},"image.jpg", "/image", true)));
+
+        final var createdAt = aProduct.getCreatedAt();
+        final var updatedAt = aProduct.getUpdatedAt();
+
+        // when
+        final var actualProduct = aProduct.updateImages(expectedImages);
+
+        // then
+        Assertions.assertEquals(expectedImages, actualProduct.getImages());
+        Assertions.assertEquals(createdAt, actualProduct.getCreatedAt());
+        Assertions.assertTrue(actualProduct.getUpdatedAt().isAfter(updatedAt));
+    }
+
+}
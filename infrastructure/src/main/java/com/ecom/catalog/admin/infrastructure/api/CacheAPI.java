@@ -0,0 +1,36 @@
+package com.ecom.catalog.admin.infrastructure.api;
+
+import com.ecom.catalog.admin.infrastructure.cache.models.CacheRegionResponse;
+import com.ecom.catalog.admin.infrastructure.cache.models.StorageUploadsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.util.List;
+
+@RequestMapping(value = "caches")
+@Tag(name = "Cache")
+public interface CacheAPI {
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List the cache regions with their hit and miss statistics")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    List<CacheRegionResponse> list();
+
+    @GetMapping(value = "uploads", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Show the statistics of the image uploads to the object storage")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Shown successfully"),
+            @ApiResponse(responseCode = "404", description = "The storage in use does not upload to an object storage"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<StorageUploadsResponse> uploads();
+}
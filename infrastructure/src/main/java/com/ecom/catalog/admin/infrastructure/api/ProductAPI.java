@@ -1,6 +1,5 @@
 package com.ecom.catalog.admin.infrastructure.api;
 
-import com.ecom.catalog.admin.domain.pagination.Pagination;
 import com.ecom.catalog.admin.infrastructure.product.models.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,7 +9,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Set;
 
@@ -37,12 +38,33 @@ public interface ProductAPI {
             @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
-    Pagination<ProductListResponse> list(
+    ProductPageResponse list(
             @RequestParam(name = "search", required = false, defaultValue = "") final String search,
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "count", required = false, defaultValue = "exact") final String count,
+            @RequestParam(name = "store", required = false) final String store,
+            @RequestParam(name = "category", required = false) final String category,
+            @RequestParam(name = "status", required = false) final String status,
+            @RequestParam(name = "inStock", required = false, defaultValue = "false") final boolean inStock,
+            @RequestParam(name = "facets", required = false, defaultValue = "false") final boolean facets
+    );
+
+    @GetMapping(
+            value = "export",
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Stream every product as newline delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "store", required = false) final String store,
+            @RequestParam(name = "category", required = false) final String category
     );
 
     @GetMapping(
@@ -52,10 +74,11 @@ public interface ProductAPI {
     @Operation(summary = "Get a product by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Product retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Product was not modified since the given version"),
             @ApiResponse(responseCode = "404", description = "Product was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
-    ProductResponse getById(@PathVariable(name = "id") String id);
+    ResponseEntity<?> getById(@PathVariable(name = "id") String id, WebRequest request);
 
     @PutMapping(
             value = "{id}",
@@ -74,12 +97,18 @@ public interface ProductAPI {
     @Operation(summary = "Get a image by it's id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Image retrieved successfully"),
+            @ApiResponse(responseCode = "206", description = "The requested range of the image"),
+            @ApiResponse(responseCode = "304", description = "Image was not modified since the given checksum"),
             @ApiResponse(responseCode = "404", description = "Image was not found"),
+            @ApiResponse(responseCode = "416", description = "The requested range starts past the end of the image"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
-    ResponseEntity<byte[]> getImageById(
+    ResponseEntity<StreamingResponseBody> getImageById(
             @PathVariable(name = "id") String id,
-            @PathVariable(name = "idImage") String idImage
+            @PathVariable(name = "idImage") String idImage,
+            @RequestParam(name = "v", required = false) String version,
+            @RequestParam(name = "size", required = false) Integer size,
+            WebRequest request
     ) ;
 
     @PostMapping(value = "{id}/images")
@@ -0,0 +1,94 @@
+package com.ecom.catalog.admin.infrastructure.api.controllers;
+
+import com.ecom.catalog.admin.infrastructure.api.CacheAPI;
+import com.ecom.catalog.admin.infrastructure.cache.ImageContentCache;
+import com.ecom.catalog.admin.infrastructure.cache.ResponseCache;
+import com.ecom.catalog.admin.infrastructure.cache.SingleFlight;
+import com.ecom.catalog.admin.infrastructure.cache.models.CacheRegionResponse;
+import com.ecom.catalog.admin.infrastructure.cache.models.StorageUploadsResponse;
+import com.ecom.catalog.admin.infrastructure.configuration.jpa.GuavaRegionFactory;
+import com.ecom.catalog.admin.infrastructure.services.StorageService;
+import com.ecom.catalog.admin.infrastructure.services.impl.AwsS3Service;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+public class CacheController implements CacheAPI {
+
+    private static final String IMAGE_CONTENT_REGION = "product-image-content";
+
+    private static final String LISTING_RESPONSES_REGION = "listing-responses";
+
+    private static final String PRODUCT_LOADS_REGION = "product-loads";
+
+    private static final String PRODUCT_IMAGE_FILLS_REGION = "product-image-fills";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ImageContentCache imageContentCache;
+    private final ResponseCache responseCache;
+    private final SingleFlight<?, ?> productLoads;
+    private final SingleFlight<?, ?> productImageFills;
+    private final StorageService storageService;
+
+    public CacheController(
+            final EntityManagerFactory entityManagerFactory,
+            final ImageContentCache imageContentCache,
+            final ResponseCache responseCache,
+            @Qualifier("productLoads") final SingleFlight<?, ?> productLoads,
+            @Qualifier("productImageFills") final SingleFlight<?, ?> productImageFills,
+            final StorageService storageService
+    ) {
+        this.entityManagerFactory = Objects.requireNonNull(entityManagerFactory);
+        this.imageContentCache = Objects.requireNonNull(imageContentCache);
+        this.responseCache = Objects.requireNonNull(responseCache);
+        this.productLoads = Objects.requireNonNull(productLoads);
+        this.productImageFills = Objects.requireNonNull(productImageFills);
+        this.storageService = Objects.requireNonNull(storageService);
+    }
+
+    @Override
+    public List<CacheRegionResponse> list() {
+        final var regions = new ArrayList<CacheRegionResponse>();
+        final var regionFactory = this.entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getCache()
+                .getRegionFactory();
+        if (regionFactory instanceof GuavaRegionFactory guavaRegionFactory) {
+            guavaRegionFactory.statistics().forEach((name, stats) ->
+                    regions.add(CacheRegionResponse.from(name, guavaRegionFactory.size(name), stats)));
+        }
+        regions.add(CacheRegionResponse.from(
+                IMAGE_CONTENT_REGION,
+                this.imageContentCache.size(),
+                this.imageContentCache.stats(),
+                this.imageContentCache.bytes()));
+        regions.add(CacheRegionResponse.from(
+                LISTING_RESPONSES_REGION,
+                this.responseCache.size(),
+                this.responseCache.stats()));
+        // hits are the reads that joined a load already in flight
+        regions.add(CacheRegionResponse.from(
+                PRODUCT_LOADS_REGION,
+                this.productLoads.inFlight(),
+                this.productLoads.stats()));
+        regions.add(CacheRegionResponse.from(
+                PRODUCT_IMAGE_FILLS_REGION,
+                this.productImageFills.inFlight(),
+                this.productImageFills.stats()));
+        return regions;
+    }
+
+    @Override
+    public ResponseEntity<StorageUploadsResponse> uploads() {
+        if (this.storageService instanceof AwsS3Service s3) {
+            return ResponseEntity.ok(StorageUploadsResponse.from(s3.stats()));
+        }
+        return ResponseEntity.notFound().build();
+    }
+}
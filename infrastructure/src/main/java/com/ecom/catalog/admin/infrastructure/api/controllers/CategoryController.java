@@ -3,19 +3,25 @@ package com.ecom.catalog.admin.infrastructure.api.controllers;
 import com.ecom.catalog.admin.application.category.create.CreateCategoryCommand;
 import com.ecom.catalog.admin.application.category.create.CreateCategoryUseCase;
 import com.ecom.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.ecom.catalog.admin.application.category.retrieve.get.GetCategoryVersionUseCase;
 import com.ecom.catalog.admin.application.category.retrieve.list.ListCategoryUseCase;
 import com.ecom.catalog.admin.application.category.update.UpdateCategoryCommand;
 import com.ecom.catalog.admin.application.category.update.UpdateCategoryUseCase;
+import com.ecom.catalog.admin.domain.exceptions.DomainException;
+import com.ecom.catalog.admin.domain.pagination.CountMode;
 import com.ecom.catalog.admin.domain.pagination.Pagination;
 import com.ecom.catalog.admin.domain.pagination.SearchQuery;
+import com.ecom.catalog.admin.domain.validation.Error;
 import com.ecom.catalog.admin.infrastructure.api.CategoryAPI;
 import com.ecom.catalog.admin.infrastructure.category.models.CategoryListResponse;
 import com.ecom.catalog.admin.infrastructure.category.models.CategoryResponse;
 import com.ecom.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
 import com.ecom.catalog.admin.infrastructure.category.models.UpdateCategoryRequest;
 import com.ecom.catalog.admin.infrastructure.category.presenters.CategoryApiPresenter;
+import com.ecom.catalog.admin.infrastructure.utils.ETagUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.Objects;
@@ -28,16 +34,20 @@ public class CategoryController implements CategoryAPI {
 
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
 
+    private final GetCategoryVersionUseCase getCategoryVersionUseCase;
+
     private final ListCategoryUseCase listCategoryUseCase;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
+            final GetCategoryVersionUseCase getCategoryVersionUseCase,
             final ListCategoryUseCase listCategoryUseCase) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.getCategoryVersionUseCase = Objects.requireNonNull(getCategoryVersionUseCase);
         this.listCategoryUseCase = Objects.requireNonNull(listCategoryUseCase);
     }
 
@@ -53,14 +63,21 @@ public class CategoryController implements CategoryAPI {
     }
 
     @Override
-    public Pagination<CategoryListResponse> list(final String search, final int page, final int perPage, final String sort, final String direction) {
-        return this.listCategoryUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+    public Pagination<CategoryListResponse> list(final String search, final int page, final int perPage, final String sort, final String direction, final String cursor, final String count) {
+        final var aCountMode = CountMode.of(count)
+                .orElseThrow(() -> DomainException.with(new Error("'count' should be one of exact, none, estimated or cached")));
+        return this.listCategoryUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, cursor, aCountMode))
                 .map(CategoryApiPresenter::present);
     }
 
     @Override
-    public CategoryResponse getById(final String id) {
-        return CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(id));
+    public ResponseEntity<CategoryResponse> getById(final String id, final WebRequest request) {
+        final var aVersion = this.getCategoryVersionUseCase.execute(id);
+        if (request.checkNotModified(ETagUtils.weak(aVersion.id(), aVersion.updatedAt()), aVersion.updatedAt().toEpochMilli())) {
+            // 304 with the validators already set, the aggregate is never loaded
+            return null;
+        }
+        return ResponseEntity.ok(CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(id)));
     }
 
     @Override
@@ -2,65 +2,127 @@ package com.ecom.catalog.admin.infrastructure.api.controllers;
 
 import com.ecom.catalog.admin.application.product.create.CreateProductCommand;
 import com.ecom.catalog.admin.application.product.create.CreateProductUseCase;
+import com.ecom.catalog.admin.application.product.export.ExportProductsCommand;
+import com.ecom.catalog.admin.application.product.export.ExportProductsUseCase;
 import com.ecom.catalog.admin.application.product.image.get.GetProductImageCommand;
 import com.ecom.catalog.admin.application.product.image.get.GetProductImageUseCase;
+import com.ecom.catalog.admin.application.product.image.get.GetProductImageVersionUseCase;
 import com.ecom.catalog.admin.application.product.image.upload.UploadProductImagesCommand;
 import com.ecom.catalog.admin.application.product.image.upload.UploadProductImagesUseCase;
+import com.ecom.catalog.admin.application.product.retrieve.facets.GetProductFacetsUseCase;
 import com.ecom.catalog.admin.application.product.retrieve.get.GetProductByIdUseCase;
+import com.ecom.catalog.admin.application.product.retrieve.get.GetProductVersionUseCase;
+import com.ecom.catalog.admin.application.product.retrieve.list.ListProductCommand;
 import com.ecom.catalog.admin.application.product.retrieve.list.ListProductUseCase;
 import com.ecom.catalog.admin.application.product.update.UpdateProductCommand;
 import com.ecom.catalog.admin.application.product.update.UpdateProductUseCase;
-import com.ecom.catalog.admin.domain.pagination.Pagination;
+import com.ecom.catalog.admin.domain.category.CategoryID;
+import com.ecom.catalog.admin.domain.exceptions.DomainException;
+import com.ecom.catalog.admin.domain.pagination.CountMode;
 import com.ecom.catalog.admin.domain.pagination.SearchQuery;
+import com.ecom.catalog.admin.domain.product.ByteRange;
+import com.ecom.catalog.admin.domain.product.ContentHandle;
+import com.ecom.catalog.admin.domain.product.ProductFilter;
 import com.ecom.catalog.admin.domain.product.ProductImage;
 import com.ecom.catalog.admin.domain.product.ProductStatus;
+import com.ecom.catalog.admin.domain.validation.Error;
 import com.ecom.catalog.admin.infrastructure.api.ProductAPI;
+import com.ecom.catalog.admin.infrastructure.configuration.json.Json;
+import com.ecom.catalog.admin.infrastructure.product.ProductDocumentStore;
 import com.ecom.catalog.admin.infrastructure.product.models.*;
 import com.ecom.catalog.admin.infrastructure.product.presenters.ProductApiPresenter;
+import com.ecom.catalog.admin.infrastructure.utils.ETagUtils;
 import com.ecom.catalog.admin.infrastructure.utils.HashingUtils;
 import com.ecom.catalog.admin.infrastructure.utils.ImageTypeUtils;
 import com.ecom.catalog.admin.infrastructure.utils.MoneyUtils;
+import com.ecom.catalog.admin.infrastructure.utils.RangeUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.springframework.http.HttpHeaders.ACCEPT_RANGES;
+import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
 import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.CONTENT_RANGE;
+import static org.springframework.http.HttpHeaders.IF_RANGE;
+import static org.springframework.http.HttpHeaders.RANGE;
 
 @RestController
 public class ProductController implements ProductAPI {
 
+    private static final ObjectMapper NDJSON = Json.mapper()
+            .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    private static final String NO_CACHE = "no-cache";
+
     private final CreateProductUseCase createProductUseCase;
 
     private final UpdateProductUseCase updateProductUseCase;
 
     private final GetProductByIdUseCase getProductByIdUseCase;
 
+    private final GetProductVersionUseCase getProductVersionUseCase;
+
     private final ListProductUseCase listProductUseCase;
 
     private final GetProductImageUseCase getProductImageUseCase;
 
+    private final GetProductImageVersionUseCase getProductImageVersionUseCase;
+
     private final UploadProductImagesUseCase uploadProductImagesUseCase;
 
+    private final ExportProductsUseCase exportProductsUseCase;
+
+    private final GetProductFacetsUseCase getProductFacetsUseCase;
+
+    private final ProductDocumentStore productDocuments;
+
     public ProductController(
             final CreateProductUseCase createProductUseCase,
             final UpdateProductUseCase updateProductUseCase,
             final GetProductByIdUseCase getProductByIdUseCase,
+            final GetProductVersionUseCase getProductVersionUseCase,
             final ListProductUseCase listProductUseCase,
             final GetProductImageUseCase getProductImageUseCase,
-            final UploadProductImagesUseCase uploadProductImagesUseCase) {
+            final GetProductImageVersionUseCase getProductImageVersionUseCase,
+            final UploadProductImagesUseCase uploadProductImagesUseCase,
+            final ExportProductsUseCase exportProductsUseCase,
+            final GetProductFacetsUseCase getProductFacetsUseCase,
+            final ProductDocumentStore productDocuments) {
         this.createProductUseCase = Objects.requireNonNull(createProductUseCase);
         this.updateProductUseCase = Objects.requireNonNull(updateProductUseCase);
         this.getProductByIdUseCase = Objects.requireNonNull(getProductByIdUseCase);
+        this.getProductVersionUseCase = Objects.requireNonNull(getProductVersionUseCase);
         this.listProductUseCase = Objects.requireNonNull(listProductUseCase);
         this.getProductImageUseCase = Objects.requireNonNull(getProductImageUseCase);
+        this.getProductImageVersionUseCase = Objects.requireNonNull(getProductImageVersionUseCase);
         this.uploadProductImagesUseCase = Objects.requireNonNull(uploadProductImagesUseCase);
+        this.exportProductsUseCase = Objects.requireNonNull(exportProductsUseCase);
+        this.getProductFacetsUseCase = Objects.requireNonNull(getProductFacetsUseCase);
+        this.productDocuments = Objects.requireNonNull(productDocuments);
     }
 
     @Override
@@ -82,19 +144,77 @@ public class ProductController implements ProductAPI {
     }
 
     @Override
-    public Pagination<ProductListResponse> list(
+    public ProductPageResponse list(
         final String search,
         final int page,
         final int perPage,
         final String sort,
-        final String direction) {
-            return this.listProductUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
-                    .map(ProductApiPresenter::present);
+        final String direction,
+        final String cursor,
+        final String count,
+        final String store,
+        final String category,
+        final String status,
+        final boolean inStock,
+        final boolean facets) {
+            final var aQuery = new SearchQuery(page, perPage, search, sort, direction, cursor, countModeOf(count));
+            final var aFilter = ProductFilter.with(
+                    blankToNull(store),
+                    Optional.ofNullable(blankToNull(category)).map(CategoryID::from).orElse(null),
+                    statusOf(status),
+                    inStock
+            );
+            final var aCommand = ListProductCommand.with(aQuery, aFilter);
+            return new ProductPageResponse(
+                    this.listProductUseCase.execute(aCommand).map(ProductApiPresenter::present),
+                    facets ? ProductApiPresenter.present(this.getProductFacetsUseCase.execute(aCommand)) : null
+            );
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final String store, final String category) {
+        final var aFilter = ProductFilter.with(
+                blankToNull(store),
+                Optional.ofNullable(blankToNull(category)).map(CategoryID::from).orElse(null),
+                null,
+                false
+        );
+
+        final StreamingResponseBody body = out -> {
+            // one document per line, flushed by the generator's buffer rather than per product
+            try (final var generator = NDJSON.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                this.exportProductsUseCase.execute(ExportProductsCommand.with(aFilter, product -> {
+                    try {
+                        NDJSON.writeValue(generator, ProductApiPresenter.present(product));
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @Override
-    public ProductResponse getById(final String id) {
-        return ProductApiPresenter.present(this.getProductByIdUseCase.execute(id));
+    public ResponseEntity<?> getById(final String id, final WebRequest request) {
+        final var aVersion = this.getProductVersionUseCase.execute(id);
+        if (request.checkNotModified(ETagUtils.weak(aVersion.id(), aVersion.updatedAt()), aVersion.updatedAt().toEpochMilli())) {
+            // 304 with the validators already set, the aggregate is never loaded
+            return null;
+        }
+        final var aDocument = this.productDocuments.find(id);
+        if (aDocument.isPresent()) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(aDocument.get());
+        }
+        // not rendered yet by the backfill
+        return ResponseEntity.ok(ProductApiPresenter.present(this.getProductByIdUseCase.execute(id)));
     }
 
     @Override
@@ -115,13 +235,79 @@ public class ProductController implements ProductAPI {
     }
 
     @Override
-    public ResponseEntity<byte[]> getImageById(final String id, final String idImage) {
-        final var aImage = this.getProductImageUseCase.execute(GetProductImageCommand.with(id, idImage));
-        return ResponseEntity.ok()
-                .contentType(ImageTypeUtils.getMediaType(aImage.name()))
-                .contentLength(aImage.content().length)
-                .header(CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aImage.name()))
-                .body(aImage.content());
+    public ResponseEntity<StreamingResponseBody> getImageById(final String id, final String idImage, final String version, final Integer size, final WebRequest request) {
+        final var aVersion = this.getProductImageVersionUseCase.execute(GetProductImageCommand.with(id, idImage));
+        final var anOriginalETag = ETagUtils.strong(aVersion.checksum());
+        // a variant is another representation of the image, with a validator of its own
+        final var aRequestedETag = size == null ? anOriginalETag : variantETag(aVersion.checksum(), size);
+
+        final var headers = new HttpHeaders();
+        // only a URL naming the current checksum may be cached forever, any other one is revalidated
+        headers.set(CACHE_CONTROL, aVersion.checksum().equals(version) ? IMMUTABLE : NO_CACHE);
+        headers.set(ACCEPT_RANGES, "bytes");
+        // whether a variant is ready is only known once it is opened
+        if (size == null && request.checkNotModified(anOriginalETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        final var head = request instanceof ServletWebRequest servletRequest && HttpMethod.HEAD == servletRequest.getHttpMethod();
+        final var aImage = this.getProductImageUseCase.execute(GetProductImageCommand.with(id, idImage, size, rangeOf(request, aRequestedETag, head)));
+        final var aContent = aImage.content();
+        final var anETag = aImage.size() == null ? anOriginalETag : aRequestedETag;
+        if (size != null) {
+            if (aImage.size() == null) {
+                // the original stands in until the variant is generated, it must not stay cached under the variant URL
+                headers.set(CACHE_CONTROL, NO_CACHE);
+            }
+            if (request.checkNotModified(anETag)) {
+                aContent.close();
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+            }
+        }
+        headers.setETag(anETag);
+        headers.setContentType(ImageTypeUtils.getMediaType(aImage.name()));
+        headers.set(CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aImage.name()));
+
+        if (head) {
+            // at most the first byte was opened, to learn the size
+            aContent.close();
+            headers.setContentLength(aContent.size());
+            return ResponseEntity.ok().headers(headers).build();
+        }
+        if (!aContent.isSatisfiable()) {
+            aContent.close();
+            headers.set(CONTENT_RANGE, "bytes */%d".formatted(aContent.size()));
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(headers).build();
+        }
+
+        headers.setContentLength(aContent.length());
+        final var status = aContent.isPartial() ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK;
+        if (aContent.isPartial()) {
+            headers.set(CONTENT_RANGE, "bytes %d-%d/%d".formatted(aContent.start(), aContent.start() + aContent.length() - 1, aContent.size()));
+        }
+        // copied through a fixed buffer straight to the socket, the image is never held in memory
+        final StreamingResponseBody body = out -> {
+            try (aContent) {
+                aContent.stream().transferTo(out);
+            }
+        };
+        return ResponseEntity.status(status).headers(headers).body(body);
+    }
+
+    private static String variantETag(final String aChecksum, final int aSize) {
+        return ETagUtils.strong("%s-%d".formatted(aChecksum, aSize));
+    }
+
+    private static ByteRange rangeOf(final WebRequest request, final String anETag, final boolean head) {
+        if (head) {
+            return ByteRange.of(0, 0L);
+        }
+        final var ifRange = request.getHeader(IF_RANGE);
+        // a range of another version of the image would be spliced into the wrong bytes
+        if (ifRange != null && !ifRange.equals(anETag)) {
+            return ByteRange.all();
+        }
+        return RangeUtils.parse(request.getHeader(RANGE)).orElse(ByteRange.all());
     }
 
     @Override
@@ -132,7 +318,24 @@ public class ProductController implements ProductAPI {
         final var output = this.uploadProductImagesUseCase.execute(aCommand);
 
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ProductApiPresenter.present(output, "/products/%s/images/%s"));
+                .body(ProductApiPresenter.present(output));
+    }
+
+    private static CountMode countModeOf(final String count) {
+        return CountMode.of(count)
+                .orElseThrow(() -> DomainException.with(new Error("'count' should be one of exact, none, estimated or cached")));
+    }
+
+    private static ProductStatus statusOf(final String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        return ProductStatus.of(status)
+                .orElseThrow(() -> DomainException.with(new Error("'status' should be one of active or inactive")));
+    }
+
+    private static String blankToNull(final String value) {
+        return value == null || value.isBlank() ? null : value;
     }
 
     private Set<ProductImage> imagesOf(final MultipartFile[] images, final int imageMarkedAsFeatured) {
@@ -153,10 +356,10 @@ public class ProductController implements ProductAPI {
     }
 
     private ProductImage imageOf(final MultipartFile img, final boolean isFeatured) {
-        try {
+        try (final var content = img.getInputStream()) {
             return ProductImage.with(
-                    HashingUtils.checksum(img.getBytes()),
-                    img.getBytes(),
+                    HashingUtils.checksum(content),
+                    new MultipartContent(img),
                     img.getOriginalFilename(),
                     isFeatured
             );
@@ -164,4 +367,24 @@ public class ProductController implements ProductAPI {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * The part as the container spooled it, read again by the storage instead of being copied into memory.
+     */
+    private record MultipartContent(MultipartFile file) implements ContentHandle {
+
+        @Override
+        public long size() {
+            return file.getSize();
+        }
+
+        @Override
+        public InputStream open() {
+            try {
+                return file.getInputStream();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
 }
@@ -0,0 +1,37 @@
+package com.ecom.catalog.admin.infrastructure.cache;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counter bumped by every catalog write, so anything derived from the catalog can be tagged with
+ * the version it was computed at and dropped once that is no longer the current one.
+ * <p>
+ * Inside a transaction the bump happens after commit: a reader tagging its result with the old
+ * version may have seen the old rows, but never one with the new version.
+ */
+@Component
+public class CatalogVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return this.version.get();
+    }
+
+    public void bump() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.version.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                version.incrementAndGet();
+            }
+        });
+    }
+}
@@ -0,0 +1,107 @@
+package com.ecom.catalog.admin.infrastructure.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Answers "does this id exist" for small reference tables (categories, stores) without a round
+ * trip in the common cases:
+ * <ul>
+ *     <li>ids seen to exist are kept in a bounded cache with a TTL;</li>
+ *     <li>every id of the table is kept in a Bloom filter, so an id it has never seen is known
+ *     not to exist.</li>
+ * </ul>
+ * Anything else (a Bloom false positive or a removed id) falls back to the lookup.
+ * <p>
+ * The filter is loaded on first use and reloaded when a negative is asked for after
+ * {@code rebuildAfter}, which also drops removed ids from it. Ids created by another instance
+ * are therefore reported missing for at most that long.
+ */
+public class ExistenceCache {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final Supplier<Collection<String>> allIds;
+
+    private final long expectedInsertions;
+
+    private final long rebuildAfterNanos;
+
+    private final Cache<String, Boolean> positives;
+
+    private volatile BloomFilter<CharSequence> known;
+
+    private volatile long builtAt;
+
+    public ExistenceCache(
+            final Supplier<Collection<String>> allIds,
+            final long maximumSize,
+            final Duration expireAfterWrite,
+            final long expectedInsertions,
+            final Duration rebuildAfter
+    ) {
+        this.allIds = Objects.requireNonNull(allIds);
+        this.expectedInsertions = expectedInsertions;
+        this.rebuildAfterNanos = rebuildAfter.toNanos();
+        this.positives = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    public boolean exists(final String anId, final Predicate<String> lookup) {
+        if (this.positives.getIfPresent(anId) != null) {
+            return true;
+        }
+        if (!knownFilter().mightContain(anId) && !refreshed().mightContain(anId)) {
+            return false;
+        }
+        final var exists = lookup.test(anId);
+        if (exists) {
+            this.positives.put(anId, Boolean.TRUE);
+        }
+        return exists;
+    }
+
+    public synchronized void added(final String anId) {
+        knownFilter().put(anId);
+        this.positives.put(anId, Boolean.TRUE);
+    }
+
+    public void removed(final String anId) {
+        // a Bloom filter can't forget, the id stays a false positive until the next rebuild
+        this.positives.invalidate(anId);
+    }
+
+    private BloomFilter<CharSequence> knownFilter() {
+        final var current = this.known;
+        return current != null ? current : refreshed();
+    }
+
+    // synchronized with added(), so an id created while the table is being read is not lost
+    private synchronized BloomFilter<CharSequence> refreshed() {
+        final var current = this.known;
+        if (current != null && System.nanoTime() - this.builtAt < this.rebuildAfterNanos) {
+            return current;
+        }
+        final var ids = this.allIds.get();
+        final var filter = BloomFilter.create(
+                Funnels.stringFunnel(StandardCharsets.UTF_8),
+                Math.max(this.expectedInsertions, ids.size()),
+                FALSE_POSITIVE_RATE
+        );
+        ids.forEach(filter::put);
+        this.builtAt = System.nanoTime();
+        this.known = filter;
+        return filter;
+    }
+}
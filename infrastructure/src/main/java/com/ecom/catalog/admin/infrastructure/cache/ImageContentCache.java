@@ -0,0 +1,175 @@
+package com.ecom.catalog.admin.infrastructure.cache;
+
+import com.ecom.catalog.admin.infrastructure.utils.HashingUtils;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hasher;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Byte-budgeted cache of image content kept off the heap.
+ * <p>
+ * Every entry is copied into a direct buffer, so a warm cache of a few hundred megabytes does
+ * not sit in the old generation; only the copy handed out on a hit is a (short lived) heap
+ * array. Entries are weighed by their size in bytes and evicted least recently used once the
+ * budget is reached; content larger than {@code maximumEntryBytes} is never cached so a single
+ * huge file cannot flush everything else.
+ * <p>
+ * Callers are expected to put the content checksum in the key: a file replaced under the same
+ * name then simply misses instead of serving the old bytes.
+ * <p>
+ * Streamed content is served with {@link #view(String)} and cached with
+ * {@link #filling(String, String, long, InputStream)}, neither of them copies it onto the heap.
+ */
+public class ImageContentCache {
+
+    private final long maximumEntryBytes;
+
+    private final AtomicLong bytes = new AtomicLong();
+
+    private final Cache<String, ByteBuffer> contents;
+
+    public ImageContentCache(final long maximumBytes, final long maximumEntryBytes) {
+        this.maximumEntryBytes = Math.min(maximumEntryBytes, maximumBytes);
+        this.contents = CacheBuilder.newBuilder()
+                .maximumWeight(maximumBytes)
+                .<String, ByteBuffer>weigher((key, content) -> content.capacity())
+                .removalListener(it -> this.bytes.addAndGet(-it.getValue().capacity()))
+                .recordStats()
+                .build();
+    }
+
+    public Optional<byte[]> get(final String aKey) {
+        final var cached = this.contents.getIfPresent(aKey);
+        if (cached == null) {
+            return Optional.empty();
+        }
+        final var content = new byte[cached.capacity()];
+        cached.duplicate().get(content);
+        return Optional.of(content);
+    }
+
+    /**
+     * A read-only view of the cached content, positioned at its start.
+     */
+    public Optional<ByteBuffer> view(final String aKey) {
+        return Optional.ofNullable(this.contents.getIfPresent(aKey)).map(ByteBuffer::duplicate);
+    }
+
+    public void put(final String aKey, final byte[] content) {
+        if (content == null || content.length > this.maximumEntryBytes) {
+            return;
+        }
+        put(aKey, ByteBuffer.allocateDirect(content.length).put(content).flip());
+    }
+
+    /**
+     * Wraps a stream of {@code size} bytes so the content is cached once it has been read to the
+     * end and matches {@code checksum}. Too large content is not even copied.
+     */
+    public InputStream filling(final String aKey, final String checksum, final long size, final InputStream aStream) {
+        if (!fits(size)) {
+            return aStream;
+        }
+        return new FillingInputStream(aKey, checksum, (int) size, aStream);
+    }
+
+    public boolean fits(final long size) {
+        return size <= this.maximumEntryBytes;
+    }
+
+    private void put(final String aKey, final ByteBuffer buffer) {
+        this.bytes.addAndGet(buffer.capacity());
+        this.contents.put(aKey, buffer.asReadOnlyBuffer());
+    }
+
+    public void evictAll(final String aPrefix) {
+        this.contents.asMap().keySet().removeIf(key -> key.startsWith(aPrefix));
+    }
+
+    public CacheStats stats() {
+        return this.contents.stats();
+    }
+
+    public long size() {
+        return this.contents.size();
+    }
+
+    public long bytes() {
+        return this.bytes.get();
+    }
+
+    private class FillingInputStream extends FilterInputStream {
+
+        private final String key;
+
+        private final String checksum;
+
+        private final Hasher hasher = HashingUtils.checksumHasher();
+
+        private ByteBuffer buffer;
+
+        private FillingInputStream(final String key, final String checksum, final int size, final InputStream aStream) {
+            super(aStream);
+            this.key = key;
+            this.checksum = checksum;
+            this.buffer = ByteBuffer.allocateDirect(size);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var b = super.read();
+            if (b < 0) {
+                completed();
+            } else {
+                copy(new byte[]{(byte) b}, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final var read = super.read(b, off, len);
+            if (read < 0) {
+                completed();
+            } else {
+                copy(b, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            // skipped bytes never make it into the copy
+            this.buffer = null;
+            return super.skip(n);
+        }
+
+        private void copy(final byte[] b, final int off, final int len) {
+            if (this.buffer == null) {
+                return;
+            }
+            if (len > this.buffer.remaining()) {
+                this.buffer = null;
+                return;
+            }
+            this.buffer.put(b, off, len);
+            this.hasher.putBytes(b, off, len);
+        }
+
+        private void completed() {
+            final var content = this.buffer;
+            this.buffer = null;
+            if (content != null && !content.hasRemaining() && this.checksum.equals(this.hasher.hash().toString())) {
+                put(this.key, content.flip());
+            }
+        }
+    }
+}
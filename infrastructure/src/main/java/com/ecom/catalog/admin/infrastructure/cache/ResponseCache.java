@@ -0,0 +1,63 @@
+package com.ecom.catalog.admin.infrastructure.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Serialized response bodies by request key and the {@link CatalogVersion} they were rendered
+ * at. Once the version moves on, the old bodies are never looked up again and age out of the
+ * byte budget. A version that missed a write (e.g. a change of another node not polled yet) is
+ * bounded by the TTL.
+ */
+public class ResponseCache {
+
+    private final CatalogVersion catalogVersion;
+
+    private final Cache<String, CachedResponse> responses;
+
+    public ResponseCache(final CatalogVersion catalogVersion, final long maximumBytes, final Duration expireAfterWrite) {
+        this.catalogVersion = Objects.requireNonNull(catalogVersion);
+        this.responses = CacheBuilder.newBuilder()
+                .maximumWeight(maximumBytes)
+                .<String, CachedResponse>weigher((key, response) -> key.length() + response.body().length)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public long currentVersion() {
+        return this.catalogVersion.current();
+    }
+
+    public Optional<CachedResponse> get(final String aKey) {
+        return Optional.ofNullable(this.responses.getIfPresent(versioned(aKey, currentVersion())));
+    }
+
+    public void put(final String aKey, final long aVersion, final String aContentType, final byte[] aBody) {
+        // rendered before a write that committed meanwhile, it would never be looked up
+        if (aVersion != currentVersion()) {
+            return;
+        }
+        this.responses.put(versioned(aKey, aVersion), new CachedResponse(aContentType, aBody));
+    }
+
+    public CacheStats stats() {
+        return this.responses.stats();
+    }
+
+    public long size() {
+        return this.responses.size();
+    }
+
+    private static String versioned(final String aKey, final long aVersion) {
+        return aVersion + ":" + aKey;
+    }
+
+    public record CachedResponse(String contentType, byte[] body) {
+    }
+}
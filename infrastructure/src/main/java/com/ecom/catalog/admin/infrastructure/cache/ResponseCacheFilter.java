@@ -0,0 +1,112 @@
+package com.ecom.catalog.admin.infrastructure.cache;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Serves the first pages of the listing endpoints from a {@link ResponseCache}, without reaching
+ * the controller: no use case, no query and no serialization on a hit.
+ * <p>
+ * Only requests without search terms and up to {@code maximumPage} are cached. The key is the
+ * path plus the query parameters in a canonical order, leaving out blank ones and the ones equal
+ * to the listing defaults, so {@code /products} and {@code /products?page=0&sort=name} share it.
+ */
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String SEARCH = "search";
+
+    private static final String PAGE = "page";
+
+    private static final Map<String, String> DEFAULTS = Map.of(
+            PAGE, "0",
+            "perPage", "10",
+            "sort", "name",
+            "dir", "asc",
+            "count", "exact",
+            "inStock", "false",
+            "facets", "false"
+    );
+
+    private final ResponseCache responseCache;
+
+    private final int maximumPage;
+
+    public ResponseCacheFilter(final ResponseCache responseCache, final int maximumPage) {
+        this.responseCache = Objects.requireNonNull(responseCache);
+        this.maximumPage = maximumPage;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        final var search = request.getParameter(SEARCH);
+        if (search != null && !search.isBlank()) {
+            return true;
+        }
+        final var page = request.getParameter(PAGE);
+        if (page == null || page.isBlank()) {
+            return false;
+        }
+        try {
+            return Integer.parseInt(page.trim()) > this.maximumPage;
+        } catch (final NumberFormatException e) {
+            return true;
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        final var aKey = keyOf(request);
+        final var cached = this.responseCache.get(aKey);
+        if (cached.isPresent()) {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(cached.get().contentType());
+            response.setContentLength(cached.get().body().length);
+            response.getOutputStream().write(cached.get().body());
+            return;
+        }
+
+        // read before rendering: a write committing meanwhile makes this body unreachable
+        final var aVersion = this.responseCache.currentVersion();
+        final var wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() == HttpStatus.OK.value() && wrapper.getContentType() != null) {
+                this.responseCache.put(aKey, aVersion, wrapper.getContentType(), wrapper.getContentAsByteArray());
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    static String keyOf(final HttpServletRequest request) {
+        final var params = new TreeMap<String, String>();
+        request.getParameterMap().forEach((name, values) -> {
+            final var value = String.join(",", values).trim();
+            if (!value.isEmpty() && !value.equals(DEFAULTS.get(name))) {
+                params.put(name, value);
+            }
+        });
+        return request.getRequestURI() + params.entrySet().stream()
+                .map(it -> it.getKey() + "=" + it.getValue())
+                .collect(Collectors.joining("&", "?", ""));
+    }
+}
@@ -0,0 +1,72 @@
+package com.ecom.catalog.admin.infrastructure.cache;
+
+import com.google.common.cache.CacheStats;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the load on its own thread,
+ * the ones arriving while it is in flight wait for and share its result (or its exception).
+ * Nothing is kept once the load completes, caching the result is up to the caller.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder loads = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    public V load(final K aKey, final Supplier<V> aLoader) {
+        Objects.requireNonNull(aKey);
+        final var mine = new CompletableFuture<V>();
+        final var running = this.inFlight.putIfAbsent(aKey, mine);
+        if (running != null) {
+            this.coalesced.increment();
+            return await(running);
+        }
+
+        this.loads.increment();
+        try {
+            final var value = aLoader.get();
+            mine.complete(value);
+            return value;
+        } catch (final RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.inFlight.remove(aKey, mine);
+        }
+    }
+
+    public long inFlight() {
+        return this.inFlight.size();
+    }
+
+    /**
+     * Coalesced callers are reported as hits and the loads actually run as misses.
+     */
+    public CacheStats stats() {
+        return new CacheStats(this.coalesced.sum(), this.loads.sum(), 0, 0, 0, 0);
+    }
+
+    private static <V> V await(final CompletableFuture<V> aFuture) {
+        try {
+            return aFuture.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ecom.catalog.admin.infrastructure.cache.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.cache.CacheStats;
+
+public record CacheRegionResponse(
+        @JsonProperty("region") String region,
+        @JsonProperty("size") long size,
+        @JsonProperty("hits") long hits,
+        @JsonProperty("misses") long misses,
+        @JsonProperty("hit_rate") double hitRate,
+        @JsonProperty("evictions") long evictions,
+        @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("bytes") Long bytes
+) {
+
+    public static CacheRegionResponse from(final String aRegion, final long aSize, final CacheStats stats) {
+        return from(aRegion, aSize, stats, null);
+    }
+
+    public static CacheRegionResponse from(final String aRegion, final long aSize, final CacheStats stats, final Long bytes) {
+        return new CacheRegionResponse(
+                aRegion,
+                aSize,
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                bytes
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package com.ecom.catalog.admin.infrastructure.cache.models;
+
+import com.ecom.catalog.admin.infrastructure.services.impl.AwsS3Service;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.concurrent.TimeUnit;
+
+public record StorageUploadsResponse(
+        @JsonProperty("uploads") long uploads,
+        @JsonProperty("multipart_uploads") long multipartUploads,
+        @JsonProperty("failures") long failures,
+        @JsonProperty("bytes") long bytes,
+        @JsonProperty("average_millis") long averageMillis,
+        @JsonProperty("max_millis") long maxMillis
+) {
+
+    public static StorageUploadsResponse from(final AwsS3Service.UploadStats stats) {
+        return new StorageUploadsResponse(
+                stats.uploads(),
+                stats.multipartUploads(),
+                stats.failures(),
+                stats.bytes(),
+                TimeUnit.NANOSECONDS.toMillis(stats.averageNanos()),
+                TimeUnit.NANOSECONDS.toMillis(stats.maxNanos())
+        );
+    }
+}
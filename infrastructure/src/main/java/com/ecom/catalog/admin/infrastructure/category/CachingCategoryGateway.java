@@ -0,0 +1,72 @@
+package com.ecom.catalog.admin.infrastructure.category;
+
+import com.ecom.catalog.admin.domain.category.Category;
+import com.ecom.catalog.admin.domain.category.CategoryGateway;
+import com.ecom.catalog.admin.domain.category.CategoryID;
+import com.ecom.catalog.admin.domain.pagination.Pagination;
+import com.ecom.catalog.admin.domain.pagination.SearchQuery;
+import com.ecom.catalog.admin.infrastructure.cache.ExistenceCache;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Answers {@link #existsById(CategoryID)} from an {@link ExistenceCache} shared by every
+ * gateway wrapping the same table, kept current by the creations and deletions going through it.
+ */
+public class CachingCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+
+    private final ExistenceCache existence;
+
+    public CachingCategoryGateway(final CategoryGateway delegate, final ExistenceCache existence) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.existence = Objects.requireNonNull(existence);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final var aCreated = this.delegate.create(aCategory);
+        this.existence.added(aCreated.getId().getValue());
+        return aCreated;
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        this.existence.removed(anId.getValue());
+        this.delegate.deleteById(anId);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return this.delegate.findById(anId);
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(final CategoryID anId) {
+        return this.delegate.findUpdatedAtById(anId);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return this.delegate.update(aCategory);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final Iterable<CategoryID> ids) {
+        return this.delegate.existsByIds(ids);
+    }
+
+    @Override
+    public boolean existsById(final CategoryID anId) {
+        return this.existence.exists(anId.getValue(), id -> this.delegate.existsById(CategoryID.from(id)));
+    }
+}
@@ -6,38 +6,57 @@ import com.ecom.catalog.admin.domain.category.CategoryID;
 import com.ecom.catalog.admin.domain.pagination.Pagination;
 import com.ecom.catalog.admin.domain.pagination.SearchQuery;
 import com.ecom.catalog.admin.domain.product.ProductID;
+import com.ecom.catalog.admin.infrastructure.changes.CatalogChange;
+import com.ecom.catalog.admin.infrastructure.changes.CatalogChangeLog;
 import com.ecom.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
 import com.ecom.catalog.admin.infrastructure.category.persistence.CategoryRepository;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import com.ecom.catalog.admin.infrastructure.pagination.SpecificationPager;
+import com.ecom.catalog.admin.infrastructure.utils.DatabaseUtils;
+import com.ecom.catalog.admin.infrastructure.utils.SqlUtils;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
 
 import static com.ecom.catalog.admin.infrastructure.utils.SpecificationUtils.like;
+import static com.ecom.catalog.admin.infrastructure.utils.SpecificationUtils.match;
 
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
 
     private final CategoryRepository repository;
 
-    public CategoryMySQLGateway(CategoryRepository repository) {
+    private final EntityManager entityManager;
+
+    private final SpecificationPager<CategoryJpaEntity> pager;
+
+    private final CatalogChangeLog changeLog;
+
+    public CategoryMySQLGateway(CategoryRepository repository, EntityManager entityManager, CatalogChangeLog changeLog) {
         this.repository = repository;
+        this.entityManager = entityManager;
+        this.changeLog = changeLog;
+        this.pager = new SpecificationPager<>(entityManager, CategoryJpaEntity.class);
     }
 
     @Override
+    @Transactional
     public Category create(final Category aCategory) {
         return save(aCategory);
     }
 
     @Override
+    @Transactional
     public void deleteById(final CategoryID anId) {
         final String anIdValue = anId.getValue();
         if(this.repository.existsById(anIdValue)) {
             this.repository.deleteById(anIdValue);
+            this.changeLog.removed(CatalogChange.Type.CATEGORY, anIdValue);
         }
     }
 
@@ -48,34 +67,28 @@ public class CategoryMySQLGateway implements CategoryGateway {
     }
 
     @Override
+    public Optional<Instant> findUpdatedAtById(final CategoryID anId) {
+        return this.repository.findUpdatedAtById(anId.getValue());
+    }
+
+    @Override
+    @Transactional
     public Category update(Category aCategory) {
         return save(aCategory);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Pagination<Category> findAll(SearchQuery aQuery) {
-        // Pagination
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
-
         // Dynamic Search by the terms(name or description)
         final var specifications = Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
+                .map(terms -> assembleSpecification(terms, SpecificationPager.RELEVANCE.equalsIgnoreCase(aQuery.sort())))
                 .orElse(null);
 
-
-        final var pageResult = this.repository.findAll(Specification.where(specifications), page);
-
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList()
-        );
+        // Offset or keyset pagination, depending on the cursor
+        return this.pager.findAll(specifications, aQuery)
+                .map(CategoryJpaEntity::toAggregate);
     }
 
     @Override
@@ -90,14 +103,24 @@ public class CategoryMySQLGateway implements CategoryGateway {
 
     @Override
     public boolean existsById(CategoryID categoryID) {
-        return this.repository.existsById(categoryID.getValue());
+        // by id instead of a count query, so it is answered by the second-level cache
+        return this.repository.findById(categoryID.getValue()).isPresent();
     }
 
     private Category save(final Category aCategory) {
-        return this.repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+        final var saved = this.repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+        this.changeLog.saved(CatalogChange.Type.CATEGORY, saved.getId().getValue());
+        return saved;
     }
 
-    private Specification<CategoryJpaEntity> assembleSpecification(final String str) {
+    private Specification<CategoryJpaEntity> assembleSpecification(final String str, final boolean byRelevance) {
+        // FULLTEXT index on (name, description) on MySQL, LIKE on H2
+        final var fullText = SqlUtils.fullText(str)
+                .filter(query -> DatabaseUtils.isMySQL(this.entityManager));
+        if (fullText.isPresent()) {
+            return match("name", "description", fullText.get(), byRelevance);
+        }
+
         final Specification<CategoryJpaEntity> nameLike = like("name", str);
         final Specification<CategoryJpaEntity> descriptionLike = like("description", str);
         return nameLike.or(descriptionLike);
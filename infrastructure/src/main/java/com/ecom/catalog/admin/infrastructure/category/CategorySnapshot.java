@@ -0,0 +1,173 @@
+package com.ecom.catalog.admin.infrastructure.category;
+
+import com.ecom.catalog.admin.domain.category.Category;
+import com.ecom.catalog.admin.domain.category.CategoryID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Every category kept in memory, as an immutable map replaced on each change (copy-on-write):
+ * readers never lock and always see a consistent table.
+ * <p>
+ * Loaded when the application is ready, then polled for rows whose {@code updated_at} is not
+ * older than the newest one seen. Deleted rows do not show up in that query, so a different row
+ * count triggers a full reload instead. Writes of this instance are applied right away through
+ * {@link #applied(Category)} and {@link #removed(CategoryID)}; writes of other instances are
+ * applied by id through {@link #changed(CategoryID, boolean)} as the change log reports them, the
+ * poll only catches up with what it missed.
+ */
+public class CategorySnapshot implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CategorySnapshot.class);
+
+    private final Supplier<List<Category>> all;
+
+    private final Function<CategoryID, Optional<Category>> byId;
+
+    private final Function<Instant, List<Category>> changedSince;
+
+    private final LongSupplier count;
+
+    private final Duration pollInterval;
+
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final var thread = new Thread(runnable, "category-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Map<String, Category> categories;
+
+    private volatile Instant watermark = Instant.EPOCH;
+
+    public CategorySnapshot(
+            final Supplier<List<Category>> all,
+            final Function<CategoryID, Optional<Category>> byId,
+            final Function<Instant, List<Category>> changedSince,
+            final LongSupplier count,
+            final Duration pollInterval
+    ) {
+        this.all = Objects.requireNonNull(all);
+        this.byId = Objects.requireNonNull(byId);
+        this.changedSince = Objects.requireNonNull(changedSince);
+        this.count = Objects.requireNonNull(count);
+        this.pollInterval = Objects.requireNonNull(pollInterval);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        final var millis = this.pollInterval.toMillis();
+        this.poller.scheduleWithFixedDelay(this::poll, 0, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Applies a category another node wrote or deleted. The row is read again by id, so neither
+     * the clock of the writer nor the row count matter.
+     */
+    public void changed(final CategoryID anId, final boolean removed) {
+        if (removed) {
+            removed(anId);
+            return;
+        }
+        this.byId.apply(anId).ifPresentOrElse(this::applied, () -> removed(anId));
+    }
+
+    public boolean isReady() {
+        return this.categories != null;
+    }
+
+    public Optional<Category> find(final CategoryID anId) {
+        return Optional.ofNullable(this.categories)
+                .map(it -> it.get(anId.getValue()));
+    }
+
+    /**
+     * The categories as of now, shared and immutable: callers copy what they hand out.
+     */
+    public Collection<Category> all() {
+        final var current = this.categories;
+        return current == null ? List.of() : current.values();
+    }
+
+    public synchronized void applied(final Category aCategory) {
+        if (this.categories == null) {
+            return;
+        }
+        final var next = new HashMap<>(this.categories);
+        next.put(aCategory.getId().getValue(), Category.with(aCategory));
+        this.categories = Map.copyOf(next);
+    }
+
+    public synchronized void removed(final CategoryID anId) {
+        if (this.categories == null) {
+            return;
+        }
+        final var next = new HashMap<>(this.categories);
+        next.remove(anId.getValue());
+        this.categories = Map.copyOf(next);
+    }
+
+    synchronized void refresh() {
+        if (this.categories == null || this.count.getAsLong() != this.categories.size()) {
+            reload();
+            return;
+        }
+        // >= so rows sharing the newest timestamp are not missed, applying them again is harmless
+        final var changed = this.changedSince.apply(this.watermark);
+        if (changed.isEmpty()) {
+            return;
+        }
+        final var next = new HashMap<>(this.categories);
+        changed.forEach(it -> next.put(it.getId().getValue(), it));
+        this.categories = Map.copyOf(next);
+        this.watermark = newest(changed, this.watermark);
+    }
+
+    @Override
+    public void close() {
+        this.poller.shutdownNow();
+    }
+
+    private void reload() {
+        final var start = System.currentTimeMillis();
+        final var loaded = this.all.get();
+        final var next = new HashMap<String, Category>(loaded.size());
+        loaded.forEach(it -> next.put(it.getId().getValue(), it));
+        this.categories = Map.copyOf(next);
+        this.watermark = newest(loaded, Instant.EPOCH);
+        log.info("Category snapshot loaded with {} categories in {} ms", next.size(), System.currentTimeMillis() - start);
+    }
+
+    private void poll() {
+        try {
+            refresh();
+        } catch (final RuntimeException e) {
+            // keeps serving the last snapshot, or the database while there is none
+            log.warn("Category snapshot refresh failed", e);
+        }
+    }
+
+    private static Instant newest(final Collection<Category> categories, final Instant from) {
+        return categories.stream()
+                .map(Category::getUpdatedAt)
+                .filter(Objects::nonNull)
+                .reduce(from, (a, b) -> a.isAfter(b) ? a : b);
+    }
+}
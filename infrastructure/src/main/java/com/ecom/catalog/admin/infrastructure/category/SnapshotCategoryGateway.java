@@ -0,0 +1,213 @@
+package com.ecom.catalog.admin.infrastructure.category;
+
+import com.ecom.catalog.admin.domain.category.Category;
+import com.ecom.catalog.admin.domain.category.CategoryGateway;
+import com.ecom.catalog.admin.domain.category.CategoryID;
+import com.ecom.catalog.admin.domain.pagination.Pagination;
+import com.ecom.catalog.admin.domain.pagination.SearchQuery;
+import com.ecom.catalog.admin.infrastructure.pagination.KeysetCursor;
+import com.ecom.catalog.admin.infrastructure.pagination.SpecificationPager;
+import com.ecom.catalog.admin.infrastructure.utils.SpecificationUtils;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.StreamSupport;
+
+/**
+ * Serves the reads of another {@link CategoryGateway} from a {@link CategorySnapshot}, and
+ * applies the writes going through it to the snapshot once they are done.
+ * <p>
+ * Until the snapshot is loaded everything goes to the delegate, and so do sorts the snapshot does
+ * not know. Pages served from memory emit the same {@link KeysetCursor} the delegate does and
+ * resume from it with the order they were sorted in, NULLs first as on the database; a cursor
+ * only meets the database collation when the snapshot is not loaded.
+ * <p>
+ * On MySQL term searches go to the delegate, so they match its FULLTEXT index. Elsewhere terms
+ * match case-insensitively anywhere in the name or description, as the LIKE search does; sorting
+ * by relevance puts name matches first.
+ */
+public class SnapshotCategoryGateway implements CategoryGateway {
+
+    private static final Map<String, SortColumn> SORTS = Map.of(
+            "name", new SortColumn(Category::getName, String.class),
+            "description", new SortColumn(Category::getDescription, String.class),
+            "createdAt", new SortColumn(Category::getCreatedAt, Instant.class),
+            "updatedAt", new SortColumn(Category::getUpdatedAt, Instant.class)
+    );
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Comparator<Object> VALUES = Comparator.nullsFirst((a, b) -> ((Comparable) a).compareTo(b));
+
+    private final CategoryGateway delegate;
+
+    private final CategorySnapshot snapshot;
+
+    private final boolean fullText;
+
+    public SnapshotCategoryGateway(final CategoryGateway delegate, final CategorySnapshot snapshot, final boolean fullText) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.snapshot = Objects.requireNonNull(snapshot);
+        this.fullText = fullText;
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final var created = this.delegate.create(aCategory);
+        this.snapshot.applied(created);
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        this.delegate.deleteById(anId);
+        this.snapshot.removed(anId);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        if (!this.snapshot.isReady()) {
+            return this.delegate.findById(anId);
+        }
+        return this.snapshot.find(anId).map(Category::with);
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(final CategoryID anId) {
+        if (!this.snapshot.isReady()) {
+            return this.delegate.findUpdatedAtById(anId);
+        }
+        return this.snapshot.find(anId).map(Category::getUpdatedAt);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        final var updated = this.delegate.update(aCategory);
+        this.snapshot.applied(updated);
+        return updated;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery aQuery) {
+        final var byRelevance = SpecificationPager.RELEVANCE.equalsIgnoreCase(aQuery.sort());
+        final var terms = Optional.ofNullable(aQuery.terms())
+                .filter(it -> !it.isBlank())
+                .map(it -> it.toLowerCase(Locale.ROOT));
+        if (!this.snapshot.isReady()
+                || (this.fullText && terms.isPresent())
+                || (byRelevance && aQuery.hasCursor())
+                || !(byRelevance || SORTS.containsKey(aQuery.sort()))) {
+            return this.delegate.findAll(aQuery);
+        }
+
+        final var ascending = !"desc".equalsIgnoreCase(aQuery.direction());
+        final var direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+        final var matches = this.snapshot.all().stream()
+                .filter(terms.map(SnapshotCategoryGateway::matching).orElse(it -> true))
+                .sorted(comparatorOf(aQuery.sort(), byRelevance, terms.orElse(null), ascending))
+                .toList();
+
+        final var after = aQuery.hasCursor()
+                ? matches.stream().filter(seek(aQuery, direction)).toList()
+                : matches;
+        final var offset = aQuery.hasCursor() ? 0 : (long) aQuery.page() * aQuery.perPage();
+        final var items = after.stream()
+                .skip(offset)
+                .limit(aQuery.perPage())
+                .map(Category::with)
+                .toList();
+        final var hasNext = offset + items.size() < after.size();
+
+        return new Pagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                matches.size(),
+                items,
+                hasNext && !byRelevance ? cursorOf(items.get(items.size() - 1), aQuery.sort(), direction) : null,
+                hasNext
+        );
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final Iterable<CategoryID> ids) {
+        if (!this.snapshot.isReady()) {
+            return this.delegate.existsByIds(ids);
+        }
+        return StreamSupport.stream(ids.spliterator(), false)
+                .filter(anId -> this.snapshot.find(anId).isPresent())
+                .toList();
+    }
+
+    @Override
+    public boolean existsById(final CategoryID anId) {
+        if (!this.snapshot.isReady()) {
+            return this.delegate.existsById(anId);
+        }
+        return this.snapshot.find(anId).isPresent();
+    }
+
+    private static Predicate<Category> matching(final String terms) {
+        return it -> contains(it.getName(), terms) || contains(it.getDescription(), terms);
+    }
+
+    private static boolean contains(final String value, final String terms) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(terms);
+    }
+
+    private static Predicate<Category> seek(final SearchQuery aQuery, final Sort.Direction direction) {
+        final var cursor = KeysetCursor.decode(aQuery.cursor(), aQuery.sort(), direction.name());
+        final var column = SORTS.get(aQuery.sort());
+        final var value = cursor.value() == null ? null : SpecificationUtils.fromSortValue(cursor.value(), column.type());
+        return it -> {
+            final var order = compare(column.value().apply(it), it.getId().getValue(), value, cursor.id());
+            return direction.isAscending() ? order > 0 : order < 0;
+        };
+    }
+
+    private static String cursorOf(final Category aCategory, final String sort, final Sort.Direction direction) {
+        final var value = SORTS.get(sort).value().apply(aCategory);
+        return new KeysetCursor(
+                sort,
+                direction.name(),
+                aCategory.getId().getValue(),
+                value == null ? null : SpecificationUtils.toSortValue(value)
+        ).encode();
+    }
+
+    private static Comparator<Category> comparatorOf(
+            final String sort,
+            final boolean byRelevance,
+            final String terms,
+            final boolean ascending
+    ) {
+        final Comparator<Category> byId = Comparator.comparing(it -> it.getId().getValue());
+        if (byRelevance) {
+            final Comparator<Category> nameFirst = Comparator.comparing(it -> terms == null || !contains(it.getName(), terms));
+            return nameFirst.thenComparing(ascending ? byId : byId.reversed());
+        }
+        final var property = SORTS.get(sort).value();
+        final Comparator<Category> order = (a, b) ->
+                compare(property.apply(a), a.getId().getValue(), property.apply(b), b.getId().getValue());
+        return ascending ? order : order.reversed();
+    }
+
+    private static int compare(final Object aValue, final String anId, final Object otherValue, final String otherId) {
+        final var byValue = VALUES.compare(sortable(aValue), sortable(otherValue));
+        return byValue != 0 ? byValue : anId.compareTo(otherId);
+    }
+
+    private static Object sortable(final Object value) {
+        return value instanceof String text ? text.toLowerCase(Locale.ROOT) : value;
+    }
+
+    private record SortColumn(Function<Category, Object> value, Class<?> type) {
+    }
+}
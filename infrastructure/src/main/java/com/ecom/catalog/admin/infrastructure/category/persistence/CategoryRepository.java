@@ -5,14 +5,35 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_RETRIEVE_MODE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
 
 public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
 
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
 
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query(value = "select c.id from Category c where c.id in :ids")
     List<String> existsById(@Param("ids") List<String> ids);
+
+    @Query(value = "select c.updatedAt from Category c where c.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
+    // read from the database even when the second-level cache has the row, it may be another node's write
+    @QueryHints(@QueryHint(name = JPA_SHARED_CACHE_RETRIEVE_MODE, value = "BYPASS"))
+    @Query(value = "select c from Category c where c.id = :id")
+    Optional<CategoryJpaEntity> findUncachedById(@Param("id") String id);
+
+    @Query(value = "select c.id from Category c")
+    List<String> findAllIds();
+
+    List<CategoryJpaEntity> findAllByUpdatedAtGreaterThanEqual(Instant since);
 }
@@ -0,0 +1,21 @@
+package com.ecom.catalog.admin.infrastructure.changes;
+
+import java.time.Instant;
+
+/**
+ * One row of the catalog change log: which aggregate was written, and whether it is gone.
+ */
+public record CatalogChange(
+        long id,
+        Type type,
+        String entityId,
+        boolean removed,
+        Instant changedAt
+) {
+
+    public enum Type {
+        PRODUCT,
+        CATEGORY,
+        STORE
+    }
+}
@@ -0,0 +1,7 @@
+package com.ecom.catalog.admin.infrastructure.changes;
+
+@FunctionalInterface
+public interface CatalogChangeListener {
+
+    void onChange(CatalogChange aChange);
+}
@@ -0,0 +1,51 @@
+package com.ecom.catalog.admin.infrastructure.changes;
+
+import com.ecom.catalog.admin.infrastructure.cache.CatalogVersion;
+import com.ecom.catalog.admin.infrastructure.changes.persistence.CatalogChangeJpaEntity;
+import com.ecom.catalog.admin.infrastructure.changes.persistence.CatalogChangeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Appends catalog writes to the {@code catalog_changes} table. Called by the gateways inside the
+ * transaction of the write itself, so a change is logged if and only if it is committed.
+ * <p>
+ * Only while {@code cache.product-catalog.change-log.enabled}: the {@link CatalogChangePoller}
+ * is the only reader and the one compacting the table, without it the rows would pile up.
+ */
+@Component
+public class CatalogChangeLog {
+
+    private final CatalogChangeRepository repository;
+
+    private final CatalogVersion catalogVersion;
+
+    private final boolean enabled;
+
+    public CatalogChangeLog(
+            final CatalogChangeRepository repository,
+            final CatalogVersion catalogVersion,
+            @Value("${cache.product-catalog.change-log.enabled:false}") final boolean enabled
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.catalogVersion = Objects.requireNonNull(catalogVersion);
+        this.enabled = enabled;
+    }
+
+    public void saved(final CatalogChange.Type aType, final String anId) {
+        append(aType, anId, false);
+    }
+
+    public void removed(final CatalogChange.Type aType, final String anId) {
+        append(aType, anId, true);
+    }
+
+    private void append(final CatalogChange.Type aType, final String anId, final boolean removed) {
+        if (this.enabled) {
+            this.repository.save(CatalogChangeJpaEntity.of(aType, anId, removed));
+        }
+        this.catalogVersion.bump();
+    }
+}
@@ -0,0 +1,169 @@
+package com.ecom.catalog.admin.infrastructure.changes;
+
+import com.ecom.catalog.admin.infrastructure.changes.persistence.CatalogChangeJpaEntity;
+import com.ecom.catalog.admin.infrastructure.changes.persistence.CatalogChangeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tails {@code catalog_changes} by id and hands every change to the registered listeners, which
+ * drop whatever they cached about it. This is how the local caches of one node learn about the
+ * writes of the others, with the database as the only shared piece.
+ * <p>
+ * Ids are assigned on insert but become visible on commit, so a lower id may show up after a
+ * higher one. The poller keeps a watermark below which every id was handled and remembers the
+ * ids above it it has already seen; each hole in the sequence is waited for up to
+ * {@code gapTimeout} (a rolled back insert never fills it) before moving past it.
+ * <p>
+ * Rows older than {@code retention} are deleted every {@code compactInterval}; every node does
+ * it, and deleting an already deleted range is a no-op.
+ */
+public class CatalogChangePoller implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogChangePoller.class);
+
+    private final CatalogChangeRepository repository;
+
+    private final Duration pollInterval;
+
+    private final Duration gapTimeout;
+
+    private final Duration retention;
+
+    private final Duration compactInterval;
+
+    private final int batchSize;
+
+    private final Clock clock;
+
+    private final List<CatalogChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final Set<Long> handled = new HashSet<>();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final var thread = new Thread(runnable, "catalog-changes");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private long watermark = -1;
+
+    private Instant stuckSince;
+
+    public CatalogChangePoller(
+            final CatalogChangeRepository repository,
+            final Duration pollInterval,
+            final Duration gapTimeout,
+            final Duration retention,
+            final Duration compactInterval,
+            final int batchSize,
+            final Clock clock
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.pollInterval = Objects.requireNonNull(pollInterval);
+        this.gapTimeout = Objects.requireNonNull(gapTimeout);
+        this.retention = Objects.requireNonNull(retention);
+        this.compactInterval = Objects.requireNonNull(compactInterval);
+        this.batchSize = batchSize;
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    public void register(final CatalogChangeListener aListener) {
+        this.listeners.add(Objects.requireNonNull(aListener));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        this.scheduler.scheduleWithFixedDelay(() -> guarded("poll", this::poll), 0, this.pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        this.scheduler.scheduleWithFixedDelay(() -> guarded("compaction", this::compact), this.compactInterval.toMillis(), this.compactInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    synchronized void poll() {
+        if (this.watermark < 0) {
+            // what happened before this node started is already in the database it reads from
+            this.watermark = this.repository.findMaxId().orElse(0L);
+            return;
+        }
+
+        final var changes = this.repository.findAllAfter(this.watermark, PageRequest.of(0, this.batchSize));
+        for (final var aChange : changes) {
+            if (this.handled.add(aChange.getId())) {
+                dispatch(aChange);
+            }
+        }
+        advance();
+    }
+
+    synchronized long watermark() {
+        return this.watermark;
+    }
+
+    void compact() {
+        final var removed = this.repository.deleteAllChangedBefore(this.clock.instant().minus(this.retention));
+        if (removed > 0) {
+            log.debug("Compacted {} catalog changes", removed);
+        }
+    }
+
+    @Override
+    public void close() {
+        this.scheduler.shutdownNow();
+    }
+
+    private void dispatch(final CatalogChangeJpaEntity anEntity) {
+        final var aChange = anEntity.toChange();
+        for (final var aListener : this.listeners) {
+            try {
+                aListener.onChange(aChange);
+            } catch (final RuntimeException e) {
+                log.warn("Catalog change listener failed for {}", aChange, e);
+            }
+        }
+    }
+
+    private void advance() {
+        while (!this.handled.isEmpty()) {
+            final var next = this.watermark + 1;
+            if (this.handled.remove(next)) {
+                this.watermark = next;
+                this.stuckSince = null;
+                continue;
+            }
+            final var now = this.clock.instant();
+            if (this.stuckSince == null) {
+                this.stuckSince = now;
+                return;
+            }
+            if (Duration.between(this.stuckSince, now).compareTo(this.gapTimeout) < 0) {
+                return;
+            }
+            // never committed: skip it, the hole after it may still be an open transaction and gets its own wait
+            this.watermark = next;
+            this.stuckSince = null;
+        }
+        this.stuckSince = null;
+    }
+
+    private void guarded(final String aTask, final Runnable aRunnable) {
+        try {
+            aRunnable.run();
+        } catch (final RuntimeException e) {
+            log.warn("Catalog change {} failed", aTask, e);
+        }
+    }
+}
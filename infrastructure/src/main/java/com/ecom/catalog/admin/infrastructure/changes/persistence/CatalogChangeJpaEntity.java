@@ -0,0 +1,79 @@
+package com.ecom.catalog.admin.infrastructure.changes.persistence;
+
+import com.ecom.catalog.admin.infrastructure.changes.CatalogChange;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+
+@Entity(name = "CatalogChange")
+@Table(name = "catalog_changes")
+public class CatalogChangeJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false)
+    private CatalogChange.Type entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private String entityId;
+
+    @Column(name = "removed", nullable = false)
+    private boolean removed;
+
+    @Column(name = "changed_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant changedAt;
+
+    public CatalogChangeJpaEntity() {
+    }
+
+    private CatalogChangeJpaEntity(
+            final CatalogChange.Type entityType,
+            final String entityId,
+            final boolean removed,
+            final Instant changedAt
+    ) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.removed = removed;
+        this.changedAt = changedAt;
+    }
+
+    public static CatalogChangeJpaEntity of(final CatalogChange.Type aType, final String anEntityId, final boolean removed) {
+        return new CatalogChangeJpaEntity(aType, anEntityId, removed, Instant.now());
+    }
+
+    public CatalogChange toChange() {
+        return new CatalogChange(getId(), getEntityType(), getEntityId(), isRemoved(), getChangedAt());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public CatalogChange.Type getEntityType() {
+        return entityType;
+    }
+
+    public String getEntityId() {
+        return entityId;
+    }
+
+    public boolean isRemoved() {
+        return removed;
+    }
+
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+}
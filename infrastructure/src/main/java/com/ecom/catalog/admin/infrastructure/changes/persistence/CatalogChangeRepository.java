@@ -0,0 +1,26 @@
+package com.ecom.catalog.admin.infrastructure.changes.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface CatalogChangeRepository extends JpaRepository<CatalogChangeJpaEntity, Long> {
+
+    @Query(value = "select c from CatalogChange c where c.id > :after order by c.id")
+    List<CatalogChangeJpaEntity> findAllAfter(@Param("after") long after, Pageable page);
+
+    @Query(value = "select max(c.id) from CatalogChange c")
+    Optional<Long> findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from CatalogChange c where c.changedAt < :before")
+    int deleteAllChangedBefore(@Param("before") Instant before);
+}
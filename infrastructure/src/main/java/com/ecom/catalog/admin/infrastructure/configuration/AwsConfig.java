@@ -12,6 +12,8 @@ import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 
+import java.net.URI;
+
 @Configuration
 //@Profile({"!development & !test-integration & !test-e2e"})
 public class AwsConfig {
@@ -29,13 +31,16 @@ public class AwsConfig {
     }
 
     @Bean
-    public S3Client s3Client(final AwsProperties props) {
-        return S3Client.builder()
+    public S3Client s3Client(final AwsProperties props, final AwsS3Properties s3Props) {
+        final var builder = S3Client.builder()
                 .credentialsProvider(staticCredentialsProvider(props.getAccessKey(), props.getSecretKey()))
-                //.endpointOverride(URI.create(LOCAL_STACK_ENDPOINT))
                 .region(region(props.getRegion()))
-                .forcePathStyle(true)
-                .build();
+                .forcePathStyle(true);
+        // e.g. a local S3 compatible stand-in
+        if (s3Props.getEndpoint() != null && !s3Props.getEndpoint().isBlank()) {
+            builder.endpointOverride(URI.create(s3Props.getEndpoint()));
+        }
+        return builder.build();
     }
 
     private StaticCredentialsProvider staticCredentialsProvider(final String accessKey, final String secretKey) {
@@ -0,0 +1,205 @@
+package com.ecom.catalog.admin.infrastructure.configuration;
+
+import com.ecom.catalog.admin.domain.Identifier;
+import com.ecom.catalog.admin.domain.category.CategoryID;
+import com.ecom.catalog.admin.domain.product.Product;
+import com.ecom.catalog.admin.domain.product.ProductID;
+import com.ecom.catalog.admin.infrastructure.cache.CatalogVersion;
+import com.ecom.catalog.admin.infrastructure.cache.ExistenceCache;
+import com.ecom.catalog.admin.infrastructure.cache.ImageContentCache;
+import com.ecom.catalog.admin.infrastructure.cache.ResponseCache;
+import com.ecom.catalog.admin.infrastructure.cache.ResponseCacheFilter;
+import com.ecom.catalog.admin.infrastructure.cache.SingleFlight;
+import com.ecom.catalog.admin.infrastructure.category.CategorySnapshot;
+import com.ecom.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
+import com.ecom.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import com.ecom.catalog.admin.infrastructure.changes.CatalogChange;
+import com.ecom.catalog.admin.infrastructure.changes.CatalogChangePoller;
+import com.ecom.catalog.admin.infrastructure.changes.persistence.CatalogChangeRepository;
+import com.ecom.catalog.admin.infrastructure.configuration.properties.cache.ChangeLogProperties;
+import com.ecom.catalog.admin.infrastructure.configuration.properties.cache.CategorySnapshotProperties;
+import com.ecom.catalog.admin.infrastructure.configuration.properties.cache.ExistenceCacheProperties;
+import com.ecom.catalog.admin.infrastructure.configuration.properties.cache.ImageCacheProperties;
+import com.ecom.catalog.admin.infrastructure.configuration.properties.cache.ProductCacheProperties;
+import com.ecom.catalog.admin.infrastructure.configuration.properties.cache.ResponseCacheProperties;
+import com.ecom.catalog.admin.infrastructure.product.persistence.StoreJpaEntity;
+import com.ecom.catalog.admin.infrastructure.product.persistence.StoreRepository;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "cache.product-catalog.products")
+    public ProductCacheProperties productCacheProperties() {
+        return new ProductCacheProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "cache.product-catalog.existence")
+    public ExistenceCacheProperties existenceCacheProperties() {
+        return new ExistenceCacheProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "cache.product-catalog.images")
+    public ImageCacheProperties imageCacheProperties() {
+        return new ImageCacheProperties();
+    }
+
+    @Bean
+    public ImageContentCache imageContentCache(final ImageCacheProperties properties) {
+        return new ImageContentCache(properties.getMaximumSize().toBytes(), properties.getMaximumEntrySize().toBytes());
+    }
+
+    @Bean
+    public SingleFlight<Identifier, Optional<Product>> productLoads() {
+        return new SingleFlight<>();
+    }
+
+    @Bean
+    public SingleFlight<String, Boolean> productImageFills() {
+        return new SingleFlight<>();
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "cache.product-catalog.responses")
+    public ResponseCacheProperties responseCacheProperties() {
+        return new ResponseCacheProperties();
+    }
+
+    @Bean
+    public ResponseCache responseCache(final CatalogVersion catalogVersion, final ResponseCacheProperties properties) {
+        return new ResponseCache(catalogVersion, properties.getMaximumSize().toBytes(), properties.getExpireAfterWrite());
+    }
+
+    @Bean
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(
+            final ResponseCache responseCache,
+            final ResponseCacheProperties properties
+    ) {
+        final var registration = new FilterRegistrationBean<>(new ResponseCacheFilter(responseCache, properties.getMaximumPage()));
+        registration.addUrlPatterns("/products", "/categories");
+        registration.setEnabled(properties.isEnabled());
+        return registration;
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "cache.product-catalog.category-snapshot")
+    public CategorySnapshotProperties categorySnapshotProperties() {
+        return new CategorySnapshotProperties();
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(value = "cache.product-catalog.category-snapshot.enabled", havingValue = "true")
+    public CategorySnapshot categorySnapshot(final CategoryRepository categoryRepository, final CategorySnapshotProperties properties) {
+        return new CategorySnapshot(
+                () -> categoryRepository.findAll().stream().map(CategoryJpaEntity::toAggregate).toList(),
+                anId -> categoryRepository.findUncachedById(anId.getValue()).map(CategoryJpaEntity::toAggregate),
+                since -> categoryRepository.findAllByUpdatedAtGreaterThanEqual(since).stream().map(CategoryJpaEntity::toAggregate).toList(),
+                categoryRepository::count,
+                properties.getPollInterval()
+        );
+    }
+
+    @Bean
+    @ConfigurationProperties(value = "cache.product-catalog.change-log")
+    public ChangeLogProperties changeLogProperties() {
+        return new ChangeLogProperties();
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(value = "cache.product-catalog.change-log.enabled", havingValue = "true")
+    public CatalogChangePoller catalogChangePoller(
+            final CatalogChangeRepository catalogChangeRepository,
+            final ChangeLogProperties properties,
+            final CatalogVersion catalogVersion,
+            @Qualifier("categoryExistenceCache") final ExistenceCache categoryExistenceCache,
+            @Qualifier("storeExistenceCache") final ExistenceCache storeExistenceCache,
+            final ObjectProvider<CategorySnapshot> categorySnapshot,
+            final EntityManagerFactory entityManagerFactory
+    ) {
+        final var poller = new CatalogChangePoller(
+                catalogChangeRepository,
+                properties.getPollInterval(),
+                properties.getGapTimeout(),
+                properties.getRetention(),
+                properties.getCompactInterval(),
+                properties.getBatchSize(),
+                Clock.systemUTC()
+        );
+        // the second-level cache only sees the writes of this node, evicted first so the listeners below read the new row
+        poller.register(aChange -> {
+            final Class<?> anEntity = switch (aChange.type()) {
+                case CATEGORY -> CategoryJpaEntity.class;
+                case STORE -> StoreJpaEntity.class;
+                case PRODUCT -> null;
+            };
+            if (anEntity == null) {
+                return;
+            }
+            final var cache = entityManagerFactory.getCache();
+            cache.evict(anEntity, aChange.entityId());
+            cache.unwrap(Cache.class).evictQueryRegions();
+        });
+        // cached listing bodies depend on every aggregate
+        poller.register(aChange -> catalogVersion.bump());
+        poller.register(aChange -> {
+            final var cache = switch (aChange.type()) {
+                case CATEGORY -> categoryExistenceCache;
+                case STORE -> storeExistenceCache;
+                case PRODUCT -> null;
+            };
+            if (cache == null) {
+                return;
+            }
+            if (aChange.removed()) {
+                cache.removed(aChange.entityId());
+            } else {
+                cache.added(aChange.entityId());
+            }
+        });
+        categorySnapshot.ifAvailable(aSnapshot -> poller.register(aChange -> {
+            if (aChange.type() == CatalogChange.Type.CATEGORY) {
+                aSnapshot.changed(CategoryID.from(aChange.entityId()), aChange.removed());
+            }
+        }));
+        return poller;
+    }
+
+    @Bean
+    public ExistenceCache categoryExistenceCache(final CategoryRepository categoryRepository, final ExistenceCacheProperties properties) {
+        return existenceCache(categoryRepository::findAllIds, properties);
+    }
+
+    @Bean
+    public ExistenceCache storeExistenceCache(final StoreRepository storeRepository, final ExistenceCacheProperties properties) {
+        return existenceCache(storeRepository::findAllIds, properties);
+    }
+
+    private static ExistenceCache existenceCache(
+            final Supplier<Collection<String>> allIds,
+            final ExistenceCacheProperties properties
+    ) {
+        return new ExistenceCache(
+                allIds,
+                properties.getMaximumSize(),
+                properties.getExpireAfterWrite(),
+                properties.getExpectedInsertions(),
+                properties.getRebuildAfter()
+        );
+    }
+}
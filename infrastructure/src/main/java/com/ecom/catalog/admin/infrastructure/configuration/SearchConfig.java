@@ -0,0 +1,48 @@
+package com.ecom.catalog.admin.infrastructure.configuration;
+
+import com.ecom.catalog.admin.domain.product.ProductID;
+import com.ecom.catalog.admin.domain.product.ProductSearchGateway;
+import com.ecom.catalog.admin.infrastructure.changes.CatalogChange;
+import com.ecom.catalog.admin.infrastructure.changes.CatalogChangePoller;
+import com.ecom.catalog.admin.infrastructure.configuration.properties.search.SearchProperties;
+import com.ecom.catalog.admin.infrastructure.product.persistence.ProductRepository;
+import com.ecom.catalog.admin.infrastructure.product.search.InMemoryProductSearchGateway;
+import com.ecom.catalog.admin.infrastructure.product.search.NoopProductSearchGateway;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SearchConfig {
+
+    @Bean
+    @ConfigurationProperties(value = "search.product-catalog")
+    public SearchProperties searchProperties() {
+        return new SearchProperties();
+    }
+
+    @Bean(name = "productSearchGateway")
+    @ConditionalOnProperty(value = "search.product-catalog.in-memory-index", havingValue = "true")
+    public ProductSearchGateway inMemoryProductSearchGateway(
+            final ProductRepository productRepository,
+            final ObjectProvider<CatalogChangePoller> catalogChangePoller
+    ) {
+        final var searchGateway = new InMemoryProductSearchGateway(productRepository);
+        // products written by the other nodes
+        catalogChangePoller.ifAvailable(poller -> poller.register(aChange -> {
+            if (aChange.type() == CatalogChange.Type.PRODUCT) {
+                searchGateway.refresh(ProductID.from(aChange.entityId()));
+            }
+        }));
+        return searchGateway;
+    }
+
+    @Bean(name = "productSearchGateway")
+    @ConditionalOnMissingBean
+    public ProductSearchGateway noopProductSearchGateway() {
+        return new NoopProductSearchGateway();
+    }
+}
@@ -1,17 +1,23 @@
 package com.ecom.catalog.admin.infrastructure.configuration;
 
 import com.ecom.catalog.admin.infrastructure.configuration.properties.aws.AwsS3Properties;
+import com.ecom.catalog.admin.infrastructure.configuration.properties.storage.ImageVariantProperties;
 import com.ecom.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
+import com.ecom.catalog.admin.infrastructure.product.ImageVariantPipeline;
 import com.ecom.catalog.admin.infrastructure.services.StorageService;
 import com.ecom.catalog.admin.infrastructure.services.impl.AwsS3Service;
+import com.ecom.catalog.admin.infrastructure.services.local.FileSystemStorageService;
 import com.ecom.catalog.admin.infrastructure.services.local.InMemoryStorageService;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import software.amazon.awssdk.services.s3.S3Client;
 
+import java.nio.file.Path;
+
 @Configuration
 public class StorageConfig {
 
@@ -21,19 +27,50 @@ public class StorageConfig {
         return new StorageProperties();
     }
 
+    @Bean
+    @ConfigurationProperties(value = "storage.product-catalog.variants")
+    public ImageVariantProperties imageVariantProperties() {
+        return new ImageVariantProperties();
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(value = "storage.product-catalog.variants.enabled", havingValue = "true")
+    public ImageVariantPipeline imageVariantPipeline(final StorageService storageService, final ImageVariantProperties properties) {
+        return new ImageVariantPipeline(
+                storageService,
+                properties.getSizes(),
+                properties.getMaxPixels(),
+                properties.getWorkers(),
+                properties.getQueueCapacity()
+        );
+    }
+
     @Bean( name = "storageService")
     @Profile({"development", "test-integration", "test-e2e"})
     public StorageService localStorageAPI() {
         return new InMemoryStorageService();
     }
 
+    @Bean( name = "storageService")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "storage.product-catalog.provider", havingValue = "filesystem")
+    public StorageService fileSystemStorageAPI(final StorageProperties props) {
+        return new FileSystemStorageService(Path.of(props.getRoot()));
+    }
+
     @Bean( name = "storageService")
     @ConditionalOnMissingBean
     public StorageService awsStorageAPI(
             final AwsS3Properties props,
             final S3Client client
     ) {
-        return new AwsS3Service(props.getBucket(), client);
+        return new AwsS3Service(
+                props.getBucket(),
+                client,
+                props.getMaxConcurrentUploads(),
+                props.getMultipartThreshold(),
+                props.getPartSize()
+        );
     }
 
 }
@@ -0,0 +1,151 @@
+package com.ecom.catalog.admin.infrastructure.configuration.jpa;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Second-level cache regions backed by bounded Guava caches that expire entries after
+ * {@link #EXPIRE_AFTER_WRITE}. Referenced by {@code hibernate.cache.region.factory_class}
+ * in application.yml.
+ * <p>
+ * The update timestamps region is never bounded nor expired: losing a timestamp would let
+ * the query cache serve results older than the last write to a table.
+ */
+public class GuavaRegionFactory extends RegionFactoryTemplate {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String EXPIRE_AFTER_WRITE = "hibernate.cache.guava.expire_after_write";
+
+    public static final String MAXIMUM_SIZE = "hibernate.cache.guava.maximum_size";
+
+    private static final Duration DEFAULT_EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final Map<String, Cache<Object, Object>> regions = new ConcurrentHashMap<>();
+
+    private Duration expireAfterWrite = DEFAULT_EXPIRE_AFTER_WRITE;
+
+    private long maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+    /**
+     * Hit, miss and eviction counters per region name.
+     */
+    public Map<String, CacheStats> statistics() {
+        final var statistics = new TreeMap<String, CacheStats>();
+        this.regions.forEach((name, cache) -> statistics.put(name, cache.stats()));
+        return statistics;
+    }
+
+    public long size(final String regionName) {
+        final var cache = this.regions.get(regionName);
+        return cache == null ? 0 : cache.size();
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes") // raw in the overridden Hibernate signature
+    protected void prepareForUse(final SessionFactoryOptions settings, final Map configValues) {
+        final var config = settings.getServiceRegistry().getService(ConfigurationService.class);
+        this.expireAfterWrite = Duration.parse(config.getSetting(
+                EXPIRE_AFTER_WRITE,
+                StandardConverters.STRING,
+                DEFAULT_EXPIRE_AFTER_WRITE.toString()
+        ));
+        this.maximumSize = Long.parseLong(config.getSetting(
+                MAXIMUM_SIZE,
+                StandardConverters.STRING,
+                String.valueOf(DEFAULT_MAXIMUM_SIZE)
+        ));
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        this.regions.values().forEach(Cache::invalidateAll);
+        this.regions.clear();
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(
+            final DomainDataRegionConfig regionConfig,
+            final DomainDataRegionBuildingContext buildingContext
+    ) {
+        return new GuavaStorageAccess(bounded(regionConfig.getRegionName()));
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(
+            final String regionName,
+            final SessionFactoryImplementor sessionFactory
+    ) {
+        return new GuavaStorageAccess(bounded(regionName));
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(
+            final String regionName,
+            final SessionFactoryImplementor sessionFactory
+    ) {
+        return new GuavaStorageAccess(this.regions.computeIfAbsent(
+                regionName,
+                name -> CacheBuilder.newBuilder().recordStats().build()
+        ));
+    }
+
+    private Cache<Object, Object> bounded(final String regionName) {
+        return this.regions.computeIfAbsent(regionName, name -> CacheBuilder.newBuilder()
+                .expireAfterWrite(this.expireAfterWrite)
+                .maximumSize(this.maximumSize)
+                .recordStats()
+                .build());
+    }
+
+    private record GuavaStorageAccess(Cache<Object, Object> cache) implements DomainDataStorageAccess {
+
+        @Override
+        public Object getFromCache(final Object key, final SharedSessionContractImplementor session) {
+            return this.cache.getIfPresent(key);
+        }
+
+        @Override
+        public void putIntoCache(final Object key, final Object value, final SharedSessionContractImplementor session) {
+            this.cache.put(key, value);
+        }
+
+        @Override
+        public boolean contains(final Object key) {
+            return this.cache.asMap().containsKey(key);
+        }
+
+        @Override
+        public void evictData() {
+            this.cache.invalidateAll();
+        }
+
+        @Override
+        public void evictData(final Object key) {
+            this.cache.invalidate(key);
+        }
+
+        @Override
+        public void release() {
+            this.cache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.ecom.catalog.admin.infrastructure.configuration.jpa;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers native SQL functions usable from criteria queries. Referenced by
+ * {@code hibernate.metadata_builder_contributor} in application.yml.
+ */
+public class SqlFunctionsContributor implements MetadataBuilderContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contribute(final MetadataBuilder metadataBuilder) {
+        // MySQL only: both columns must be covered by the same FULLTEXT index
+        metadataBuilder.applySqlFunction(
+                MATCH_AGAINST,
+                new SQLFunctionTemplate(StandardBasicTypes.DOUBLE, "MATCH (?1, ?2) AGAINST (?3 IN BOOLEAN MODE)")
+        );
+    }
+}
@@ -8,6 +8,10 @@ public class AwsS3Properties implements InitializingBean {
 
     private static final Logger log = LoggerFactory.getLogger(AwsProperties.class);
     private String bucket;
+    private String endpoint;
+    private int maxConcurrentUploads = 16;
+    private long multipartThreshold = 8 * 1024 * 1024;
+    private long partSize = 8 * 1024 * 1024;
 
     public String getBucket() {
         return bucket;
@@ -17,6 +21,37 @@ public class AwsS3Properties implements InitializingBean {
         this.bucket = bucket;
     }
 
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public int getMaxConcurrentUploads() {
+        return maxConcurrentUploads;
+    }
+
+    public void setMaxConcurrentUploads(int maxConcurrentUploads) {
+        this.maxConcurrentUploads = maxConcurrentUploads;
+    }
+
+    public long getMultipartThreshold() {
+        return multipartThreshold;
+    }
+
+    public void setMultipartThreshold(long multipartThreshold) {
+        this.multipartThreshold = multipartThreshold;
+    }
+
+    public long getPartSize() {
+        return partSize;
+    }
+
+    public void setPartSize(long partSize) {
+        this.partSize = partSize;
+    }
 
     @Override
     public void afterPropertiesSet() throws Exception {
@@ -27,6 +62,10 @@ public class AwsS3Properties implements InitializingBean {
     public String toString() {
         return "AwsS3Properties{" +
                 "bucket='" + bucket + '\'' +
+                ", endpoint='" + endpoint + '\'' +
+                ", maxConcurrentUploads=" + maxConcurrentUploads +
+                ", multipartThreshold=" + multipartThreshold +
+                ", partSize=" + partSize +
                 '}';
     }
 }
@@ -0,0 +1,46 @@
+package com.ecom.catalog.admin.infrastructure.configuration.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class CategorySnapshotProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CategorySnapshotProperties.class);
+    private boolean enabled;
+    private Duration pollInterval = Duration.ofSeconds(5);
+
+    public CategorySnapshotProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CategorySnapshotProperties{" +
+                "enabled=" + enabled +
+                ", pollInterval=" + pollInterval +
+                '}';
+    }
+}
@@ -0,0 +1,86 @@
+package com.ecom.catalog.admin.infrastructure.configuration.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class ChangeLogProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeLogProperties.class);
+    private boolean enabled;
+    private Duration pollInterval = Duration.ofSeconds(1);
+    private Duration gapTimeout = Duration.ofSeconds(30);
+    private Duration retention = Duration.ofHours(1);
+    private Duration compactInterval = Duration.ofMinutes(10);
+    private int batchSize = 500;
+
+    public ChangeLogProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public Duration getGapTimeout() {
+        return gapTimeout;
+    }
+
+    public void setGapTimeout(Duration gapTimeout) {
+        this.gapTimeout = gapTimeout;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public Duration getCompactInterval() {
+        return compactInterval;
+    }
+
+    public void setCompactInterval(Duration compactInterval) {
+        this.compactInterval = compactInterval;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeLogProperties{" +
+                "enabled=" + enabled +
+                ", pollInterval=" + pollInterval +
+                ", gapTimeout=" + gapTimeout +
+                ", retention=" + retention +
+                ", compactInterval=" + compactInterval +
+                ", batchSize=" + batchSize +
+                '}';
+    }
+}
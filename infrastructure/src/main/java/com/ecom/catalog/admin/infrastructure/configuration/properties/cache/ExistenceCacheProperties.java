@@ -0,0 +1,76 @@
+package com.ecom.catalog.admin.infrastructure.configuration.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class ExistenceCacheProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ExistenceCacheProperties.class);
+    private boolean enabled;
+    private long maximumSize = 10_000;
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+    private long expectedInsertions = 100_000;
+    private Duration rebuildAfter = Duration.ofSeconds(10);
+
+    public ExistenceCacheProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    public void setExpireAfterWrite(Duration expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    public void setExpectedInsertions(long expectedInsertions) {
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    public Duration getRebuildAfter() {
+        return rebuildAfter;
+    }
+
+    public void setRebuildAfter(Duration rebuildAfter) {
+        this.rebuildAfter = rebuildAfter;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ExistenceCacheProperties{" +
+                "enabled=" + enabled +
+                ", maximumSize=" + maximumSize +
+                ", expireAfterWrite=" + expireAfterWrite +
+                ", expectedInsertions=" + expectedInsertions +
+                ", rebuildAfter=" + rebuildAfter +
+                '}';
+    }
+}
@@ -0,0 +1,55 @@
+package com.ecom.catalog.admin.infrastructure.configuration.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.unit.DataSize;
+
+public class ImageCacheProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageCacheProperties.class);
+    private boolean enabled;
+    private DataSize maximumSize = DataSize.ofMegabytes(256);
+    private DataSize maximumEntrySize = DataSize.ofMegabytes(8);
+
+    public ImageCacheProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public DataSize getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(DataSize maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public DataSize getMaximumEntrySize() {
+        return maximumEntrySize;
+    }
+
+    public void setMaximumEntrySize(DataSize maximumEntrySize) {
+        this.maximumEntrySize = maximumEntrySize;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ImageCacheProperties{" +
+                "enabled=" + enabled +
+                ", maximumSize=" + maximumSize +
+                ", maximumEntrySize=" + maximumEntrySize +
+                '}';
+    }
+}
@@ -0,0 +1,67 @@
+package com.ecom.catalog.admin.infrastructure.configuration.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+public class ResponseCacheProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCacheProperties.class);
+    private boolean enabled;
+    private DataSize maximumSize = DataSize.ofMegabytes(32);
+    private int maximumPage = 2;
+    private Duration expireAfterWrite = Duration.ofMinutes(5);
+
+    public ResponseCacheProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public DataSize getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(DataSize maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public int getMaximumPage() {
+        return maximumPage;
+    }
+
+    public void setMaximumPage(int maximumPage) {
+        this.maximumPage = maximumPage;
+    }
+
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    public void setExpireAfterWrite(Duration expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ResponseCacheProperties{" +
+                "enabled=" + enabled +
+                ", maximumSize=" + maximumSize +
+                ", maximumPage=" + maximumPage +
+                ", expireAfterWrite=" + expireAfterWrite +
+                '}';
+    }
+}
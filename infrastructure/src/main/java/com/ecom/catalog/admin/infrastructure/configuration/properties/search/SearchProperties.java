@@ -0,0 +1,34 @@
+package com.ecom.catalog.admin.infrastructure.configuration.properties.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class SearchProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchProperties.class);
+    private boolean inMemoryIndex;
+
+    public SearchProperties() {
+    }
+
+    public boolean isInMemoryIndex() {
+        return inMemoryIndex;
+    }
+
+    public void setInMemoryIndex(boolean inMemoryIndex) {
+        this.inMemoryIndex = inMemoryIndex;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "SearchProperties{" +
+                "inMemoryIndex=" + inMemoryIndex +
+                '}';
+    }
+}
@@ -0,0 +1,76 @@
+package com.ecom.catalog.admin.infrastructure.configuration.properties.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.List;
+
+public class ImageVariantProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageVariantProperties.class);
+    private boolean enabled;
+    private List<Integer> sizes = List.of(150, 600);
+    private long maxPixels = 40_000_000;
+    private int workers = 2;
+    private int queueCapacity = 1000;
+
+    public ImageVariantProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<Integer> getSizes() {
+        return sizes;
+    }
+
+    public void setSizes(List<Integer> sizes) {
+        this.sizes = sizes;
+    }
+
+    public long getMaxPixels() {
+        return maxPixels;
+    }
+
+    public void setMaxPixels(long maxPixels) {
+        this.maxPixels = maxPixels;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ImageVariantProperties{" +
+                "enabled=" + enabled +
+                ", sizes=" + sizes +
+                ", maxPixels=" + maxPixels +
+                ", workers=" + workers +
+                ", queueCapacity=" + queueCapacity +
+                '}';
+    }
+}
@@ -9,6 +9,10 @@ public class StorageProperties implements InitializingBean {
 
     private static final Logger log = LoggerFactory.getLogger(StorageProperties.class);
     private String locationPattern;
+    private String provider;
+    private String root;
+    private boolean contentAddressed;
+    private boolean strongHash;
     private StorageService storageService;
 
     public StorageProperties() {
@@ -22,6 +26,38 @@ public class StorageProperties implements InitializingBean {
         this.locationPattern = locationPattern;
     }
 
+    public String getProvider() {
+        return provider;
+    }
+
+    public void setProvider(String provider) {
+        this.provider = provider;
+    }
+
+    public String getRoot() {
+        return root;
+    }
+
+    public void setRoot(String root) {
+        this.root = root;
+    }
+
+    public boolean isContentAddressed() {
+        return contentAddressed;
+    }
+
+    public void setContentAddressed(boolean contentAddressed) {
+        this.contentAddressed = contentAddressed;
+    }
+
+    public boolean isStrongHash() {
+        return strongHash;
+    }
+
+    public void setStrongHash(boolean strongHash) {
+        this.strongHash = strongHash;
+    }
+
     public StorageService getStorageService() {
         return storageService;
     }
@@ -39,6 +75,10 @@ public class StorageProperties implements InitializingBean {
     public String toString() {
         return "StorageProperties{" +
                 "locationPattern='" + locationPattern + '\'' +
+                ", provider='" + provider + '\'' +
+                ", root='" + root + '\'' +
+                ", contentAddressed=" + contentAddressed +
+                ", strongHash=" + strongHash +
                 ", storageService=" + storageService +
                 '}';
     }
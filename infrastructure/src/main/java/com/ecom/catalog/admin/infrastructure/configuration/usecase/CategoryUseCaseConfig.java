@@ -3,15 +3,26 @@ package com.ecom.catalog.admin.infrastructure.configuration.usecase;
 import com.ecom.catalog.admin.application.category.create.CreateCategoryUseCase;
 import com.ecom.catalog.admin.application.category.create.DefaultCreateCategoryUseCase;
 import com.ecom.catalog.admin.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.ecom.catalog.admin.application.category.retrieve.get.DefaultGetCategoryVersionUseCase;
 import com.ecom.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.ecom.catalog.admin.application.category.retrieve.get.GetCategoryVersionUseCase;
 import com.ecom.catalog.admin.application.category.retrieve.list.DefaultListCategoryUseCase;
 import com.ecom.catalog.admin.application.category.retrieve.list.ListCategoryUseCase;
 import com.ecom.catalog.admin.application.category.update.DefaultUpdateCategoryUseCase;
 import com.ecom.catalog.admin.application.category.update.UpdateCategoryUseCase;
 import com.ecom.catalog.admin.domain.category.CategoryGateway;
+import com.ecom.catalog.admin.infrastructure.cache.ExistenceCache;
+import com.ecom.catalog.admin.infrastructure.category.CachingCategoryGateway;
+import com.ecom.catalog.admin.infrastructure.category.CategorySnapshot;
+import com.ecom.catalog.admin.infrastructure.category.SnapshotCategoryGateway;
+import com.ecom.catalog.admin.infrastructure.configuration.properties.cache.ExistenceCacheProperties;
+import com.ecom.catalog.admin.infrastructure.utils.DatabaseUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import javax.persistence.EntityManagerFactory;
 import java.util.Objects;
 
 @Configuration
@@ -19,8 +30,28 @@ public class CategoryUseCaseConfig {
 
     private final CategoryGateway categoryGateway;
 
-    public CategoryUseCaseConfig(final CategoryGateway categoryGateway) {
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    public CategoryUseCaseConfig(
+            final CategoryGateway categoryGateway,
+            final ExistenceCacheProperties existenceCacheProperties,
+            @Qualifier("categoryExistenceCache") final ExistenceCache categoryExistenceCache,
+            final ObjectProvider<CategorySnapshot> categorySnapshot,
+            final EntityManagerFactory entityManagerFactory) {
+        // writes keep the snapshot and the existence cache used by the product use cases current
+        final var snapshotGateway = snapshot(Objects.requireNonNull(categoryGateway), categorySnapshot, entityManagerFactory);
+        this.categoryGateway = existenceCacheProperties.isEnabled()
+                ? new CachingCategoryGateway(snapshotGateway, categoryExistenceCache)
+                : snapshotGateway;
+    }
+
+    static CategoryGateway snapshot(
+            final CategoryGateway categoryGateway,
+            final ObjectProvider<CategorySnapshot> categorySnapshot,
+            final EntityManagerFactory entityManagerFactory
+    ) {
+        final var aSnapshot = categorySnapshot.getIfAvailable();
+        return aSnapshot == null
+                ? categoryGateway
+                : new SnapshotCategoryGateway(categoryGateway, aSnapshot, DatabaseUtils.isMySQL(entityManagerFactory));
     }
 
     @Bean
@@ -38,6 +69,11 @@ public class CategoryUseCaseConfig {
         return new DefaultGetCategoryByIdUseCase(categoryGateway);
     }
 
+    @Bean
+    public GetCategoryVersionUseCase getCategoryVersionUseCase() {
+        return new DefaultGetCategoryVersionUseCase(categoryGateway);
+    }
+
     @Bean
     public ListCategoryUseCase listCategoryUseCase() {
         return new DefaultListCategoryUseCase(categoryGateway);
@@ -2,24 +2,55 @@ package com.ecom.catalog.admin.infrastructure.configuration.usecase;
 
 import com.ecom.catalog.admin.application.product.create.CreateProductUseCase;
 import com.ecom.catalog.admin.application.product.create.DefaultCreateProductUseCase;
+import com.ecom.catalog.admin.application.product.export.DefaultExportProductsUseCase;
+import com.ecom.catalog.admin.application.product.export.ExportProductsUseCase;
 import com.ecom.catalog.admin.application.product.image.get.DefaultGetProductImageUseCase;
+import com.ecom.catalog.admin.application.product.image.get.DefaultGetProductImageVersionUseCase;
 import com.ecom.catalog.admin.application.product.image.get.GetProductImageUseCase;
+import com.ecom.catalog.admin.application.product.image.get.GetProductImageVersionUseCase;
 import com.ecom.catalog.admin.application.product.image.upload.DefaultUploadProductImagesUseCase;
 import com.ecom.catalog.admin.application.product.image.upload.UploadProductImagesUseCase;
+import com.ecom.catalog.admin.application.product.retrieve.facets.DefaultGetProductFacetsUseCase;
+import com.ecom.catalog.admin.application.product.retrieve.facets.GetProductFacetsUseCase;
 import com.ecom.catalog.admin.application.product.retrieve.get.DefaultGetProductByIdUseCase;
+import com.ecom.catalog.admin.application.product.retrieve.get.DefaultGetProductVersionUseCase;
 import com.ecom.catalog.admin.application.product.retrieve.get.GetProductByIdUseCase;
+import com.ecom.catalog.admin.application.product.retrieve.get.GetProductVersionUseCase;
 import com.ecom.catalog.admin.application.product.retrieve.list.DefaultListProductUseCase;
 import com.ecom.catalog.admin.application.product.retrieve.list.ListProductUseCase;
 import com.ecom.catalog.admin.application.product.update.DefaultUpdateProductUseCase;
 import com.ecom.catalog.admin.application.product.update.UpdateProductUseCase;
+import com.ecom.catalog.admin.domain.Identifier;
 import com.ecom.catalog.admin.domain.category.CategoryGateway;
+import com.ecom.catalog.admin.domain.product.Product;
 import com.ecom.catalog.admin.domain.product.ProductGateway;
+import com.ecom.catalog.admin.domain.product.ProductID;
 import com.ecom.catalog.admin.domain.product.ProductImageGateway;
+import com.ecom.catalog.admin.domain.product.ProductSearchGateway;
 import com.ecom.catalog.admin.domain.product.StoreGateway;
+import com.ecom.catalog.admin.infrastructure.cache.ExistenceCache;
+import com.ecom.catalog.admin.infrastructure.cache.ImageContentCache;
+import com.ecom.catalog.admin.infrastructure.cache.SingleFlight;
+import com.ecom.catalog.admin.infrastructure.category.CachingCategoryGateway;
+import com.ecom.catalog.admin.infrastructure.category.CategorySnapshot;
+import com.ecom.catalog.admin.infrastructure.changes.CatalogChange;
+import com.ecom.catalog.admin.infrastructure.changes.CatalogChangePoller;
+import com.ecom.catalog.admin.infrastructure.configuration.properties.cache.ExistenceCacheProperties;
+import com.ecom.catalog.admin.infrastructure.configuration.properties.cache.ImageCacheProperties;
+import com.ecom.catalog.admin.infrastructure.configuration.properties.cache.ProductCacheProperties;
+import com.ecom.catalog.admin.infrastructure.product.CachingProductGateway;
+import com.ecom.catalog.admin.infrastructure.product.CachingProductImageGateway;
+import com.ecom.catalog.admin.infrastructure.product.ImageVariantPipeline;
+import com.ecom.catalog.admin.infrastructure.product.VariantGeneratingProductImageGateway;
+import com.ecom.catalog.admin.infrastructure.product.CachingStoreGateway;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import javax.persistence.EntityManagerFactory;
 import java.util.Objects;
+import java.util.Optional;
 
 @Configuration
 public class ProductUseCaseConfig {
@@ -29,22 +60,74 @@ public class ProductUseCaseConfig {
 
     private final StoreGateway storeGateway;
     private final ProductImageGateway productImageGateway;
+    private final ProductSearchGateway productSearchGateway;
 
-    public ProductUseCaseConfig(final ProductGateway productGateway, final CategoryGateway categoryGateway, final StoreGateway storeGateway, final ProductImageGateway productImageGateway) {
-        this.productGateway = Objects.requireNonNull(productGateway);
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
-        this.storeGateway = Objects.requireNonNull(storeGateway);
-        this.productImageGateway = Objects.requireNonNull(productImageGateway);
+    public ProductUseCaseConfig(
+            final ProductGateway productGateway,
+            final CategoryGateway categoryGateway,
+            final StoreGateway storeGateway,
+            final ProductImageGateway productImageGateway,
+            final ProductSearchGateway productSearchGateway,
+            final ProductCacheProperties productCacheProperties,
+            final ExistenceCacheProperties existenceCacheProperties,
+            final ImageCacheProperties imageCacheProperties,
+            final ImageContentCache imageContentCache,
+            @Qualifier("productLoads") final SingleFlight<Identifier, Optional<Product>> productLoads,
+            @Qualifier("productImageFills") final SingleFlight<String, Boolean> productImageFills,
+            @Qualifier("categoryExistenceCache") final ExistenceCache categoryExistenceCache,
+            @Qualifier("storeExistenceCache") final ExistenceCache storeExistenceCache,
+            final ObjectProvider<CategorySnapshot> categorySnapshot,
+            final ObjectProvider<CatalogChangePoller> catalogChangePoller,
+            final ObjectProvider<ImageVariantPipeline> imageVariantPipeline,
+            final EntityManagerFactory entityManagerFactory) {
+        this.productGateway = cached(Objects.requireNonNull(productGateway), productLoads, productCacheProperties, catalogChangePoller);
+        // existence checks of both create and update go through the shared caches
+        final var snapshotGateway = CategoryUseCaseConfig.snapshot(Objects.requireNonNull(categoryGateway), categorySnapshot, entityManagerFactory);
+        this.categoryGateway = existenceCacheProperties.isEnabled()
+                ? new CachingCategoryGateway(snapshotGateway, categoryExistenceCache)
+                : snapshotGateway;
+        this.storeGateway = existenceCacheProperties.isEnabled()
+                ? new CachingStoreGateway(Objects.requireNonNull(storeGateway), storeExistenceCache)
+                : Objects.requireNonNull(storeGateway);
+        final var variantsGateway = variants(Objects.requireNonNull(productImageGateway), imageVariantPipeline);
+        this.productImageGateway = imageCacheProperties.isEnabled()
+                ? new CachingProductImageGateway(variantsGateway, imageContentCache, productImageFills)
+                : variantsGateway;
+        this.productSearchGateway = Objects.requireNonNull(productSearchGateway);
+    }
+
+    private static ProductImageGateway variants(final ProductImageGateway productImageGateway, final ObjectProvider<ImageVariantPipeline> imageVariantPipeline) {
+        final var aPipeline = imageVariantPipeline.getIfAvailable();
+        return aPipeline == null ? productImageGateway : new VariantGeneratingProductImageGateway(productImageGateway, aPipeline);
+    }
+
+    private static ProductGateway cached(
+            final ProductGateway productGateway,
+            final SingleFlight<Identifier, Optional<Product>> loads,
+            final ProductCacheProperties properties,
+            final ObjectProvider<CatalogChangePoller> catalogChangePoller
+    ) {
+        if (!properties.isEnabled()) {
+            return productGateway;
+        }
+        final var cachingGateway = new CachingProductGateway(productGateway, loads, properties.getMaximumSize(), properties.getExpireAfterWrite());
+        // products written by the other nodes
+        catalogChangePoller.ifAvailable(poller -> poller.register(aChange -> {
+            if (aChange.type() == CatalogChange.Type.PRODUCT) {
+                cachingGateway.evict(ProductID.from(aChange.entityId()));
+            }
+        }));
+        return cachingGateway;
     }
 
     @Bean
     public CreateProductUseCase createProductUseCase() {
-        return new DefaultCreateProductUseCase(productGateway, categoryGateway, storeGateway, productImageGateway);
+        return new DefaultCreateProductUseCase(productGateway, categoryGateway, storeGateway, productImageGateway, productSearchGateway);
     }
 
     @Bean
     public UpdateProductUseCase updateProductUseCase() {
-        return new DefaultUpdateProductUseCase(productGateway, categoryGateway, storeGateway, productImageGateway);
+        return new DefaultUpdateProductUseCase(productGateway, categoryGateway, storeGateway, productImageGateway, productSearchGateway);
     }
 
     @Bean
@@ -52,9 +135,24 @@ public class ProductUseCaseConfig {
         return new DefaultGetProductByIdUseCase(productGateway);
     }
 
+    @Bean
+    public GetProductVersionUseCase getProductVersionUseCase() {
+        return new DefaultGetProductVersionUseCase(productGateway);
+    }
+
     @Bean
     public ListProductUseCase listProductUseCase() {
-        return new DefaultListProductUseCase(productGateway);
+        return new DefaultListProductUseCase(productGateway, productSearchGateway);
+    }
+
+    @Bean
+    public GetProductFacetsUseCase getProductFacetsUseCase() {
+        return new DefaultGetProductFacetsUseCase(productGateway);
+    }
+
+    @Bean
+    public ExportProductsUseCase exportProductsUseCase() {
+        return new DefaultExportProductsUseCase(productGateway);
     }
 
     @Bean
@@ -62,6 +160,11 @@ public class ProductUseCaseConfig {
         return new DefaultGetProductImageUseCase(productGateway, productImageGateway);
     }
 
+    @Bean
+    public GetProductImageVersionUseCase getProductImageVersionUseCase() {
+        return new DefaultGetProductImageVersionUseCase(productGateway);
+    }
+
     @Bean
     public UploadProductImagesUseCase uploadProductImagesUseCase() {
         return new DefaultUploadProductImagesUseCase(productGateway, productImageGateway);
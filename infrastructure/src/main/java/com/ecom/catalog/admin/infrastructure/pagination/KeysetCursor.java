@@ -0,0 +1,51 @@
+package com.ecom.catalog.admin.infrastructure.pagination;
+
+import com.ecom.catalog.admin.domain.exceptions.DomainException;
+import com.ecom.catalog.admin.domain.validation.Error;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque position of the last row of a page: the sort column and direction it was
+ * produced for, the value of that column and the row id used as tie-breaker. A {@code null}
+ * value (a nullable sort column) is encoded by leaving the value out.
+ */
+public record KeysetCursor(
+        String sort,
+        String direction,
+        String id,
+        String value
+) {
+
+    private static final char SEPARATOR = '\n';
+
+    public String encode() {
+        final var position = sort + SEPARATOR + direction + SEPARATOR + id;
+        final var raw = value == null ? position : position + SEPARATOR + value;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(final String aCursor, final String aSort, final String aDirection) {
+        final String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(aCursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+
+        final var parts = raw.split(String.valueOf(SEPARATOR), 4);
+        if (parts.length < 3
+                || !parts[0].equals(aSort)
+                || !parts[1].equalsIgnoreCase(aDirection)) {
+            throw invalid();
+        }
+        return new KeysetCursor(parts[0], parts[1], parts[2], parts.length == 4 ? parts[3] : null);
+    }
+
+    private static DomainException invalid() {
+        return DomainException.with(new Error("'cursor' is invalid for the requested sort"));
+    }
+}
@@ -0,0 +1,331 @@
+package com.ecom.catalog.admin.infrastructure.pagination;
+
+import com.ecom.catalog.admin.domain.exceptions.DomainException;
+import com.ecom.catalog.admin.domain.pagination.CountMode;
+import com.ecom.catalog.admin.domain.pagination.Pagination;
+import com.ecom.catalog.admin.domain.pagination.SearchQuery;
+import com.ecom.catalog.admin.domain.validation.Error;
+import com.ecom.catalog.admin.infrastructure.utils.DatabaseUtils;
+import com.ecom.catalog.admin.infrastructure.utils.SpecificationUtils;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Table;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+/**
+ * Runs a {@link Specification} page by page, either by offset ({@link SearchQuery#page()})
+ * or by keyset when the query carries a cursor. Rows are always ordered by the requested
+ * sort plus the id, so every row has a stable position and the next cursor can be built
+ * from the last row of the page.
+ * <p>
+ * The total follows {@link SearchQuery#countMode()}: exact, skipped, estimated from the
+ * table statistics (MySQL only, unfiltered listings only) or cached for a short period
+ * per normalized search and filter key.
+ * <p>
+ * Sorting by {@link #RELEVANCE} keeps the order set by the specification itself (e.g. a
+ * full-text score), which has no stable key, so no cursor is produced for it.
+ */
+public class SpecificationPager<T> {
+
+    public static final String RELEVANCE = "relevance";
+
+    public static final String COUNT = "count";
+
+    private static final String ID = "id";
+
+    private static final Duration COUNT_TTL = Duration.ofSeconds(30);
+
+    private static final long COUNT_CACHE_SIZE = 10_000;
+
+    private final EntityManager entityManager;
+
+    private final Class<T> type;
+
+    private final Cache<String, Long> counts;
+
+    public SpecificationPager(final EntityManager entityManager, final Class<T> type) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.type = Objects.requireNonNull(type);
+        this.counts = CacheBuilder.newBuilder()
+                .expireAfterWrite(COUNT_TTL)
+                .maximumSize(COUNT_CACHE_SIZE)
+                .build();
+    }
+
+    public Pagination<T> findAll(final Specification<T> where, final SearchQuery aQuery) {
+        return findAll(where, aQuery, "");
+    }
+
+    /**
+     * @param filterKey identifies the predicates of {@code where} that are not derived from
+     *                  the search terms, so cached totals of different filters don't mix
+     */
+    public Pagination<T> findAll(final Specification<T> where, final SearchQuery aQuery, final String filterKey) {
+        return page(where, aQuery, filterKey, this::fetch, (row, prop) ->
+                PropertyAccessorFactory.forBeanPropertyAccess(row).getPropertyValue(prop));
+    }
+
+    /**
+     * Same paging as {@link #findAll(Specification, SearchQuery, String)}, but selecting only
+     * the columns of the projection in a single statement instead of loading entities.
+     */
+    public <R> Pagination<R> findAll(
+            final Specification<T> where,
+            final SearchQuery aQuery,
+            final String filterKey,
+            final TupleProjection<T, R> projection
+    ) {
+        return page(where, aQuery, filterKey, (spec, sort, offset, limit) -> fetch(spec, sort, offset, limit, projection), Tuple::get)
+                .map(projection::map);
+    }
+
+    public <R> List<R> list(final Specification<T> where, final TupleProjection<T, R> projection) {
+        return fetch(where, Sort.unsorted(), 0, Integer.MAX_VALUE, projection).stream()
+                .map(projection::map)
+                .toList();
+    }
+
+    /**
+     * Forward-only read of every matching row, fetched from the driver {@code fetchSize} rows at
+     * a time. Must be consumed and closed inside a transaction.
+     */
+    public <R> Stream<R> stream(
+            final Specification<T> where,
+            final Sort sort,
+            final TupleProjection<T, R> projection,
+            final int fetchSize
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var root = query.from(this.type);
+        query.multiselect(projection.select(root));
+
+        return this.entityManager.createQuery(prepare(query, root, where, sort))
+                .setHint(HINT_FETCH_SIZE, fetchSize)
+                .setHint(HINT_READONLY, true)
+                .getResultStream()
+                .map(projection::map);
+    }
+
+    /**
+     * One {@code GROUP BY} over the given properties, each row aliased by its property name plus
+     * {@link #COUNT} with the number of matching rows in the group.
+     */
+    public List<Tuple> countBy(final Specification<T> where, final List<String> props) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var root = query.from(this.type);
+
+        final var predicate = Specification.where(where).toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        final List<Expression<?>> groups = props.stream()
+                .<Expression<?>>map(prop -> SpecificationUtils.path(root, prop))
+                .toList();
+        final var selections = new ArrayList<Selection<?>>();
+        for (var i = 0; i < props.size(); i++) {
+            selections.add(groups.get(i).alias(props.get(i)));
+        }
+        selections.add(cb.count(root).alias(COUNT));
+
+        query.multiselect(selections)
+                .groupBy(groups)
+                .orderBy(List.of());
+
+        return this.entityManager.createQuery(query).getResultList();
+    }
+
+    /**
+     * Normalized cache key of a search: the trimmed, lower-cased terms plus the filter key.
+     */
+    public static String keyOf(final String terms, final String filterKey) {
+        return Optional.ofNullable(terms)
+                .map(it -> it.trim().toLowerCase(Locale.ROOT))
+                .orElse("") + '\n' + filterKey;
+    }
+
+    private <R> Pagination<R> page(
+            final Specification<T> where,
+            final SearchQuery aQuery,
+            final String filterKey,
+            final Fetcher<T, R> fetcher,
+            final BiFunction<R, String, Object> accessor
+    ) {
+        final var direction = Sort.Direction.fromString(aQuery.direction());
+        final var byRelevance = RELEVANCE.equalsIgnoreCase(aQuery.sort());
+        final var sort = byRelevance
+                ? Sort.by(direction, ID)
+                : Sort.by(direction, aQuery.sort()).and(Sort.by(direction, ID));
+
+        var seek = Specification.where(where);
+        var offset = aQuery.page() * aQuery.perPage();
+        if (aQuery.hasCursor()) {
+            if (byRelevance) {
+                throw DomainException.with(new Error("'cursor' is not supported when sorting by relevance"));
+            }
+            final var cursor = KeysetCursor.decode(aQuery.cursor(), aQuery.sort(), direction.name());
+            seek = seek.and(SpecificationUtils.seek(aQuery.sort(), direction, cursor.value(), cursor.id()));
+            offset = 0;
+        }
+
+        // one extra row tells whether there is a next page without another round trip
+        final var rows = fetcher.fetch(seek, sort, offset, aQuery.perPage() + 1);
+        final var hasNext = rows.size() > aQuery.perPage();
+        final var items = hasNext ? rows.subList(0, aQuery.perPage()) : rows;
+
+        final long total = !aQuery.hasCursor() && offset == 0 && !hasNext
+                ? items.size()
+                : total(where, aQuery, filterKey);
+
+        return new Pagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                total,
+                items,
+                hasNext && !byRelevance ? cursorOf(items.get(items.size() - 1), accessor, aQuery.sort(), direction) : null,
+                hasNext
+        );
+    }
+
+    private long total(final Specification<T> where, final SearchQuery aQuery, final String filterKey) {
+        return switch (aQuery.countMode()) {
+            case EXACT -> count(where);
+            case NONE -> CountMode.UNKNOWN_TOTAL;
+            case ESTIMATED -> (where == null ? estimate() : Optional.<Long>empty())
+                    .orElseGet(() -> cachedCount(where, aQuery, filterKey));
+            case CACHED -> cachedCount(where, aQuery, filterKey);
+        };
+    }
+
+    private long cachedCount(final Specification<T> where, final SearchQuery aQuery, final String filterKey) {
+        final var key = keyOf(aQuery.terms(), filterKey);
+        final var cached = this.counts.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        final var total = count(where);
+        this.counts.put(key, total);
+        return total;
+    }
+
+    private Optional<Long> estimate() {
+        if (!DatabaseUtils.isMySQL(this.entityManager)) {
+            return Optional.empty();
+        }
+        final var table = this.type.getAnnotation(Table.class).name();
+        final List<?> rows = this.entityManager.createNativeQuery("""
+                        SELECT TABLE_ROWS FROM information_schema.TABLES
+                        WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = :table
+                        """)
+                .setParameter("table", table)
+                .getResultList();
+        return rows.stream()
+                .filter(Objects::nonNull)
+                .map(it -> ((Number) it).longValue())
+                .findFirst();
+    }
+
+    private List<T> fetch(final Specification<T> spec, final Sort sort, final int offset, final int limit) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final CriteriaQuery<T> query = cb.createQuery(this.type);
+        final var root = query.from(this.type);
+        query.select(root);
+
+        return this.entityManager.createQuery(prepare(query, root, spec, sort))
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private List<Tuple> fetch(
+            final Specification<T> spec,
+            final Sort sort,
+            final int offset,
+            final int limit,
+            final TupleProjection<T, ?> projection
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var root = query.from(this.type);
+        query.multiselect(projection.select(root));
+
+        return this.entityManager.createQuery(prepare(query, root, spec, sort))
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private <Q> CriteriaQuery<Q> prepare(
+            final CriteriaQuery<Q> query,
+            final Root<T> root,
+            final Specification<T> spec,
+            final Sort sort
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var predicate = Specification.where(spec).toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        final var orders = new ArrayList<>(query.getOrderList());
+        orders.addAll(toOrders(sort, root, cb));
+        return query.orderBy(orders);
+    }
+
+    private long count(final Specification<T> where) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        final var root = query.from(this.type);
+
+        final var predicate = Specification.where(where).toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(List.of());
+        query.select(query.isDistinct() ? cb.countDistinct(root) : cb.count(root));
+
+        return this.entityManager.createQuery(query).getSingleResult();
+    }
+
+    private <R> String cursorOf(
+            final R row,
+            final BiFunction<R, String, Object> accessor,
+            final String sort,
+            final Sort.Direction direction
+    ) {
+        final var value = accessor.apply(row, sort);
+        return new KeysetCursor(
+                sort,
+                direction.name(),
+                String.valueOf(accessor.apply(row, ID)),
+                value == null ? null : SpecificationUtils.toSortValue(value)
+        ).encode();
+    }
+
+    @FunctionalInterface
+    private interface Fetcher<E, R> {
+
+        List<R> fetch(Specification<E> spec, Sort sort, int offset, int limit);
+    }
+}
@@ -0,0 +1,18 @@
+package com.ecom.catalog.admin.infrastructure.pagination;
+
+import javax.persistence.Tuple;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.util.List;
+
+/**
+ * Columns read by a listing and how a row is turned into its read model. Selections are
+ * aliased with the attribute names (at least "id" and the sortable ones), which is how
+ * the pager reads the keyset of the last row.
+ */
+public interface TupleProjection<T, R> {
+
+    List<Selection<?>> select(Root<T> root);
+
+    R map(Tuple tuple);
+}
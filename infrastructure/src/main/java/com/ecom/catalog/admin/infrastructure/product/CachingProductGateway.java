@@ -0,0 +1,203 @@
+package com.ecom.catalog.admin.infrastructure.product;
+
+import com.ecom.catalog.admin.domain.Identifier;
+import com.ecom.catalog.admin.domain.pagination.Pagination;
+import com.ecom.catalog.admin.domain.pagination.SearchQuery;
+import com.ecom.catalog.admin.domain.product.Product;
+import com.ecom.catalog.admin.domain.product.ProductFacets;
+import com.ecom.catalog.admin.domain.product.ProductFilter;
+import com.ecom.catalog.admin.domain.product.ProductGateway;
+import com.ecom.catalog.admin.domain.product.ProductID;
+import com.ecom.catalog.admin.domain.product.ProductImageID;
+import com.ecom.catalog.admin.domain.product.ProductPreview;
+import com.ecom.catalog.admin.infrastructure.cache.SingleFlight;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Read-through cache of whole product aggregates by id in front of another {@link ProductGateway}.
+ * <p>
+ * {@link Product} is mutable, so the cache keeps its own copy of every aggregate and hands out a
+ * fresh copy on each hit: a caller changing the product it got (e.g. an update that then fails
+ * validation) never changes what the next reader sees. Writes going through this gateway evict
+ * the product; anything else is bounded by the TTL. Concurrent misses for the same id share a
+ * single load through a {@link SingleFlight}, which only caches what it read if no eviction of
+ * that id happened since it started.
+ * <p>
+ * Lookups by image id remember the product owning the image and go through the same cache and
+ * loads; the owner is checked to still have the image, an image moved or removed is looked up
+ * again.
+ */
+public class CachingProductGateway implements ProductGateway {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final ProductGateway delegate;
+
+    private final Cache<ProductID, Product> products;
+
+    private final Cache<ProductImageID, ProductID> owners;
+
+    // keyed by product id or by image id, the two never compare equal
+    private final SingleFlight<Identifier, Optional<Product>> loads;
+
+    // bumped by every eviction, striped by id so it stays bounded; a shared stripe only skips a put
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    // every eviction, for loads by image id that do not know the product id before they read
+    private final AtomicLong evictions = new AtomicLong();
+
+    public CachingProductGateway(
+            final ProductGateway delegate,
+            final SingleFlight<Identifier, Optional<Product>> loads,
+            final long maximumSize,
+            final Duration expireAfterWrite
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.loads = Objects.requireNonNull(loads);
+        this.products = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        this.owners = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    @Override
+    public Product create(final Product aProduct) {
+        return this.delegate.create(aProduct);
+    }
+
+    @Override
+    public Optional<Product> findById(final ProductID anId) {
+        final var cached = this.products.getIfPresent(anId);
+        if (cached != null) {
+            return Optional.of(Product.with(cached));
+        }
+        // the loaded aggregate is shared by every coalesced caller, each one gets its own copy
+        return this.loads.load(anId, () -> {
+                    final var generation = this.generations.get(stripeOf(anId));
+                    return this.delegate.findById(anId)
+                            .map(aProduct -> {
+                                putIfNotEvicted(anId, generation, aProduct);
+                                return aProduct;
+                            });
+                })
+                .map(Product::with);
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtById(final ProductID anId) {
+        final var cached = this.products.getIfPresent(anId);
+        if (cached != null) {
+            return Optional.of(cached.getUpdatedAt());
+        }
+        return this.delegate.findUpdatedAtById(anId);
+    }
+
+    @Override
+    public Optional<Product> findByImageId(final ProductImageID imageId) {
+        final var owner = this.owners.getIfPresent(imageId);
+        if (owner != null) {
+            final var aProduct = findById(owner).filter(it -> hasImage(it, imageId));
+            if (aProduct.isPresent()) {
+                return aProduct;
+            }
+            this.owners.invalidate(imageId);
+        }
+        return this.loads.load(imageId, () -> {
+                    final var evicted = this.evictions.get();
+                    return this.delegate.findByImageId(imageId)
+                            .map(aProduct -> {
+                                this.owners.put(imageId, aProduct.getId());
+                                this.products.asMap().compute(aProduct.getId(), (key, current) ->
+                                        this.evictions.get() == evicted ? Product.with(aProduct) : current);
+                                return aProduct;
+                            });
+                })
+                .map(Product::with);
+    }
+
+    @Override
+    public Product update(final Product aProduct) {
+        // evicted on both sides of the write, a read loading the old row meanwhile does not cache it
+        evict(aProduct.getId());
+        try {
+            return this.delegate.update(aProduct);
+        } finally {
+            evict(aProduct.getId());
+        }
+    }
+
+    public void evict(final ProductID anId) {
+        // under the lock of the entry, so a load checking the generation either sees the bump or is invalidated
+        this.products.asMap().compute(anId, (key, current) -> {
+            this.generations.incrementAndGet(stripeOf(key));
+            this.evictions.incrementAndGet();
+            return null;
+        });
+    }
+
+    private void putIfNotEvicted(final ProductID anId, final long generation, final Product aProduct) {
+        this.products.asMap().compute(anId, (key, current) ->
+                this.generations.get(stripeOf(key)) == generation ? Product.with(aProduct) : current);
+    }
+
+    private static boolean hasImage(final Product aProduct, final ProductImageID imageId) {
+        return aProduct.getImages().stream().anyMatch(anImage -> imageId.equals(anImage.getId()));
+    }
+
+    private static int stripeOf(final ProductID anId) {
+        return Math.floorMod(anId.hashCode(), GENERATION_STRIPES);
+    }
+
+    public long size() {
+        return this.products.size();
+    }
+
+    @Override
+    public Pagination<Product> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public Pagination<Product> findAll(final SearchQuery aQuery, final ProductFilter aFilter) {
+        return this.delegate.findAll(aQuery, aFilter);
+    }
+
+    @Override
+    public Pagination<ProductPreview> findAllPreviews(final SearchQuery aQuery, final ProductFilter aFilter) {
+        return this.delegate.findAllPreviews(aQuery, aFilter);
+    }
+
+    @Override
+    public List<ProductPreview> findAllPreviewsByIds(final Iterable<ProductID> ids) {
+        return this.delegate.findAllPreviewsByIds(ids);
+    }
+
+    @Override
+    public void forEachPreview(final ProductFilter aFilter, final Consumer<ProductPreview> aConsumer) {
+        this.delegate.forEachPreview(aFilter, aConsumer);
+    }
+
+    @Override
+    public ProductFacets facets(final SearchQuery aQuery, final ProductFilter aFilter) {
+        return this.delegate.facets(aQuery, aFilter);
+    }
+
+    @Override
+    public List<ProductID> existsByIds(final Iterable<ProductID> ids) {
+        return this.delegate.existsByIds(ids);
+    }
+}
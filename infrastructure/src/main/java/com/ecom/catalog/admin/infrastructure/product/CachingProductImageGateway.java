@@ -0,0 +1,146 @@
+package com.ecom.catalog.admin.infrastructure.product;
+
+import com.ecom.catalog.admin.domain.product.ByteRange;
+import com.ecom.catalog.admin.domain.product.ImageContent;
+import com.ecom.catalog.admin.domain.product.ProductID;
+import com.ecom.catalog.admin.domain.product.ProductImage;
+import com.ecom.catalog.admin.domain.product.ProductImageGateway;
+import com.ecom.catalog.admin.domain.product.Store;
+import com.ecom.catalog.admin.infrastructure.cache.ByteBufferInputStream;
+import com.ecom.catalog.admin.infrastructure.cache.ImageContentCache;
+import com.ecom.catalog.admin.infrastructure.cache.SingleFlight;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serves image content from an {@link ImageContentCache} in front of another
+ * {@link ProductImageGateway}, keyed by the image location and its checksum. Keys are prefixed
+ * with the product id so clearing the images of a product evicts all of them. A miss reads the
+ * whole image into the cache once per key through a {@link SingleFlight}, and the misses joining
+ * it are served from the cache when it is done: concurrent misses open a single storage read and
+ * fill a single buffer. Content too large to be cached goes to every caller from the storage.
+ */
+public class CachingProductImageGateway implements ProductImageGateway {
+
+    private final ProductImageGateway delegate;
+
+    private final ImageContentCache contents;
+
+    private final SingleFlight<String, Boolean> fills;
+
+    public CachingProductImageGateway(
+            final ProductImageGateway delegate,
+            final ImageContentCache contents,
+            final SingleFlight<String, Boolean> fills
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.contents = Objects.requireNonNull(contents);
+        this.fills = Objects.requireNonNull(fills);
+    }
+
+    @Override
+    public ProductImage create(final Store store, final ProductID anId, final ProductImage image) {
+        return this.delegate.create(store, anId, image);
+    }
+
+    @Override
+    public Set<ProductImage> create(final Store store, final ProductID anId, final Set<ProductImage> images) {
+        return this.delegate.create(store, anId, images);
+    }
+
+    @Override
+    public Optional<ProductImage> getImage(final Store store, final ProductID anProductId, final ProductImage anImage) {
+        return this.delegate.getImage(store, anProductId, anImage);
+    }
+
+    @Override
+    public Optional<ImageContent> openImage(final Store store, final ProductID anProductId, final ProductImage anImage, final ByteRange range) {
+        final var location = anImage.getLocation();
+        if (location == null || anImage.getChecksum() == null) {
+            return this.delegate.openImage(store, anProductId, anImage, range);
+        }
+        final var key = key(anProductId, location, anImage.getChecksum());
+        final var cached = this.contents.view(key);
+        if (cached.isPresent()) {
+            return Optional.of(slice(cached.get(), range));
+        }
+        // only a whole read can fill the cache, a range goes straight to the storage
+        if (!range.isAll()) {
+            return this.delegate.openImage(store, anProductId, anImage, range);
+        }
+        final var uncached = new AtomicReference<ImageContent>();
+        final var found = this.fills.load(key, () -> fill(store, anProductId, anImage, key, uncached));
+        if (uncached.get() != null) {
+            return Optional.of(uncached.get());
+        }
+        if (!found) {
+            return Optional.empty();
+        }
+        // e.g. a checksum that no longer matches the stored content
+        return this.contents.view(key)
+                .map(it -> slice(it, range))
+                .or(() -> this.delegate.openImage(store, anProductId, anImage, range));
+    }
+
+    // runs on the thread of the first miss only, which gets the content itself when it cannot be cached
+    private boolean fill(
+            final Store store,
+            final ProductID anProductId,
+            final ProductImage anImage,
+            final String key,
+            final AtomicReference<ImageContent> uncached
+    ) {
+        final var opened = this.delegate.openImage(store, anProductId, anImage, ByteRange.all());
+        if (opened.isEmpty()) {
+            return false;
+        }
+        final var content = opened.get();
+        if (!content.isSatisfiable() || !this.contents.fits(content.size())) {
+            uncached.set(content);
+            return true;
+        }
+        try (final var stream = this.contents.filling(key, anImage.getChecksum(), content.size(), content.stream())) {
+            stream.transferTo(OutputStream.nullOutputStream());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+
+    private static ImageContent slice(final ByteBuffer buffer, final ByteRange range) {
+        final long size = buffer.remaining();
+        if (!range.isSatisfiable(size)) {
+            return ImageContent.unsatisfiable(size);
+        }
+        final var start = range.start(size);
+        final var length = range.length(size);
+        buffer.position((int) start).limit((int) (start + length));
+        return ImageContent.with(size, start, length, new ByteBufferInputStream(buffer));
+    }
+
+    @Override
+    public Optional<ImageContent> openVariant(final Store store, final ProductID anProductId, final ProductImage anImage, final int size, final ByteRange range) {
+        return this.delegate.openVariant(store, anProductId, anImage, size, range);
+    }
+
+    @Override
+    public void clearImages(final Store store, final ProductID anId) {
+        this.delegate.clearImages(store, anId);
+        this.contents.evictAll(prefix(anId));
+    }
+
+    private static String key(final ProductID anId, final String location, final String checksum) {
+        return prefix(anId) + location + "#" + checksum;
+    }
+
+    private static String prefix(final ProductID anId) {
+        return anId.getValue() + "|";
+    }
+}
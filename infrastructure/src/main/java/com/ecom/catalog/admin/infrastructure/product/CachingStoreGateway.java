@@ -0,0 +1,35 @@
+package com.ecom.catalog.admin.infrastructure.product;
+
+import com.ecom.catalog.admin.domain.product.Store;
+import com.ecom.catalog.admin.domain.product.StoreGateway;
+import com.ecom.catalog.admin.infrastructure.cache.ExistenceCache;
+
+import java.util.Objects;
+
+/**
+ * Answers {@link #existsById(String)} from an {@link ExistenceCache} shared by every gateway
+ * wrapping the same table, kept current by the creations going through it.
+ */
+public class CachingStoreGateway implements StoreGateway {
+
+    private final StoreGateway delegate;
+
+    private final ExistenceCache existence;
+
+    public CachingStoreGateway(final StoreGateway delegate, final ExistenceCache existence) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.existence = Objects.requireNonNull(existence);
+    }
+
+    @Override
+    public Store create(final Store aStore) {
+        final var aCreated = this.delegate.create(aStore);
+        this.existence.added(aCreated.getId());
+        return aCreated;
+    }
+
+    @Override
+    public boolean existsById(final String anId) {
+        return this.existence.exists(anId, this.delegate::existsById);
+    }
+}
@@ -0,0 +1,117 @@
+package com.ecom.catalog.admin.infrastructure.product;
+
+import com.ecom.catalog.admin.domain.product.*;
+import com.ecom.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
+import com.ecom.catalog.admin.infrastructure.services.StorageService;
+import com.ecom.catalog.admin.infrastructure.utils.HashingUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Stores each image under a key derived from its content instead of under the product, so the
+ * same image uploaded for many products is stored once and only referenced by the others. The
+ * key is the CRC32C checksum and the size of the content, or its SHA-256 digest when
+ * {@code storage.product-catalog.strong-hash} is set and checksum collisions must not share a blob.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.product-catalog.content-addressed", havingValue = "true")
+public class ContentAddressedProductImageGateway implements ProductImageGateway {
+
+    private static final String BLOBS_FOLDER = "blobs";
+
+    private final ImageBlobStore blobs;
+    private final StorageService storageService;
+    private final boolean strongHash;
+
+    public ContentAddressedProductImageGateway(
+            final StorageProperties props,
+            final ImageBlobStore blobs,
+            final StorageService storageService
+    ) {
+        this(blobs, storageService, props.isStrongHash());
+    }
+
+    public ContentAddressedProductImageGateway(
+            final ImageBlobStore blobs,
+            final StorageService storageService,
+            final boolean strongHash
+    ) {
+        this.blobs = Objects.requireNonNull(blobs);
+        this.storageService = Objects.requireNonNull(storageService);
+        this.strongHash = strongHash;
+    }
+
+    @Override
+    public ProductImage create(final Store store, final ProductID anId, final ProductImage image) {
+        return acquire(anId, image);
+    }
+
+    @Override
+    public Set<ProductImage> create(final Store store, final ProductID anId, final Set<ProductImage> images) {
+        final var blobs = images.stream()
+                .map(img -> acquire(anId, img))
+                .collect(Collectors.toSet());
+        // the set replaces the images of the product, the blobs only the previous ones used are released
+        this.blobs.release(anId.getValue(), blobs.stream()
+                .map(ProductImage::getLocation)
+                .collect(Collectors.toSet()));
+        return blobs;
+    }
+
+    @Override
+    public Optional<ProductImage> getImage(final Store store, final ProductID anProductId, final ProductImage anImage) {
+        // the location is the blob key, or the path of an image stored before the blobs
+        return Optional.ofNullable(anImage.getLocation()).flatMap(this.storageService::get);
+    }
+
+    @Override
+    public Optional<ImageContent> openImage(final Store store, final ProductID anProductId, final ProductImage anImage, final ByteRange range) {
+        return Optional.ofNullable(anImage.getLocation()).flatMap(location -> this.storageService.open(location, range));
+    }
+
+    @Override
+    public Optional<ImageContent> openVariant(final Store store, final ProductID anProductId, final ProductImage anImage, final int size, final ByteRange range) {
+        return Optional.ofNullable(anImage.getLocation())
+                .flatMap(location -> this.storageService.open(ImageVariantPipeline.location(location, size), range));
+    }
+
+    @Override
+    public void clearImages(final Store store, final ProductID anId) {
+        this.blobs.release(anId.getValue(), Set.of());
+    }
+
+    private ProductImage acquire(final ProductID anId, final ProductImage image) {
+        final var blob = ProductImage.with(image, keyOf(image));
+        try {
+            this.blobs.acquire(anId.getValue(), blob);
+        } catch (final DataIntegrityViolationException | ConcurrencyFailureException e) {
+            // a concurrent first upload of the same content created the row, it is only referenced now
+            this.blobs.acquire(anId.getValue(), blob);
+        }
+        return blob;
+    }
+
+    private String keyOf(final ProductImage image) {
+        final var hash = this.strongHash
+                ? strongHashOf(image.getContent())
+                : image.getChecksum() + "-" + image.getContent().size();
+        return "%s/%s/%s".formatted(BLOBS_FOLDER, hash.substring(0, 2), hash);
+    }
+
+    private static String strongHashOf(final ContentHandle content) {
+        try (final var stream = content.open()) {
+            return HashingUtils.strongChecksum(stream);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,34 +1,90 @@
 package com.ecom.catalog.admin.infrastructure.product;
 
+import com.ecom.catalog.admin.domain.exceptions.DomainException;
 import com.ecom.catalog.admin.domain.pagination.Pagination;
 import com.ecom.catalog.admin.domain.pagination.SearchQuery;
 import com.ecom.catalog.admin.domain.product.Product;
+import com.ecom.catalog.admin.domain.product.ProductFacets;
+import com.ecom.catalog.admin.domain.product.ProductFilter;
 import com.ecom.catalog.admin.domain.product.ProductGateway;
 import com.ecom.catalog.admin.domain.product.ProductID;
 import com.ecom.catalog.admin.domain.product.ProductImageID;
+import com.ecom.catalog.admin.domain.product.ProductPreview;
+import com.ecom.catalog.admin.domain.product.ProductStatus;
+import com.ecom.catalog.admin.domain.validation.Error;
+import com.ecom.catalog.admin.infrastructure.changes.CatalogChange;
+import com.ecom.catalog.admin.infrastructure.changes.CatalogChangeLog;
+import com.ecom.catalog.admin.infrastructure.pagination.SpecificationPager;
 import com.ecom.catalog.admin.infrastructure.product.persistence.ProductJpaEntity;
+import com.ecom.catalog.admin.infrastructure.product.persistence.ProductPreviewProjection;
 import com.ecom.catalog.admin.infrastructure.product.persistence.ProductRepository;
+import com.ecom.catalog.admin.infrastructure.utils.DatabaseUtils;
 import com.ecom.catalog.admin.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.PageRequest;
+import com.ecom.catalog.admin.infrastructure.utils.SqlUtils;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-import static org.springframework.data.jpa.domain.Specification.where;
-
 @Component
 public class DefaultProductGateway implements ProductGateway {
 
+    private static final int EXPORT_FETCH_SIZE = 1_000;
+
+    private static final Duration FACETS_TTL = Duration.ofSeconds(30);
+
+    private static final long FACETS_CACHE_SIZE = 1_000;
+
+    private static final String CATEGORY = "category.id";
+
+    private static final String STATUS = "status";
+
+    private static final String STORE = "store.id";
+
+    private static final Set<String> SORTABLE = Set.of("name", "createdAt", SpecificationPager.RELEVANCE);
+
     private final ProductRepository productRepository;
 
-    public DefaultProductGateway(ProductRepository productRepository) {
+    private final EntityManager entityManager;
+
+    private final SpecificationPager<ProductJpaEntity> pager;
+
+    private final Cache<String, ProductFacets> facets;
+
+    private final CatalogChangeLog changeLog;
+
+    private final ProductDocumentStore documents;
+
+    public DefaultProductGateway(
+            ProductRepository productRepository,
+            EntityManager entityManager,
+            CatalogChangeLog changeLog,
+            ProductDocumentStore documents
+    ) {
         this.productRepository = Objects.requireNonNull(productRepository);
+        this.documents = Objects.requireNonNull(documents);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.changeLog = Objects.requireNonNull(changeLog);
+        this.pager = new SpecificationPager<>(entityManager, ProductJpaEntity.class);
+        this.facets = CacheBuilder.newBuilder()
+                .expireAfterWrite(FACETS_TTL)
+                .maximumSize(FACETS_CACHE_SIZE)
+                .build();
     }
 
     @Override
@@ -44,6 +100,11 @@ public class DefaultProductGateway implements ProductGateway {
                 .map(ProductJpaEntity::toAggregate);
     }
 
+    @Override
+    public Optional<Instant> findUpdatedAtById(final ProductID anId) {
+        return this.productRepository.findUpdatedAtById(anId.getValue());
+    }
+
     @Override
     public Optional<Product> findByImageId(final ProductImageID imageId) {
         return this.productRepository.findByImageId(imageId)
@@ -51,32 +112,76 @@ public class DefaultProductGateway implements ProductGateway {
     }
 
     @Override
+    @Transactional
     public Product update(final Product aProduct) {
         return save(aProduct);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Pagination<Product> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+        return findAll(aQuery, ProductFilter.empty());
+    }
 
-        final var where = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<Product> findAll(final SearchQuery aQuery, final ProductFilter aFilter) {
+        return this.pager.findAll(assembleSpecification(aQuery, aFilter), aQuery, aFilter.cacheKey())
+                .map(ProductJpaEntity::toPartialAggregate);
+    }
 
-        final var pageResult = this.productRepository.findAll(where(where), page);
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<ProductPreview> findAllPreviews(final SearchQuery aQuery, final ProductFilter aFilter) {
+        return this.pager.findAll(assembleSpecification(aQuery, aFilter), aQuery, aFilter.cacheKey(), ProductPreviewProjection.INSTANCE);
+    }
 
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(ProductJpaEntity::toPartialAggregate).toList()
-        );
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductPreview> findAllPreviewsByIds(final Iterable<ProductID> ids) {
+        final var values = StreamSupport.stream(ids.spliterator(), false)
+                .map(ProductID::getValue)
+                .toList();
+        if (values.isEmpty()) {
+            return List.of();
+        }
+        return this.pager.list(SpecificationUtils.in("id", values), ProductPreviewProjection.INSTANCE);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachPreview(final ProductFilter aFilter, final Consumer<ProductPreview> aConsumer) {
+        final var where = assembleSpecification(aFilter);
+        try (final var previews = this.pager.stream(where, Sort.by("id"), ProductPreviewProjection.INSTANCE, EXPORT_FETCH_SIZE)) {
+            previews.forEach(aConsumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductFacets facets(final SearchQuery aQuery, final ProductFilter aFilter) {
+        final var key = SpecificationPager.keyOf(aQuery.terms(), aFilter.cacheKey());
+        final var cached = this.facets.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final var where = assembleSpecification(aQuery.terms(), false, aFilter);
 
+        // a single aggregate over the three columns, rolled up into one facet per column here
+        final var categories = new HashMap<String, Long>();
+        final var statuses = new EnumMap<ProductStatus, Long>(ProductStatus.class);
+        final var stores = new HashMap<String, Long>();
+        for (final var row : this.pager.countBy(where, List.of(CATEGORY, STATUS, STORE))) {
+            final var count = row.get(SpecificationPager.COUNT, Long.class);
+            categories.merge(row.get(CATEGORY, String.class), count, Long::sum);
+            statuses.merge(row.get(STATUS, ProductStatus.class), count, Long::sum);
+            stores.merge(row.get(STORE, String.class), count, Long::sum);
+        }
+
+        final var aFacets = ProductFacets.with(categories, statuses, stores);
+        this.facets.put(key, aFacets);
+        return aFacets;
     }
 
     @Override
@@ -90,11 +195,62 @@ public class DefaultProductGateway implements ProductGateway {
     }
 
     private Product save(final Product aProduct) {
-        return this.productRepository.save(ProductJpaEntity.from(aProduct))
+        final var saved = this.productRepository.save(ProductJpaEntity.from(aProduct))
                 .toAggregate();
+        this.documents.save(saved);
+        this.changeLog.saved(CatalogChange.Type.PRODUCT, saved.getId().getValue());
+        return saved;
+    }
+
+    private Specification<ProductJpaEntity> assembleSpecification(final SearchQuery aQuery, final ProductFilter aFilter) {
+        // only columns backed by an index, any other sort would be a filesort over the whole table
+        if (!SORTABLE.contains(aQuery.sort())) {
+            throw DomainException.with(new Error("'sort' should be one of name, createdAt or relevance"));
+        }
+
+        return assembleSpecification(aQuery.terms(), SpecificationPager.RELEVANCE.equals(aQuery.sort()), aFilter);
+    }
+
+    private Specification<ProductJpaEntity> assembleSpecification(
+            final String terms,
+            final boolean byRelevance,
+            final ProductFilter aFilter
+    ) {
+        final var match = Optional.ofNullable(terms)
+                .filter(str -> !str.isBlank())
+                .map(it -> assembleSpecification(it, byRelevance))
+                .orElse(null);
+
+        return Stream.of(match, assembleSpecification(aFilter))
+                .filter(Objects::nonNull)
+                .reduce(Specification::and)
+                .orElse(null);
+    }
+
+    private Specification<ProductJpaEntity> assembleSpecification(final ProductFilter aFilter) {
+        return Stream.of(
+                        Optional.ofNullable(aFilter.storeId())
+                                .map(id -> SpecificationUtils.<ProductJpaEntity>equal("store.id", id))
+                                .orElse(null),
+                        Optional.ofNullable(aFilter.categoryId())
+                                .map(id -> SpecificationUtils.<ProductJpaEntity>equal("category.id", id.getValue()))
+                                .orElse(null),
+                        Optional.ofNullable(aFilter.status())
+                                .map(status -> SpecificationUtils.<ProductJpaEntity>equal("status", status))
+                                .orElse(null),
+                        aFilter.inStock() ? SpecificationUtils.<ProductJpaEntity>greaterThan("stock", 0) : null
+                )
+                .filter(Objects::nonNull)
+                .reduce(Specification::and)
+                .orElse(null);
     }
 
-    private Specification<ProductJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+    private Specification<ProductJpaEntity> assembleSpecification(final String terms, final boolean byRelevance) {
+        // FULLTEXT indexes only exist on MySQL, H2 keeps the LIKE scan over the same columns
+        return SqlUtils.fullText(terms)
+                .filter(query -> DatabaseUtils.isMySQL(this.entityManager))
+                .map(query -> SpecificationUtils.<ProductJpaEntity>match("name", "description", query, byRelevance))
+                .orElseGet(() -> SpecificationUtils.<ProductJpaEntity>like("name", terms)
+                        .or(SpecificationUtils.like("description", terms)));
     }
 }
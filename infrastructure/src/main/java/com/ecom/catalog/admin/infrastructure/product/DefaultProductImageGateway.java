@@ -1,8 +1,11 @@
 package com.ecom.catalog.admin.infrastructure.product;
 
+import com.ecom.catalog.admin.domain.exceptions.DomainException;
 import com.ecom.catalog.admin.domain.product.*;
+import com.ecom.catalog.admin.domain.validation.Error;
 import com.ecom.catalog.admin.infrastructure.configuration.properties.storage.StorageProperties;
 import com.ecom.catalog.admin.infrastructure.services.StorageService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
@@ -10,6 +13,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
+@ConditionalOnProperty(name = "storage.product-catalog.content-addressed", havingValue = "false", matchIfMissing = true)
 public class DefaultProductImageGateway implements ProductImageGateway {
 
 
@@ -42,6 +46,16 @@ public class DefaultProductImageGateway implements ProductImageGateway {
         return this.storageService.get(filepath(store, anProductId, anImage.getName()));
     }
 
+    @Override
+    public Optional<ImageContent> openImage(Store store, ProductID anProductId, ProductImage anImage, ByteRange range) {
+        return this.storageService.open(filepath(store, anProductId, anImage.getName()), range);
+    }
+
+    @Override
+    public Optional<ImageContent> openVariant(Store store, ProductID anProductId, ProductImage anImage, int size, ByteRange range) {
+        return this.storageService.open(ImageVariantPipeline.location(filepath(store, anProductId, anImage.getName()), size), range);
+    }
+
     @Override
     public void clearImages(Store store, ProductID anId) {
         final var ids = this.storageService.list(folder(store, anId));
@@ -64,6 +78,15 @@ public class DefaultProductImageGateway implements ProductImageGateway {
     private String filepath(Store store, ProductID anId, String fileName) {
         return folder(store, anId)
                 .concat("/")
-                .concat(fileName);
+                .concat(sanitize(fileName));
+    }
+
+    // the name comes from the client, only its last segment is kept so it stays in the folder of the product
+    private static String sanitize(final String fileName) {
+        final var name = fileName.substring(Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\')) + 1);
+        if (name.isBlank() || name.equals(".") || name.equals("..")) {
+            throw DomainException.with(new Error("'%s' is not a valid image name".formatted(fileName)));
+        }
+        return name;
     }
 }
@@ -0,0 +1,112 @@
+package com.ecom.catalog.admin.infrastructure.product;
+
+import com.ecom.catalog.admin.domain.product.ProductImage;
+import com.ecom.catalog.admin.infrastructure.product.persistence.ImageBlobJpaEntity;
+import com.ecom.catalog.admin.infrastructure.product.persistence.ImageBlobRefJpaEntity;
+import com.ecom.catalog.admin.infrastructure.product.persistence.ImageBlobRefRepository;
+import com.ecom.catalog.admin.infrastructure.product.persistence.ImageBlobRepository;
+import com.ecom.catalog.admin.infrastructure.services.StorageService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Image contents stored once per content key, whatever the number of products showing them. The
+ * {@code image_blobs} row of a key counts the products referencing it, {@code image_blob_refs}
+ * tells which ones, and a blob is deleted with the last reference to it. Files are deleted only once
+ * the row is gone for good, a failure in between leaves an orphan file rather than a row without one.
+ */
+@Component
+public class ImageBlobStore {
+
+    private final ImageBlobRepository blobRepository;
+
+    private final ImageBlobRefRepository refRepository;
+
+    private final StorageService storageService;
+
+    public ImageBlobStore(
+            final ImageBlobRepository blobRepository,
+            final ImageBlobRefRepository refRepository,
+            final StorageService storageService
+    ) {
+        this.blobRepository = Objects.requireNonNull(blobRepository);
+        this.refRepository = Objects.requireNonNull(refRepository);
+        this.storageService = Objects.requireNonNull(storageService);
+    }
+
+    /**
+     * References the blob stored at the location of the given image, storing its content only if
+     * no product references it yet.
+     */
+    @Transactional
+    public void acquire(final String aProductId, final ProductImage aBlob) {
+        final var ref = ImageBlobRefJpaEntity.with(aProductId, aBlob.getLocation());
+        if (this.refRepository.existsById(ref.getId())) {
+            return;
+        }
+        final var existing = this.blobRepository.findForUpdate(aBlob.getLocation());
+        if (existing.isPresent()) {
+            existing.get().acquire();
+        } else {
+            // a row exists only once its content is stored, a concurrent first upload of the same content stores the same bytes
+            this.storageService.store(Set.of(aBlob));
+            this.blobRepository.save(ImageBlobJpaEntity.newBlob(aBlob.getLocation(), aBlob.getContent().size()));
+        }
+        this.refRepository.save(ref);
+    }
+
+    /**
+     * Drops every reference of the product but the given keys, deleting the blobs left unreferenced.
+     */
+    @Transactional
+    public void release(final String aProductId, final Set<String> keep) {
+        for (final var ref : this.refRepository.findAllByProductId(aProductId)) {
+            if (keep.contains(ref.getBlobKey())) {
+                continue;
+            }
+            this.refRepository.delete(ref);
+            this.blobRepository.findForUpdate(ref.getBlobKey()).ifPresent(blob -> {
+                if (blob.release() > 0) {
+                    return;
+                }
+                this.blobRepository.delete(blob);
+                deleteFilesAfterCommit(blob.getBlobKey());
+            });
+        }
+    }
+
+    private void deleteFilesAfterCommit(final String aKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteFilesIfUnreferenced(aKey);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteFilesIfUnreferenced(aKey);
+            }
+        });
+    }
+
+    // an upload of the same content committed in between owns the files again
+    private void deleteFilesIfUnreferenced(final String aKey) {
+        if (this.blobRepository.existsById(aKey)) {
+            return;
+        }
+        this.storageService.deleteAll(filesOf(aKey));
+    }
+
+    // the blob and its resized variants
+    private List<String> filesOf(final String aKey) {
+        final var variants = aKey + "@";
+        return this.storageService.list(aKey).stream()
+                .filter(name -> name.equals(aKey) || name.startsWith(variants))
+                .toList();
+    }
+}
@@ -0,0 +1,178 @@
+package com.ecom.catalog.admin.infrastructure.product;
+
+import com.ecom.catalog.admin.domain.product.ByteRange;
+import com.ecom.catalog.admin.domain.product.ProductImage;
+import com.ecom.catalog.admin.infrastructure.services.StorageService;
+import com.ecom.catalog.admin.infrastructure.utils.HashingUtils;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates the resized variants of the stored images in the background, on a bounded pool so a
+ * burst of uploads queues up instead of decoding every image at once. A variant is stored next
+ * to its original, and until it is there the original is served in its place. Images with more
+ * than {@code maxPixels} pixels are never decoded, they are only served as their original.
+ */
+public class ImageVariantPipeline implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageVariantPipeline.class);
+
+    private final StorageService storageService;
+
+    private final List<Integer> sizes;
+
+    private final long maxPixels;
+
+    private final ThreadPoolExecutor workers;
+
+    public ImageVariantPipeline(
+            final StorageService storageService,
+            final List<Integer> sizes,
+            final long maxPixels,
+            final int workers,
+            final int queueCapacity
+    ) {
+        this.storageService = Objects.requireNonNull(storageService);
+        this.sizes = sizes.stream().sorted().toList();
+        this.maxPixels = maxPixels;
+        this.workers = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new ThreadFactoryBuilder().setNameFormat("image-variants-%d").setDaemon(true).build(),
+                // a dropped image keeps being served as its original
+                (job, executor) -> log.warn("Image variants queue is full, skipping a job"));
+    }
+
+    public static String location(final String aLocation, final int aSize) {
+        return "%s@%d".formatted(aLocation, aSize);
+    }
+
+    public void submit(final Set<ProductImage> images) {
+        images.forEach(image -> this.workers.execute(() -> generate(image)));
+    }
+
+    public int pending() {
+        return this.workers.getQueue().size() + this.workers.getActiveCount();
+    }
+
+    void generate(final ProductImage anImage) {
+        try {
+            final var variants = resize(anImage);
+            if (!variants.isEmpty()) {
+                this.storageService.store(Set.copyOf(variants));
+            }
+        } catch (final Exception e) {
+            log.warn("Could not generate the variants of {}", anImage.getLocation(), e);
+        }
+    }
+
+    private List<ProductImage> resize(final ProductImage anImage) throws IOException {
+        final var aContent = this.storageService.open(anImage.getLocation(), ByteRange.all());
+        if (aContent.isEmpty()) {
+            // cleared before its turn came
+            return List.of();
+        }
+        try (final var content = aContent.get();
+             final var input = ImageIO.createImageInputStream(content.stream())) {
+            final var reader = readerOf(input);
+            if (reader.isEmpty()) {
+                return List.of();
+            }
+            final var aReader = reader.get();
+            try {
+                aReader.setInput(input, true, true);
+                // read from the header, before any pixel is decoded
+                final var width = aReader.getWidth(0);
+                final var height = aReader.getHeight(0);
+                if ((long) width * height > this.maxPixels) {
+                    log.warn("Skipping the variants of {}, {}x{} is over the budget of {} pixels", anImage.getLocation(), width, height, this.maxPixels);
+                    return List.of();
+                }
+                final var sizes = this.sizes.stream().filter(size -> size < width).toList();
+                if (sizes.isEmpty()) {
+                    return List.of();
+                }
+                // decoding every other pixel or more on both axes is enough for the largest variant, and a fraction of the memory
+                final var largest = sizes.get(sizes.size() - 1);
+                final var largestHeight = Math.max(1, (int) ((long) height * largest / width));
+                final var subsampling = Math.max(1, Math.min(width / (2 * largest), height / (2 * largestHeight)));
+                final var params = aReader.getDefaultReadParam();
+                params.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                final var source = aReader.read(0, params);
+                final var format = aReader.getFormatName();
+
+                final var variants = new ArrayList<ProductImage>();
+                for (final var size : sizes) {
+                    final var bytes = encode(scale(source, size, hasAlpha(format)), format);
+                    if (bytes.length > 0) {
+                        variants.add(ProductImage.with(
+                                HashingUtils.checksum(bytes),
+                                bytes,
+                                anImage.getName(),
+                                location(anImage.getLocation(), size),
+                                anImage.isFeatured()));
+                    }
+                }
+                return variants;
+            } finally {
+                aReader.dispose();
+            }
+        }
+    }
+
+    private static Optional<ImageReader> readerOf(final Object input) {
+        if (input == null) {
+            return Optional.empty();
+        }
+        final var readers = ImageIO.getImageReaders(input);
+        return readers.hasNext() ? Optional.of(readers.next()) : Optional.empty();
+    }
+
+    private static boolean hasAlpha(final String format) {
+        return !"jpeg".equalsIgnoreCase(format) && !"bmp".equalsIgnoreCase(format);
+    }
+
+    private static BufferedImage scale(final BufferedImage source, final int width, final boolean alpha) {
+        final var height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+        final var target = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        final var graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // empty when there is no writer for the format, the original is served then
+    private static byte[] encode(final BufferedImage image, final String format) throws IOException {
+        final var out = new ByteArrayOutputStream();
+        return ImageIO.write(image, format, out) ? out.toByteArray() : new byte[0];
+    }
+
+    @Override
+    public void close() {
+        this.workers.shutdownNow();
+    }
+}
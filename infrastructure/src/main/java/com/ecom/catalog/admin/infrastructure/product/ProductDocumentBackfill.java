@@ -0,0 +1,47 @@
+package com.ecom.catalog.admin.infrastructure.product;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Renders the documents of the products saved before the product_documents table existed. SQL
+ * can't produce the response JSON, so the backfill runs once the application is up, one batch
+ * per transaction; until then those products are assembled on every read as before.
+ */
+@Component
+public class ProductDocumentBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductDocumentBackfill.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ProductDocumentStore documents;
+
+    public ProductDocumentBackfill(final ProductDocumentStore documents) {
+        this.documents = Objects.requireNonNull(documents);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        var total = 0L;
+        int rendered;
+        try {
+            do {
+                rendered = this.documents.backfill(BATCH_SIZE);
+                total += rendered;
+            } while (rendered == BATCH_SIZE);
+        } catch (final DataIntegrityViolationException e) {
+            // another node started at the same time and got to this batch first, it renders the rest
+            log.info("Product documents are being rendered by another node");
+        }
+        if (total > 0) {
+            log.info("Rendered {} missing product documents", total);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.ecom.catalog.admin.infrastructure.product;
+
+import com.ecom.catalog.admin.application.product.retrieve.get.ProductOutput;
+import com.ecom.catalog.admin.domain.product.Product;
+import com.ecom.catalog.admin.infrastructure.configuration.json.Json;
+import com.ecom.catalog.admin.infrastructure.product.persistence.ProductDocumentJpaEntity;
+import com.ecom.catalog.admin.infrastructure.product.persistence.ProductDocumentRepository;
+import com.ecom.catalog.admin.infrastructure.product.persistence.ProductJpaEntity;
+import com.ecom.catalog.admin.infrastructure.product.persistence.ProductRepository;
+import com.ecom.catalog.admin.infrastructure.product.presenters.ProductApiPresenter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Pre-rendered JSON of every {@link com.ecom.catalog.admin.infrastructure.product.models.ProductResponse},
+ * written with the product in the same transaction so {@code GET /products/{id}} is a single
+ * primary key read with nothing to assemble or serialize.
+ */
+@Component
+public class ProductDocumentStore {
+
+    private final ProductDocumentRepository documentRepository;
+
+    private final ProductRepository productRepository;
+
+    public ProductDocumentStore(final ProductDocumentRepository documentRepository, final ProductRepository productRepository) {
+        this.documentRepository = Objects.requireNonNull(documentRepository);
+        this.productRepository = Objects.requireNonNull(productRepository);
+    }
+
+    public Optional<byte[]> find(final String anId) {
+        return this.documentRepository.findDocumentById(anId);
+    }
+
+    public void save(final Product aProduct) {
+        this.documentRepository.save(ProductDocumentJpaEntity.with(
+                aProduct.getId().getValue(),
+                render(aProduct),
+                aProduct.getUpdatedAt()
+        ));
+    }
+
+    /**
+     * Renders the documents of up to {@code aBatchSize} products that have none yet.
+     *
+     * @return how many documents were written
+     */
+    @Transactional
+    public int backfill(final int aBatchSize) {
+        final var ids = this.documentRepository.findProductIdsWithoutDocument(PageRequest.of(0, aBatchSize));
+        this.productRepository.findAllById(ids).stream()
+                .map(ProductJpaEntity::toAggregate)
+                .forEach(this::save);
+        return ids.size();
+    }
+
+    public static byte[] render(final Product aProduct) {
+        return Json.writeValueAsBytes(ProductApiPresenter.present(ProductOutput.from(aProduct)));
+    }
+}
@@ -4,6 +4,8 @@ import com.ecom.catalog.admin.domain.category.CategoryID;
 import com.ecom.catalog.admin.domain.pagination.Pagination;
 import com.ecom.catalog.admin.domain.pagination.SearchQuery;
 import com.ecom.catalog.admin.domain.product.*;
+import com.ecom.catalog.admin.infrastructure.changes.CatalogChange;
+import com.ecom.catalog.admin.infrastructure.changes.CatalogChangeLog;
 import com.ecom.catalog.admin.infrastructure.product.persistence.ProductJpaEntity;
 import com.ecom.catalog.admin.infrastructure.product.persistence.StoreJpaEntity;
 import com.ecom.catalog.admin.infrastructure.product.persistence.StoreRepository;
@@ -12,6 +14,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -25,22 +28,29 @@ public class StoreMySQLGateway implements StoreGateway {
 
     private final StoreRepository repository;
 
-    public StoreMySQLGateway(StoreRepository repository) {
+    private final CatalogChangeLog changeLog;
+
+    public StoreMySQLGateway(StoreRepository repository, CatalogChangeLog changeLog) {
         this.repository = Objects.requireNonNull(repository);
+        this.changeLog = Objects.requireNonNull(changeLog);
     }
 
     @Override
+    @Transactional
     public Store create(Store aStore) {
         return save(aStore);
     }
 
     @Override
     public boolean existsById(String id) {
-        return this.repository.existsById(id);
+        // by id instead of a count query, so it is answered by the second-level cache
+        return this.repository.findById(id).isPresent();
     }
 
     private Store save(final Store aStore) {
-        return this.repository.save(StoreJpaEntity.from(aStore))
+        final var saved = this.repository.save(StoreJpaEntity.from(aStore))
                 .toAggregate();
+        this.changeLog.saved(CatalogChange.Type.STORE, saved.getId());
+        return saved;
     }
 }
@@ -0,0 +1,57 @@
+package com.ecom.catalog.admin.infrastructure.product;
+
+import com.ecom.catalog.admin.domain.product.*;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Hands every image stored by the create, update and upload use cases to the
+ * {@link ImageVariantPipeline}, once its original is stored.
+ */
+public class VariantGeneratingProductImageGateway implements ProductImageGateway {
+
+    private final ProductImageGateway delegate;
+
+    private final ImageVariantPipeline pipeline;
+
+    public VariantGeneratingProductImageGateway(final ProductImageGateway delegate, final ImageVariantPipeline pipeline) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.pipeline = Objects.requireNonNull(pipeline);
+    }
+
+    @Override
+    public ProductImage create(final Store store, final ProductID anId, final ProductImage image) {
+        final var stored = this.delegate.create(store, anId, image);
+        this.pipeline.submit(Set.of(stored));
+        return stored;
+    }
+
+    @Override
+    public Set<ProductImage> create(final Store store, final ProductID anId, final Set<ProductImage> images) {
+        final var stored = this.delegate.create(store, anId, images);
+        this.pipeline.submit(stored);
+        return stored;
+    }
+
+    @Override
+    public Optional<ProductImage> getImage(final Store store, final ProductID anProductId, final ProductImage image) {
+        return this.delegate.getImage(store, anProductId, image);
+    }
+
+    @Override
+    public Optional<ImageContent> openImage(final Store store, final ProductID anProductId, final ProductImage image, final ByteRange range) {
+        return this.delegate.openImage(store, anProductId, image, range);
+    }
+
+    @Override
+    public Optional<ImageContent> openVariant(final Store store, final ProductID anProductId, final ProductImage image, final int size, final ByteRange range) {
+        return this.delegate.openVariant(store, anProductId, image, size, range);
+    }
+
+    @Override
+    public void clearImages(final Store store, final ProductID anId) {
+        this.delegate.clearImages(store, anId);
+    }
+}
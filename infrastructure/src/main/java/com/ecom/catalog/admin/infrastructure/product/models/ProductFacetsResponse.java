@@ -0,0 +1,12 @@
+package com.ecom.catalog.admin.infrastructure.product.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Map;
+
+public record ProductFacetsResponse(
+        @JsonProperty("categories") Map<String, Long> categories,
+        @JsonProperty("status") Map<String, Long> status,
+        @JsonProperty("stores") Map<String, Long> stores
+) {
+}
@@ -7,7 +7,8 @@ public record ProductImageResponse(
         @JsonProperty("checksum") String checksum,
         @JsonProperty("name") String name,
         @JsonProperty("location") String location,
-        @JsonProperty("featured") boolean featured
+        @JsonProperty("featured") boolean featured,
+        @JsonProperty("uri") String uri
 
 ) {
 }
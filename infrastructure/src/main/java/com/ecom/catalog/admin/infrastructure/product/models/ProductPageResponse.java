@@ -0,0 +1,15 @@
+package com.ecom.catalog.admin.infrastructure.product.models;
+
+import com.ecom.catalog.admin.domain.pagination.Pagination;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+/**
+ * A page of products, with the facets block only when it was asked for.
+ */
+public record ProductPageResponse(
+        @JsonUnwrapped Pagination<ProductListResponse> page,
+        @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("facets") ProductFacetsResponse facets
+) {
+}
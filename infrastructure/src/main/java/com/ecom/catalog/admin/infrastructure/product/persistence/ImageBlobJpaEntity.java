@@ -0,0 +1,71 @@
+package com.ecom.catalog.admin.infrastructure.product.persistence;
+
+import com.ecom.catalog.admin.domain.utils.InstantUtils;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+
+@Entity(name = "ImageBlob")
+@Table(name = "image_blobs")
+public class ImageBlobJpaEntity {
+
+    @Id
+    @Column(name = "blob_key", nullable = false)
+    private String blobKey;
+
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    public ImageBlobJpaEntity() {
+    }
+
+    private ImageBlobJpaEntity(final String blobKey, final long size, final int refCount, final Instant updatedAt) {
+        this.blobKey = blobKey;
+        this.size = size;
+        this.refCount = refCount;
+        this.updatedAt = updatedAt;
+    }
+
+    public static ImageBlobJpaEntity newBlob(final String blobKey, final long size) {
+        return new ImageBlobJpaEntity(blobKey, size, 1, InstantUtils.now());
+    }
+
+    public void acquire() {
+        this.refCount++;
+        this.updatedAt = InstantUtils.now();
+    }
+
+    /**
+     * @return how many references are left
+     */
+    public int release() {
+        this.refCount = Math.max(0, this.refCount - 1);
+        this.updatedAt = InstantUtils.now();
+        return this.refCount;
+    }
+
+    public String getBlobKey() {
+        return blobKey;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public int getRefCount() {
+        return refCount;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
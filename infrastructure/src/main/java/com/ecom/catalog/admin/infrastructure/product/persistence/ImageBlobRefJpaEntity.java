@@ -0,0 +1,77 @@
+package com.ecom.catalog.admin.infrastructure.product.persistence;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Table;
+import java.io.Serializable;
+import java.util.Objects;
+
+@Entity(name = "ImageBlobRef")
+@Table(name = "image_blob_refs")
+@IdClass(ImageBlobRefJpaEntity.ID.class)
+public class ImageBlobRefJpaEntity {
+
+    @Id
+    @Column(name = "product_id", nullable = false)
+    private String productId;
+
+    @Id
+    @Column(name = "blob_key", nullable = false)
+    private String blobKey;
+
+    public ImageBlobRefJpaEntity() {
+    }
+
+    private ImageBlobRefJpaEntity(final String productId, final String blobKey) {
+        this.productId = productId;
+        this.blobKey = blobKey;
+    }
+
+    public static ImageBlobRefJpaEntity with(final String productId, final String blobKey) {
+        return new ImageBlobRefJpaEntity(productId, blobKey);
+    }
+
+    public ID getId() {
+        return new ID(productId, blobKey);
+    }
+
+    public String getProductId() {
+        return productId;
+    }
+
+    public String getBlobKey() {
+        return blobKey;
+    }
+
+    public static class ID implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private String productId;
+
+        private String blobKey;
+
+        public ID() {
+        }
+
+        public ID(final String productId, final String blobKey) {
+            this.productId = productId;
+            this.blobKey = blobKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ID that = (ID) o;
+            return Objects.equals(productId, that.productId) && Objects.equals(blobKey, that.blobKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(productId, blobKey);
+        }
+    }
+}
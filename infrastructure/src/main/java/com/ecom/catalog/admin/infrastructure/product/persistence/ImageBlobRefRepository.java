@@ -0,0 +1,10 @@
+package com.ecom.catalog.admin.infrastructure.product.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ImageBlobRefRepository extends JpaRepository<ImageBlobRefJpaEntity, ImageBlobRefJpaEntity.ID> {
+
+    List<ImageBlobRefJpaEntity> findAllByProductId(String productId);
+}
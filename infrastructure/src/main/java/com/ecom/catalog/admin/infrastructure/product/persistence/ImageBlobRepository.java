@@ -0,0 +1,16 @@
+package com.ecom.catalog.admin.infrastructure.product.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+public interface ImageBlobRepository extends JpaRepository<ImageBlobJpaEntity, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(value = "select b from ImageBlob b where b.blobKey = :key")
+    Optional<ImageBlobJpaEntity> findForUpdate(@Param("key") String key);
+}
@@ -0,0 +1,47 @@
+package com.ecom.catalog.admin.infrastructure.product.persistence;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+
+@Entity(name = "ProductDocument")
+@Table(name = "product_documents")
+public class ProductDocumentJpaEntity {
+
+    @Id
+    @Column(name = "product_id", nullable = false)
+    private String productId;
+
+    @Column(name = "document", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] document;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    public ProductDocumentJpaEntity() {
+    }
+
+    private ProductDocumentJpaEntity(final String productId, final byte[] document, final Instant updatedAt) {
+        this.productId = productId;
+        this.document = document;
+        this.updatedAt = updatedAt;
+    }
+
+    public static ProductDocumentJpaEntity with(final String productId, final byte[] document, final Instant updatedAt) {
+        return new ProductDocumentJpaEntity(productId, document, updatedAt);
+    }
+
+    public String getProductId() {
+        return productId;
+    }
+
+    public byte[] getDocument() {
+        return document;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
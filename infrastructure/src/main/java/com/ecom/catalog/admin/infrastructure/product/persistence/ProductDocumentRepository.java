@@ -0,0 +1,18 @@
+package com.ecom.catalog.admin.infrastructure.product.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductDocumentRepository extends JpaRepository<ProductDocumentJpaEntity, String> {
+
+    @Query(value = "select d.document from ProductDocument d where d.productId = :id")
+    Optional<byte[]> findDocumentById(@Param("id") String id);
+
+    @Query(value = "select p.id from Product p where not exists (select d.productId from ProductDocument d where d.productId = p.id) order by p.id")
+    List<String> findProductIdsWithoutDocument(Pageable page);
+}
@@ -0,0 +1,57 @@
+package com.ecom.catalog.admin.infrastructure.product.persistence;
+
+import com.ecom.catalog.admin.domain.category.CategoryID;
+import com.ecom.catalog.admin.domain.product.ProductID;
+import com.ecom.catalog.admin.domain.product.ProductPreview;
+import com.ecom.catalog.admin.domain.product.ProductStatus;
+import com.ecom.catalog.admin.infrastructure.pagination.TupleProjection;
+import com.ecom.catalog.admin.infrastructure.utils.MoneyUtils;
+
+import javax.money.MonetaryAmount;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Listing columns of {@link ProductJpaEntity}. Category and store are read from the foreign
+ * key columns, so neither association is joined nor loaded.
+ */
+public class ProductPreviewProjection implements TupleProjection<ProductJpaEntity, ProductPreview> {
+
+    public static final ProductPreviewProjection INSTANCE = new ProductPreviewProjection();
+
+    private ProductPreviewProjection() {
+    }
+
+    @Override
+    public List<Selection<?>> select(final Root<ProductJpaEntity> root) {
+        return List.of(
+                root.get("id").alias("id"),
+                root.get("name").alias("name"),
+                root.get("description").alias("description"),
+                root.get("status").alias("status"),
+                root.get("price").alias("price"),
+                root.get("stock").alias("stock"),
+                root.get("category").get("id").alias("category"),
+                root.get("createdAt").alias("createdAt"),
+                root.get("store").get("id").alias("store")
+        );
+    }
+
+    @Override
+    public ProductPreview map(final Tuple tuple) {
+        return new ProductPreview(
+                ProductID.from(tuple.get("id", String.class)),
+                tuple.get("name", String.class),
+                tuple.get("description", String.class),
+                tuple.get("status", ProductStatus.class),
+                MoneyUtils.fromMonetaryAmount(tuple.get("price", MonetaryAmount.class)),
+                tuple.get("stock", Integer.class),
+                CategoryID.from(tuple.get("category", String.class)),
+                tuple.get("createdAt", Instant.class),
+                tuple.get("store", String.class)
+        );
+    }
+}
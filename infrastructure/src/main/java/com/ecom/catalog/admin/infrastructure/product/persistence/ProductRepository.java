@@ -7,10 +7,16 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface ProductRepository extends JpaRepository<ProductJpaEntity, String> {
 
@@ -19,6 +25,13 @@ public interface ProductRepository extends JpaRepository<ProductJpaEntity, Strin
     @Query(value = "select p.id from Product p where p.id in :ids")
     List<String> existsById(@Param("ids") List<String> ids);
 
+    @Query(value = "select p.updatedAt from Product p where p.id = :id")
+    Optional<Instant> findUpdatedAtById(@Param("id") String id);
+
     @Query(value = "select p from Product p join fetch p.images i where i.id = :imageId")
     Optional<ProductJpaEntity> findByImageId(ProductImageID imageId);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query(value = "select p.id as id, p.name as name, p.description as description, p.createdAt as createdAt, p.updatedAt as updatedAt from Product p")
+    Stream<ProductSearchView> streamAllForSearch();
 }
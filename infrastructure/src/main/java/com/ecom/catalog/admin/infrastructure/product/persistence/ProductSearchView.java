@@ -0,0 +1,16 @@
+package com.ecom.catalog.admin.infrastructure.product.persistence;
+
+import java.time.Instant;
+
+public interface ProductSearchView {
+
+    String getId();
+
+    String getName();
+
+    String getDescription();
+
+    Instant getCreatedAt();
+
+    Instant getUpdatedAt();
+}
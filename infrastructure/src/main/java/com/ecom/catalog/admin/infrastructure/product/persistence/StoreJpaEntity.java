@@ -1,7 +1,10 @@
 package com.ecom.catalog.admin.infrastructure.product.persistence;
 
 import com.ecom.catalog.admin.domain.product.Store;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -9,6 +12,8 @@ import javax.persistence.Table;
 
 @Entity(name = "Store")
 @Table(name = "stores")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "store")
 public class StoreJpaEntity {
 
     @Id
@@ -13,4 +13,6 @@ import java.util.Optional;
 
 public interface StoreRepository extends JpaRepository<StoreJpaEntity, String> {
 
+    @Query(value = "select s.id from Store s")
+    List<String> findAllIds();
 }
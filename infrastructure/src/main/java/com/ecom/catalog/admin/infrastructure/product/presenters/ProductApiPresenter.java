@@ -1,12 +1,14 @@
 package com.ecom.catalog.admin.infrastructure.product.presenters;
 
 import com.ecom.catalog.admin.application.product.image.upload.UploadProductImagesOutput;
+import com.ecom.catalog.admin.application.product.retrieve.facets.ProductFacetsOutput;
 import com.ecom.catalog.admin.application.product.retrieve.get.ProductOutput;
 import com.ecom.catalog.admin.application.product.retrieve.list.ProductListOutput;
 import com.ecom.catalog.admin.domain.product.Money;
 import com.ecom.catalog.admin.domain.product.ProductImage;
 import com.ecom.catalog.admin.domain.product.ProductStatus;
 import com.ecom.catalog.admin.domain.utils.CollectionUtils;
+import com.ecom.catalog.admin.infrastructure.product.models.ProductFacetsResponse;
 import com.ecom.catalog.admin.infrastructure.product.models.ProductImageResponse;
 import com.ecom.catalog.admin.infrastructure.product.models.ProductListResponse;
 import com.ecom.catalog.admin.infrastructure.product.models.ProductResponse;
@@ -17,6 +19,8 @@ import org.springframework.util.SimpleIdGenerator;
 
 import javax.money.MonetaryAmount;
 import java.time.Instant;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 public interface ProductApiPresenter {
 
@@ -30,13 +34,13 @@ public interface ProductApiPresenter {
                 output.stock(),
                 output.category(),
                 output.store(),
-                CollectionUtils.mapTo(output.images(), image -> present(image)),
+                CollectionUtils.mapTo(output.images(), image -> present(output.id(), image)),
                 output.createdAt(),
                 output.updatedAt()
         );
     }
 
-    static ProductImageResponse present(final ProductImage image) {
+    static ProductImageResponse present(final String productId, final ProductImage image) {
         if (image == null) {
             return null;
         }
@@ -45,10 +49,18 @@ public interface ProductApiPresenter {
                 image.getChecksum(),
                 image.getName(),
                 image.getLocation(),
-                image.isFeatured()
+                image.isFeatured(),
+                imageUri(productId, image.getId().getValue(), image.getChecksum())
         );
     }
 
+    /**
+     * Checksum-addressed image URI, served with an immutable Cache-Control.
+     */
+    static String imageUri(final String productId, final String imageId, final String checksum) {
+        return "/products/%s/images/%s?v=%s".formatted(productId, imageId, checksum);
+    }
+
     static ProductListResponse present(final ProductListOutput output) {
         return new ProductListResponse(
                 output.id(),
@@ -63,11 +75,23 @@ public interface ProductApiPresenter {
         );
     }
 
-    static UploadProductImagesResponse present(final UploadProductImagesOutput output, String baseUri) {
+    static ProductFacetsResponse present(final ProductFacetsOutput output) {
+        if (output == null) {
+            return null;
+        }
+        return new ProductFacetsResponse(
+                output.categories(),
+                output.statuses().entrySet().stream()
+                        .collect(Collectors.toMap(entry -> entry.getKey().name(), Map.Entry::getValue)),
+                output.stores()
+        );
+    }
+
+    static UploadProductImagesResponse present(final UploadProductImagesOutput output) {
         return new UploadProductImagesResponse(
                 output.productId(),
                 output.imagesIds(),
-                CollectionUtils.mapTo(output.imagesIds(), img -> baseUri.formatted(output.productId(), img))
+                CollectionUtils.mapTo(output.imagesIds(), img -> imageUri(output.productId(), img, output.checksums().get(img)))
         );
     }
 }
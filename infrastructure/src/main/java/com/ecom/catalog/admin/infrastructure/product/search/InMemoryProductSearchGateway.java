@@ -0,0 +1,115 @@
+package com.ecom.catalog.admin.infrastructure.product.search;
+
+import com.ecom.catalog.admin.domain.pagination.Pagination;
+import com.ecom.catalog.admin.domain.pagination.SearchQuery;
+import com.ecom.catalog.admin.domain.product.Product;
+import com.ecom.catalog.admin.domain.product.ProductID;
+import com.ecom.catalog.admin.domain.product.ProductSearchGateway;
+import com.ecom.catalog.admin.infrastructure.product.persistence.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+import java.util.Optional;
+
+public class InMemoryProductSearchGateway implements ProductSearchGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryProductSearchGateway.class);
+
+    private final ProductRepository productRepository;
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    private volatile boolean ready;
+
+    public InMemoryProductSearchGateway(final ProductRepository productRepository) {
+        this.productRepository = Objects.requireNonNull(productRepository);
+    }
+
+    @Override
+    public Optional<Pagination<ProductID>> search(final SearchQuery aQuery) {
+        // cursors are positioned on database rows, so they keep going through the gateway
+        if (!this.ready || aQuery.hasCursor()) {
+            return Optional.empty();
+        }
+
+        return orderOf(aQuery.sort()).map(order -> {
+            final var offset = aQuery.page() * aQuery.perPage();
+            final var page = this.index.search(
+                    aQuery.terms(),
+                    order,
+                    !"desc".equalsIgnoreCase(aQuery.direction()),
+                    offset,
+                    aQuery.perPage()
+            );
+            return new Pagination<>(
+                    aQuery.page(),
+                    aQuery.perPage(),
+                    page.total(),
+                    page.ids().stream().map(ProductID::from).toList(),
+                    null,
+                    offset + page.ids().size() < page.total()
+            );
+        });
+    }
+
+    @Override
+    public void index(final Product aProduct) {
+        this.index.index(
+                aProduct.getId().getValue(),
+                aProduct.getName(),
+                aProduct.getDescription(),
+                aProduct.getCreatedAt(),
+                aProduct.getUpdatedAt()
+        );
+    }
+
+    /**
+     * Indexes the stored version of a product written by another node, or drops it when it is gone.
+     */
+    public void refresh(final ProductID anId) {
+        this.productRepository.findById(anId.getValue()).ifPresentOrElse(
+                it -> this.index.index(
+                        it.getId(),
+                        it.getName(),
+                        it.getDescription(),
+                        it.getCreatedAt(),
+                        it.getUpdatedAt()
+                ),
+                () -> this.index.remove(anId.getValue())
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void build() {
+        final var start = System.currentTimeMillis();
+        try (final var products = this.productRepository.streamAllForSearch()) {
+            products.forEach(it -> this.index.index(
+                    it.getId(),
+                    it.getName(),
+                    it.getDescription(),
+                    it.getCreatedAt(),
+                    it.getUpdatedAt()
+            ));
+        }
+        this.ready = true;
+        log.info("Product search index built with {} products in {} ms", this.index.size(), System.currentTimeMillis() - start);
+    }
+
+    private static Optional<TrigramIndex.Order> orderOf(final String sort) {
+        if ("relevance".equals(sort)) {
+            return Optional.of(TrigramIndex.Order.RELEVANCE);
+        }
+        if ("name".equals(sort)) {
+            return Optional.of(TrigramIndex.Order.NAME);
+        }
+        if ("createdAt".equals(sort)) {
+            return Optional.of(TrigramIndex.Order.CREATED_AT);
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,21 @@
+package com.ecom.catalog.admin.infrastructure.product.search;
+
+import com.ecom.catalog.admin.domain.pagination.Pagination;
+import com.ecom.catalog.admin.domain.pagination.SearchQuery;
+import com.ecom.catalog.admin.domain.product.Product;
+import com.ecom.catalog.admin.domain.product.ProductID;
+import com.ecom.catalog.admin.domain.product.ProductSearchGateway;
+
+import java.util.Optional;
+
+public class NoopProductSearchGateway implements ProductSearchGateway {
+
+    @Override
+    public Optional<Pagination<ProductID>> search(final SearchQuery aQuery) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void index(final Product aProduct) {
+    }
+}
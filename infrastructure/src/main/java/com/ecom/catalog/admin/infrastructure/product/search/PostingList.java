@@ -0,0 +1,78 @@
+package com.ecom.catalog.admin.infrastructure.product.search;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Append-only list of ascending doc ids, stored as variable-length encoded gaps.
+ * Most gaps fit in one or two bytes, against four for a plain int.
+ */
+final class PostingList {
+
+    private byte[] bytes = new byte[8];
+
+    private int length;
+
+    private int size;
+
+    private int last = -1;
+
+    void add(final int docId) {
+        if (docId == this.last) {
+            return;
+        }
+        if (docId < this.last) {
+            throw new IllegalArgumentException("Doc ids must be appended in ascending order");
+        }
+        writeVarInt(docId - this.last);
+        this.last = docId;
+        this.size++;
+    }
+
+    void forEach(final IntConsumer consumer) {
+        int position = 0;
+        int docId = -1;
+        while (position < this.length) {
+            int gap = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = this.bytes[position++];
+                gap |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            docId += gap;
+            consumer.accept(docId);
+        }
+    }
+
+    /**
+     * Rewrites the list keeping only the ids mapped to a non negative value.
+     */
+    PostingList remap(final IntUnaryOperator mapping) {
+        final var remapped = new PostingList();
+        forEach(docId -> {
+            final var newId = mapping.applyAsInt(docId);
+            if (newId >= 0) {
+                remapped.add(newId);
+            }
+        });
+        return remapped;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    private void writeVarInt(int value) {
+        if (this.length + 5 > this.bytes.length) {
+            this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length * 2, this.length + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            this.bytes[this.length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        this.bytes[this.length++] = (byte) value;
+    }
+}
@@ -0,0 +1,259 @@
+package com.ecom.catalog.admin.infrastructure.product.search;
+
+import java.text.Normalizer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
+
+/**
+ * Inverted index of the trigrams of product names and descriptions.
+ * <p>
+ * Every indexed version of a product gets a new, ascending doc id, so posting lists are
+ * append-only; the previous version is only marked as deleted and the lists are rewritten
+ * once deleted docs reach half of the index. A document matches when it shares at least
+ * {@link #MIN_SIMILARITY} of the query trigrams, which tolerates typos and partial words.
+ */
+public class TrigramIndex {
+
+    public enum Order {
+        RELEVANCE,
+        NAME,
+        CREATED_AT
+    }
+
+    public record Page(List<String> ids, int total) {
+    }
+
+    private static final double MIN_SIMILARITY = 0.6;
+
+    private static final int COMPACTION_MIN_DELETED = 1_000;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{Alnum}]+");
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, PostingList> postings = new HashMap<>();
+
+    private final Map<String, Integer> docIds = new HashMap<>();
+
+    private List<Document> documents = new ArrayList<>();
+
+    private int deleted;
+
+    public void index(
+            final String productId,
+            final String name,
+            final String description,
+            final Instant createdAt,
+            final Instant updatedAt
+    ) {
+        final var grams = trigrams(name + " " + description);
+
+        this.lock.writeLock().lock();
+        try {
+            final var current = this.docIds.get(productId);
+            if (current != null) {
+                if (this.documents.get(current).updatedAt().isAfter(updatedAt)) {
+                    // an older version arriving late, e.g. from the startup scan
+                    return;
+                }
+                this.documents.set(current, null);
+                this.deleted++;
+            }
+
+            final var docId = this.documents.size();
+            this.documents.add(new Document(productId, name, createdAt, updatedAt));
+            this.docIds.put(productId, docId);
+            for (final var gram : grams) {
+                this.postings.computeIfAbsent(gram, key -> new PostingList()).add(docId);
+            }
+
+            if (this.deleted >= COMPACTION_MIN_DELETED && this.deleted * 2 >= this.documents.size()) {
+                compact();
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final String productId) {
+        this.lock.writeLock().lock();
+        try {
+            final var current = this.docIds.remove(productId);
+            if (current != null) {
+                this.documents.set(current, null);
+                this.deleted++;
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public Page search(
+            final String terms,
+            final Order order,
+            final boolean ascending,
+            final int offset,
+            final int limit
+    ) {
+        final var grams = trigrams(terms);
+        if (grams.length == 0) {
+            return new Page(List.of(), 0);
+        }
+        final var threshold = Math.max(1, (int) Math.ceil(grams.length * MIN_SIMILARITY));
+
+        this.lock.readLock().lock();
+        try {
+            final var scratch = SCRATCH.get();
+            scratch.prepare(this.documents.size());
+            for (final var gram : grams) {
+                final var list = this.postings.get(gram);
+                if (list != null) {
+                    list.forEach(scratch::hit);
+                }
+            }
+
+            final var matches = new ArrayList<Match>();
+            for (int i = 0; i < scratch.touchedSize; i++) {
+                final var docId = scratch.touched[i];
+                final var document = this.documents.get(docId);
+                if (document != null && scratch.hits[docId] >= threshold) {
+                    matches.add(new Match(document, scratch.hits[docId]));
+                }
+            }
+            scratch.reset();
+
+            matches.sort(comparator(order, ascending));
+
+            final var from = Math.min(offset, matches.size());
+            final var to = Math.min(from + limit, matches.size());
+            return new Page(
+                    matches.subList(from, to).stream().map(it -> it.document().productId()).toList(),
+                    matches.size()
+            );
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.docIds.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private void compact() {
+        final var mapping = new int[this.documents.size()];
+        final var live = new ArrayList<Document>(this.documents.size() - this.deleted);
+        for (int i = 0; i < mapping.length; i++) {
+            final var document = this.documents.get(i);
+            if (document == null) {
+                mapping[i] = -1;
+            } else {
+                mapping[i] = live.size();
+                this.docIds.put(document.productId(), live.size());
+                live.add(document);
+            }
+        }
+        this.postings.replaceAll((gram, list) -> list.remap(docId -> mapping[docId]));
+        this.postings.values().removeIf(list -> list.size() == 0);
+        this.documents = live;
+        this.deleted = 0;
+    }
+
+    private static Comparator<Match> comparator(final Order order, final boolean ascending) {
+        final Comparator<Match> byName = Comparator.comparing(it -> it.document().name(), String.CASE_INSENSITIVE_ORDER);
+        final Comparator<Match> byCreatedAt = Comparator.comparing(it -> it.document().createdAt());
+        final Comparator<Match> byId = Comparator.comparing(it -> it.document().productId());
+        return switch (order) {
+            // best matches first, whatever the direction
+            case RELEVANCE -> Comparator.comparingInt(Match::hits).reversed().thenComparing(byName).thenComparing(byId);
+            case NAME -> directed(byName.thenComparing(byId), ascending);
+            case CREATED_AT -> directed(byCreatedAt.thenComparing(byId), ascending);
+        };
+    }
+
+    private static Comparator<Match> directed(final Comparator<Match> comparator, final boolean ascending) {
+        return ascending ? comparator : comparator.reversed();
+    }
+
+    static long[] trigrams(final String text) {
+        if (text == null) {
+            return new long[0];
+        }
+        final var normalized = NON_ALPHANUMERIC.matcher(
+                MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                        .replaceAll("")
+                        .toLowerCase(Locale.ROOT)
+        ).replaceAll(" ").trim();
+        if (normalized.isEmpty()) {
+            return new long[0];
+        }
+
+        return Arrays.stream(normalized.split(" "))
+                .flatMapToLong(word -> {
+                    final var padded = " " + word + " ";
+                    return LongStream.range(0, padded.length() - 2)
+                            .map(i -> pack(padded.charAt((int) i), padded.charAt((int) i + 1), padded.charAt((int) i + 2)));
+                })
+                .distinct()
+                .toArray();
+    }
+
+    private static long pack(final char first, final char second, final char third) {
+        return ((long) first << 32) | ((long) second << 16) | third;
+    }
+
+    private record Document(String productId, String name, Instant createdAt, Instant updatedAt) {
+    }
+
+    private record Match(Document document, int hits) {
+    }
+
+    private static final class Scratch {
+
+        private int[] hits = new int[0];
+
+        private int[] touched = new int[64];
+
+        private int touchedSize;
+
+        private void prepare(final int documents) {
+            if (this.hits.length < documents) {
+                this.hits = new int[documents];
+            }
+        }
+
+        private void hit(final int docId) {
+            if (this.hits[docId]++ == 0) {
+                if (this.touchedSize == this.touched.length) {
+                    this.touched = Arrays.copyOf(this.touched, this.touched.length * 2);
+                }
+                this.touched[this.touchedSize++] = docId;
+            }
+        }
+
+        private void reset() {
+            for (int i = 0; i < this.touchedSize; i++) {
+                this.hits[this.touched[i]] = 0;
+            }
+            this.touchedSize = 0;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.ecom.catalog.admin.infrastructure.services;
 
+import com.ecom.catalog.admin.domain.product.ByteRange;
+import com.ecom.catalog.admin.domain.product.ImageContent;
 import com.ecom.catalog.admin.domain.product.ProductImage;
 
 import java.util.Collection;
@@ -10,6 +12,13 @@ import java.util.Set;
 public interface StorageService {
 
     Optional<ProductImage> get(final String name);
+
+    /**
+     * Opens the given range of a file as a stream, without loading it. A range starting past the
+     * end answers an {@link ImageContent#unsatisfiable(long)} content.
+     */
+    Optional<ImageContent> open(final String name, final ByteRange range);
+
     void store(final Set<ProductImage> images);
 
     List<String> list(final String prefix);
@@ -1,27 +1,69 @@
 package com.ecom.catalog.admin.infrastructure.services.impl;
 
+import com.ecom.catalog.admin.domain.product.ByteRange;
+import com.ecom.catalog.admin.domain.product.ContentHandle;
+import com.ecom.catalog.admin.domain.product.ImageContent;
 import com.ecom.catalog.admin.domain.product.ProductImage;
 import com.ecom.catalog.admin.infrastructure.services.StorageService;
 import com.ecom.catalog.admin.infrastructure.utils.HashingUtils;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.vavr.control.Try;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 
-public class AwsS3Service implements StorageService {
+public class AwsS3Service implements StorageService, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(AwsS3Service.class);
+
+    private static final int RANGE_NOT_SATISFIABLE = 416;
+
+    private static final String OCTET_STREAM = "application/octet-stream";
 
     private final String bucket;
     private final S3Client client;
+    private final ExecutorService uploads;
+    private final long multipartThreshold;
+    private final int partSize;
 
-    public AwsS3Service(final String bucket, final S3Client client) {
+    private final LongAdder uploaded = new LongAdder();
+    private final LongAdder multipartUploaded = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public AwsS3Service(
+            final String bucket,
+            final S3Client client,
+            final int maxConcurrentUploads,
+            final long multipartThreshold,
+            final long partSize
+    ) {
         this.bucket = bucket;
         this.client = client;
+        // the client blocks on the socket, so the uploads get threads of their own instead of the common pool
+        this.uploads = Executors.newFixedThreadPool(maxConcurrentUploads, new ThreadFactoryBuilder()
+                .setNameFormat("s3-upload-%d")
+                .setDaemon(true)
+                .build());
+        this.multipartThreshold = multipartThreshold;
+        this.partSize = Math.toIntExact(partSize);
     }
 
     @Override
@@ -33,36 +75,166 @@ public class AwsS3Service implements StorageService {
                             .build();
                     return this.client.getObjectAsBytes(request);
                 })
-                .map(file -> ProductImage.with(
-                        HashingUtils.checksum(file.asByteArray()),
-                        file.asByteArray(),
-                        name,
-                        name,
-                        true))
+                .map(file -> {
+                    final var content = file.asByteArray();
+                    return ProductImage.with(HashingUtils.checksum(content), content, name, name, true);
+                })
                 .recoverWith(NoSuchKeyException.class, Try.failure(NoSuchKeyException.builder().build()) )
                 .toJavaOptional();
     }
 
+    @Override
+    public Optional<ImageContent> open(final String name, final ByteRange range) {
+        final var request = GetObjectRequest.builder()
+                .bucket(this.bucket)
+                .key(name);
+        if (!range.isAll()) {
+            request.range(header(range));
+        }
+        try {
+            // the socket is read as the caller consumes the stream, nothing is buffered here
+            final var stream = this.client.getObject(request.build());
+            final var response = stream.response();
+            final var size = range.isAll() ? response.contentLength() : sizeOf(response.contentRange());
+            return Optional.of(ImageContent.with(size, range.start(size), response.contentLength(), stream));
+        } catch (final NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (final S3Exception e) {
+            if (e.statusCode() != RANGE_NOT_SATISFIABLE) {
+                throw e;
+            }
+            final var head = this.client.headObject(HeadObjectRequest.builder()
+                    .bucket(this.bucket)
+                    .key(name)
+                    .build());
+            return Optional.of(ImageContent.unsatisfiable(head.contentLength()));
+        }
+    }
+
+    private static String header(final ByteRange range) {
+        if (range.first() == null) {
+            return "bytes=-" + range.last();
+        }
+        return "bytes=" + range.first() + "-" + (range.last() == null ? "" : range.last());
+    }
+
+    // bytes 0-99/1234
+    private static long sizeOf(final String contentRange) {
+        return Long.parseLong(contentRange.substring(contentRange.lastIndexOf('/') + 1));
+    }
+
     @Override
     public void store(final Set<ProductImage> images) {
-        List<CompletableFuture<PutObjectResponse>> futures = new ArrayList<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
         for (ProductImage image : images) {
-            final var location = image.getLocation();
-            final var content = image.getContent();
+            futures.add(CompletableFuture.runAsync(() -> upload(image.getLocation(), image.getContent()), this.uploads));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
 
-            final var inputStream = new ByteArrayInputStream(content);
+    private void upload(final String location, final ContentHandle content) {
+        final var size = content.size();
+        final var multipart = size > this.multipartThreshold;
+        final var start = System.nanoTime();
+        try {
+            if (multipart) {
+                uploadInParts(location, content);
+            } else {
+                final var request = PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(location)
+                        .build();
+                // the SDK opens the content as it sends it, again on a retry
+                this.client.putObject(request, RequestBody.fromContentProvider(content::open, size, OCTET_STREAM));
+            }
+        } catch (final RuntimeException e) {
+            this.failures.increment();
+            throw e;
+        }
+        final var elapsed = System.nanoTime() - start;
+        this.uploaded.increment();
+        if (multipart) {
+            this.multipartUploaded.increment();
+        }
+        this.bytes.add(size);
+        this.totalNanos.add(elapsed);
+        this.maxNanos.accumulateAndGet(elapsed, Math::max);
+        log.debug("Uploaded {} ({} bytes{}) in {}ms", location, size, multipart ? ", multipart" : "", elapsed / 1_000_000);
+    }
 
-            final var request = PutObjectRequest.builder()
+    private void uploadInParts(final String location, final ContentHandle content) {
+        final var uploadId = this.client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(location)
+                        .contentType(OCTET_STREAM)
+                        .build())
+                .uploadId();
+        try (final var stream = content.open()) {
+            // one part is held at a time, whatever the size of the content
+            final var buffer = new byte[this.partSize];
+            final var parts = new ArrayList<CompletedPart>();
+            int read;
+            while ((read = ByteStreams.read(stream, buffer, 0, buffer.length)) > 0) {
+                final var partNumber = parts.size() + 1;
+                final var length = read;
+                final var response = this.client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucket)
+                                .key(location)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) length)
+                                .build(),
+                        RequestBody.fromContentProvider(() -> new ByteArrayInputStream(buffer, 0, length), length, OCTET_STREAM));
+                parts.add(CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build());
+            }
+            this.client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(location)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (final IOException | RuntimeException e) {
+            // the parts already sent are billed until the upload is aborted
+            this.client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
                     .bucket(bucket)
                     .key(location)
-                    .build();
+                    .uploadId(uploadId)
+                    .build());
+            throw e instanceof IOException io ? new UncheckedIOException(io) : (RuntimeException) e;
+        }
+    }
+
+    public UploadStats stats() {
+        return new UploadStats(
+                this.uploaded.sum(),
+                this.multipartUploaded.sum(),
+                this.failures.sum(),
+                this.bytes.sum(),
+                this.totalNanos.sum(),
+                this.maxNanos.get()
+        );
+    }
+
+    @Override
+    public void close() {
+        this.uploads.shutdown();
+    }
 
-            CompletableFuture<PutObjectResponse> response =
-                    CompletableFuture.supplyAsync(() -> this.client.putObject(request,
-                            RequestBody.fromInputStream(inputStream, content.length)));
-            futures.add(response);
+    public record UploadStats(
+            long uploads,
+            long multipartUploads,
+            long failures,
+            long bytes,
+            long totalNanos,
+            long maxNanos
+    ) {
+
+        public long averageNanos() {
+            return uploads == 0 ? 0 : totalNanos / uploads;
         }
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
     }
 
     @Override
@@ -0,0 +1,201 @@
+package com.ecom.catalog.admin.infrastructure.services.local;
+
+import com.ecom.catalog.admin.domain.product.ByteRange;
+import com.ecom.catalog.admin.domain.product.ContentHandle;
+import com.ecom.catalog.admin.domain.product.ImageContent;
+import com.ecom.catalog.admin.domain.product.ProductImage;
+import com.ecom.catalog.admin.infrastructure.cache.ByteBufferInputStream;
+import com.ecom.catalog.admin.infrastructure.services.StorageService;
+import com.ecom.catalog.admin.infrastructure.utils.HashingUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Keeps every file under a root directory, the name being its path relative to the root. Writes
+ * go to a temporary file renamed over the target, so a reader never sees half of a file.
+ */
+public class FileSystemStorageService implements StorageService {
+
+    private static final String TEMP_PREFIX = ".upload-";
+
+    private final Path root;
+
+    public FileSystemStorageService(final Path root) {
+        try {
+            this.root = Files.createDirectories(root).toRealPath();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Optional<ProductImage> get(final String name) {
+        final var path = resolve(name);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        final var content = new FileContent(path);
+        try (final var stream = content.open()) {
+            return Optional.of(ProductImage.with(HashingUtils.checksum(stream), content, name, name, true));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Optional<ImageContent> open(final String name, final ByteRange range) {
+        final var path = resolve(name);
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var size = channel.size();
+            if (!range.isSatisfiable(size)) {
+                return Optional.of(ImageContent.unsatisfiable(size));
+            }
+            final var start = range.start(size);
+            final var length = range.length(size);
+            // the mapping outlives the channel, the bytes are read from the page cache and never copied to the heap as a whole
+            final var mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            return Optional.of(ImageContent.with(size, start, length, new ByteBufferInputStream(mapped)));
+        } catch (final NoSuchFileException e) {
+            return Optional.empty();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void store(final Set<ProductImage> images) {
+        images.forEach(image -> write(resolve(image.getLocation()), image.getContent()));
+    }
+
+    private void write(final Path target, final ContentHandle content) {
+        Path temp = null;
+        try {
+            final var folder = Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(folder, TEMP_PREFIX, ".tmp");
+            try (final var in = Channels.newChannel(content.open());
+                 final var out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long position = 0;
+                long transferred;
+                while ((transferred = out.transferFrom(in, position, Long.MAX_VALUE)) > 0) {
+                    position += transferred;
+                }
+                out.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        if (prefix == null) {
+            return Collections.emptyList();
+        }
+        final var path = prefix.isEmpty() ? this.root : resolve(prefix);
+        // a prefix naming a folder lists what it holds, any other one filters the folder it is in
+        final var folder = Files.isDirectory(path) ? path : path.getParent();
+        if (folder == null || !Files.isDirectory(folder)) {
+            return Collections.emptyList();
+        }
+        try (final Stream<Path> files = Files.walk(folder)) {
+            return files
+                    .filter(Files::isRegularFile)
+                    .filter(it -> !it.getFileName().toString().startsWith(TEMP_PREFIX))
+                    .map(this::nameOf)
+                    .filter(it -> it.startsWith(prefix))
+                    .sorted()
+                    .toList();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void delete(final String name) {
+        deleteAll(List.of(name));
+    }
+
+    @Override
+    public void deleteAll(final Collection<String> names) {
+        final var folders = new HashSet<Path>();
+        for (final var name : names) {
+            final var path = resolve(name);
+            try {
+                Files.deleteIfExists(path);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            folders.add(path.getParent());
+        }
+        folders.forEach(this::pruneEmpty);
+    }
+
+    private void pruneEmpty(final Path folder) {
+        var current = folder;
+        while (current != null && !current.equals(this.root)) {
+            try {
+                Files.deleteIfExists(current);
+            } catch (final DirectoryNotEmptyException e) {
+                return;
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            current = current.getParent();
+        }
+    }
+
+    private Path resolve(final String name) {
+        final var resolved = this.root.resolve(name);
+        final var path = resolved.normalize();
+        // a name with '.' or '..' segments could reach the folder of another product while staying under the root
+        if (!path.equals(resolved) || !path.startsWith(this.root) || path.equals(this.root)) {
+            throw new IllegalArgumentException("'%s' is not a file under the storage root".formatted(name));
+        }
+        return path;
+    }
+
+    private String nameOf(final Path path) {
+        return this.root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+    }
+
+    private static void deleteQuietly(final Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException ignored) {
+            // the failure being reported is the one of the write
+        }
+    }
+
+    private record FileContent(Path path) implements ContentHandle {
+
+        @Override
+        public long size() {
+            try {
+                return Files.size(path);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public InputStream open() {
+            try {
+                return Files.newInputStream(path);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
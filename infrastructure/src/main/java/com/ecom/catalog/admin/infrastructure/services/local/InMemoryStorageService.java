@@ -1,8 +1,12 @@
 package com.ecom.catalog.admin.infrastructure.services.local;
 
+import com.ecom.catalog.admin.domain.product.ByteRange;
+import com.ecom.catalog.admin.domain.product.ContentHandle;
+import com.ecom.catalog.admin.domain.product.ImageContent;
 import com.ecom.catalog.admin.domain.product.ProductImage;
 import com.ecom.catalog.admin.infrastructure.services.StorageService;
 
+import java.io.ByteArrayInputStream;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -21,10 +25,25 @@ public class InMemoryStorageService implements StorageService {
         return Optional.ofNullable(this.storage.get(name));
     }
 
+    @Override
+    public Optional<ImageContent> open(String name, ByteRange range) {
+        return get(name).map(image -> {
+            final var content = image.getContent().readAllBytes();
+            if (!range.isSatisfiable(content.length)) {
+                return ImageContent.unsatisfiable(content.length);
+            }
+            final var start = range.start(content.length);
+            final var length = range.length(content.length);
+            return ImageContent.with(content.length, start, length, new ByteArrayInputStream(content, (int) start, (int) length));
+        });
+    }
+
     @Override
     public void store(Set<ProductImage> images) {
         this.storage.putAll(
                 images.stream()
+                        // the content may be an upload that is gone once the request ends
+                        .map(it -> ProductImage.with(it, ContentHandle.of(it.getContent().readAllBytes())))
                         .collect(Collectors.toMap(ProductImage::getLocation, Function.identity()))
         );
     }
@@ -0,0 +1,42 @@
+package com.ecom.catalog.admin.infrastructure.utils;
+
+import org.hibernate.Session;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class DatabaseUtils {
+
+    private static final Map<EntityManagerFactory, Boolean> MYSQL = new ConcurrentHashMap<>();
+
+    private DatabaseUtils() {}
+
+    /**
+     * The first call for a persistence unit must happen inside a transaction, so the shared
+     * entity manager is bound to a session; the answer is kept per entity manager factory.
+     */
+    public static boolean isMySQL(final EntityManager entityManager) {
+        return MYSQL.computeIfAbsent(entityManager.getEntityManagerFactory(), emf -> isMySQL(entityManager.unwrap(Session.class)));
+    }
+
+    /**
+     * Same answer for callers outside of any transaction, through an entity manager of its own.
+     */
+    public static boolean isMySQL(final EntityManagerFactory entityManagerFactory) {
+        return MYSQL.computeIfAbsent(entityManagerFactory, emf -> {
+            final var entityManager = emf.createEntityManager();
+            try {
+                return isMySQL(entityManager.unwrap(Session.class));
+            } finally {
+                entityManager.close();
+            }
+        });
+    }
+
+    private static boolean isMySQL(final Session session) {
+        final var productName = session.doReturningWork(connection -> connection.getMetaData().getDatabaseProductName());
+        return "MySQL".equalsIgnoreCase(productName);
+    }
+}
@@ -0,0 +1,23 @@
+package com.ecom.catalog.admin.infrastructure.utils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+public final class ETagUtils {
+
+    private ETagUtils() {}
+
+    /**
+     * Weak validator of a resource version: its id plus the microseconds of its last update.
+     */
+    public static String weak(final String id, final Instant updatedAt) {
+        return "W/\"%s-%x\"".formatted(id, ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt));
+    }
+
+    /**
+     * Strong validator of content addressed by a checksum: equal checksums mean equal bytes.
+     */
+    public static String strong(final String checksum) {
+        return "\"%s\"".formatted(checksum);
+    }
+}
@@ -1,16 +1,51 @@
 package com.ecom.catalog.admin.infrastructure.utils;
 
 import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 public final class HashingUtils {
 
     private static final HashFunction CHECKSUM = Hashing.crc32c();
 
+    private static final HashFunction STRONG_CHECKSUM = Hashing.sha256();
+
     private HashingUtils() {}
 
     public static String checksum(final byte[] content) {
         return CHECKSUM.hashBytes(content).toString();
     }
+
+    /**
+     * Same as {@link #checksum(byte[])}, reading the stream to its end without holding it in memory.
+     */
+    public static String checksum(final InputStream content) throws IOException {
+        return hash(CHECKSUM, content);
+    }
+
+    /**
+     * SHA-256 of the stream, for when two contents sharing a {@link #checksum(InputStream)} must still be told apart.
+     */
+    public static String strongChecksum(final InputStream content) throws IOException {
+        return hash(STRONG_CHECKSUM, content);
+    }
+
+    /**
+     * Incremental {@link #checksum(byte[])}, for content read as a stream.
+     */
+    public static Hasher checksumHasher() {
+        return CHECKSUM.newHasher();
+    }
+
+    private static String hash(final HashFunction function, final InputStream content) throws IOException {
+        final var hashing = new HashingInputStream(function, content);
+        ByteStreams.exhaust(hashing);
+        return hashing.hash().toString();
+    }
 }
 
@@ -0,0 +1,37 @@
+package com.ecom.catalog.admin.infrastructure.utils;
+
+import com.ecom.catalog.admin.domain.product.ByteRange;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+public final class RangeUtils {
+
+    private static final Pattern SINGLE_RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+    private RangeUtils() {}
+
+    /**
+     * The single byte range of a {@code Range} header. Anything else (missing, malformed, several
+     * ranges) is empty and the whole content is served, as RFC 9110 allows.
+     */
+    public static Optional<ByteRange> parse(final String header) {
+        if (header == null) {
+            return Optional.empty();
+        }
+        final var matcher = SINGLE_RANGE.matcher(header.trim());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        final var first = matcher.group(1);
+        final var last = matcher.group(2);
+        try {
+            if (first.isEmpty()) {
+                return last.isEmpty() ? Optional.empty() : Optional.of(ByteRange.suffix(Long.parseLong(last)));
+            }
+            return Optional.of(ByteRange.of(Long.parseLong(first), last.isEmpty() ? null : Long.parseLong(last)));
+        } catch (final IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -1,12 +1,116 @@
 package com.ecom.catalog.admin.infrastructure.utils;
 
+import com.ecom.catalog.admin.infrastructure.configuration.jpa.SqlFunctionsContributor;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.format.support.DefaultFormattingConversionService;
+
+import javax.persistence.criteria.Path;
+import java.util.Collection;
 
 public final class SpecificationUtils {
 
+    private static final DefaultFormattingConversionService CONVERSION = new DefaultFormattingConversionService();
+
     private SpecificationUtils(){}
 
     public static <T> Specification<T> like(final String prop, final String term) {
         return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), SqlUtils.like(term.toUpperCase()));
     }
+
+    /**
+     * Equality on a property, where {@code prop} may navigate an association id (e.g. "store.id")
+     * so the foreign key column is compared without a join.
+     */
+    public static <T> Specification<T> equal(final String prop, final Object value) {
+        return (root, query, cb) -> cb.equal(path(root, prop), value);
+    }
+
+    public static <T> Specification<T> in(final String prop, final Collection<?> values) {
+        return (root, query, cb) -> root.get(prop).in(values);
+    }
+
+    public static <T> Specification<T> greaterThan(final String prop, final int value) {
+        return (root, query, cb) -> cb.greaterThan(root.get(prop), value);
+    }
+
+    /**
+     * MySQL full-text match over two columns sharing a FULLTEXT index, optionally ranking
+     * the rows by relevance.
+     */
+    public static <T> Specification<T> match(
+            final String first,
+            final String second,
+            final String booleanQuery,
+            final boolean rankByRelevance
+    ) {
+        return (root, query, cb) -> {
+            final var score = cb.function(
+                    SqlFunctionsContributor.MATCH_AGAINST,
+                    Double.class,
+                    root.get(first),
+                    root.get(second),
+                    cb.literal(booleanQuery)
+            );
+            if (rankByRelevance) {
+                query.orderBy(cb.desc(score));
+            }
+            return cb.greaterThan(score, 0d);
+        };
+    }
+
+    /**
+     * Seek predicate for keyset pagination: rows strictly after (value, id) in the given direction.
+     * NULLs sort before any value, as they do on MySQL (and H2 in MySQL mode), and a {@code null}
+     * value seeks from the NULL rows.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> seek(
+            final String prop,
+            final Sort.Direction direction,
+            final String value,
+            final String id
+    ) {
+        return (root, query, cb) -> {
+            final Path<Comparable> path = root.get(prop);
+            final Path<String> idPath = root.get("id");
+            if (value == null) {
+                final var afterInNulls = cb.and(cb.isNull(path), direction.isAscending()
+                        ? cb.greaterThan(idPath, id)
+                        : cb.lessThan(idPath, id));
+                // ascending the values follow the NULLs, descending the NULLs come last
+                return direction.isAscending() ? cb.or(afterInNulls, cb.isNotNull(path)) : afterInNulls;
+            }
+
+            final Comparable typedValue = (Comparable) fromSortValue(value, path.getJavaType());
+
+            if (direction.isAscending()) {
+                return cb.or(
+                        cb.greaterThan(path, typedValue),
+                        cb.and(cb.equal(path, typedValue), cb.greaterThan(idPath, id))
+                );
+            }
+            return cb.or(
+                    cb.lessThan(path, typedValue),
+                    cb.and(cb.equal(path, typedValue), cb.lessThan(idPath, id)),
+                    cb.isNull(path)
+            );
+        };
+    }
+
+    public static Path<?> path(final Path<?> root, final String prop) {
+        Path<?> path = root;
+        for (final var attribute : prop.split("\\.")) {
+            path = path.get(attribute);
+        }
+        return path;
+    }
+
+    public static String toSortValue(final Object value) {
+        return CONVERSION.convert(value, String.class);
+    }
+
+    public static Object fromSortValue(final String value, final Class<?> type) {
+        return CONVERSION.convert(value, type);
+    }
 }
@@ -1,7 +1,14 @@
 package com.ecom.catalog.admin.infrastructure.utils;
 
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 public final class SqlUtils {
 
+    // innodb_ft_min_token_size default, shorter words are not indexed
+    private static final int FULL_TEXT_MIN_TOKEN_SIZE = 3;
+
     private SqlUtils() {}
 
     public static String upper(final String term) {
@@ -13,4 +20,22 @@ public final class SqlUtils {
         return "%" + term + "%";
     }
 
+    /**
+     * Converts free search terms into a boolean mode full-text query where every word is
+     * required and matched as a prefix. Empty when a word is too short to be indexed, so
+     * the caller can fall back to LIKE.
+     */
+    public static Optional<String> fullText(final String terms) {
+        if (terms == null) return Optional.empty();
+        final var words = Arrays.stream(terms.replaceAll("[+\\-<>()~*\"@]", " ").trim().split("\\s+"))
+                .filter(word -> !word.isBlank())
+                .toList();
+        if (words.isEmpty() || words.stream().anyMatch(word -> word.length() < FULL_TEXT_MIN_TOKEN_SIZE)) {
+            return Optional.empty();
+        }
+        return Optional.of(words.stream()
+                .map(word -> "+" + word + "*")
+                .collect(Collectors.joining(" ")));
+    }
+
 }
@@ -0,0 +1,4 @@
+DROP INDEX idx_products_created_at ON products;
+DROP INDEX idx_products_name ON products;
+DROP INDEX idx_products_category_created_at ON products;
+DROP INDEX idx_products_store_status_name ON products;
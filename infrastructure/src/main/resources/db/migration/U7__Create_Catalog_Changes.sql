@@ -0,0 +1,3 @@
+DROP INDEX idx_catalog_changes_changed_at ON catalog_changes;
+
+DROP TABLE catalog_changes;
@@ -0,0 +1,2 @@
+DROP TABLE image_blob_refs;
+DROP TABLE image_blobs;
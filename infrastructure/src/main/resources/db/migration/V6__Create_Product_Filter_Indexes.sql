@@ -0,0 +1,4 @@
+CREATE INDEX idx_products_store_status_name ON products (store_id, status, name);
+CREATE INDEX idx_products_category_created_at ON products (category_id, created_at);
+CREATE INDEX idx_products_name ON products (name);
+CREATE INDEX idx_products_created_at ON products (created_at);
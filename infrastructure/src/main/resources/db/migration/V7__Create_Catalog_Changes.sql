@@ -0,0 +1,9 @@
+CREATE TABLE catalog_changes (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    entity_type VARCHAR(16) NOT NULL,
+    entity_id VARCHAR(36) NOT NULL,
+    removed BOOLEAN NOT NULL,
+    changed_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_catalog_changes_changed_at ON catalog_changes (changed_at);
@@ -0,0 +1,6 @@
+CREATE TABLE product_documents (
+    product_id VARCHAR(36) NOT NULL PRIMARY KEY,
+    document LONGBLOB NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_pd_product_id FOREIGN KEY (product_id) REFERENCES products (id) ON DELETE CASCADE
+);
@@ -0,0 +1,14 @@
+CREATE TABLE image_blobs (
+    blob_key VARCHAR(128) PRIMARY KEY,
+    size BIGINT NOT NULL,
+    ref_count INT NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
+
+CREATE TABLE image_blob_refs (
+    product_id VARCHAR(36) NOT NULL,
+    blob_key VARCHAR(128) NOT NULL,
+    PRIMARY KEY (product_id, blob_key)
+);
+
+CREATE INDEX idx_image_blob_refs_blob_key ON image_blob_refs (blob_key);
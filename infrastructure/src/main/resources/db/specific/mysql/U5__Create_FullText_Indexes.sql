@@ -0,0 +1,3 @@
+DROP INDEX idx_categories_fulltext ON categories;
+
+DROP INDEX idx_products_fulltext ON products;
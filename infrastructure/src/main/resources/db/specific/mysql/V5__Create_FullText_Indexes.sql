@@ -0,0 +1,3 @@
+CREATE FULLTEXT INDEX idx_products_fulltext ON products (name, description);
+
+CREATE FULLTEXT INDEX idx_categories_fulltext ON categories (name, description);
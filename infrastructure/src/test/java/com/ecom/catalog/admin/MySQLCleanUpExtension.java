@@ -1,6 +1,8 @@
 package com.ecom.catalog.admin;
 
 import com.ecom.catalog.admin.infrastructure.category.persistence.CategoryRepository;
+import com.ecom.catalog.admin.infrastructure.product.persistence.ImageBlobRefRepository;
+import com.ecom.catalog.admin.infrastructure.product.persistence.ImageBlobRepository;
 import com.ecom.catalog.admin.infrastructure.product.persistence.ProductRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -17,7 +19,9 @@ public class MySQLCleanUpExtension implements BeforeEachCallback {
         final var appContext = SpringExtension.getApplicationContext(context);
         cleanUp(List.of(
                 appContext.getBean(ProductRepository.class),
-                appContext.getBean(CategoryRepository.class)
+                appContext.getBean(CategoryRepository.class),
+                appContext.getBean(ImageBlobRefRepository.class),
+                appContext.getBean(ImageBlobRepository.class)
         ));
 
     }
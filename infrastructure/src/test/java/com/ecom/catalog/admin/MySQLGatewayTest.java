@@ -1,5 +1,7 @@
 package com.ecom.catalog.admin;
 
+import com.ecom.catalog.admin.infrastructure.cache.CatalogVersion;
+import com.ecom.catalog.admin.infrastructure.changes.CatalogChangeLog;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -16,7 +18,8 @@ import java.lang.annotation.*;
         basePackages = "com.ecom.catalog.admin",
         useDefaultFilters = false,
         includeFilters = {
-                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway")
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway"),
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {CatalogVersion.class, CatalogChangeLog.class})
         }
 )
 @DataJpaTest
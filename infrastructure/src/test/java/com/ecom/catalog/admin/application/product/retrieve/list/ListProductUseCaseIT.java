@@ -69,7 +69,7 @@ public class ListProductUseCaseIT {
                 new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
         // when
-        final var actualOutput = useCase.execute(aQuery);
+        final var actualOutput = useCase.execute(ListProductCommand.with(aQuery));
 
         // then
         Assertions.assertEquals(expectedPage, actualOutput.currentPage());
@@ -100,7 +100,7 @@ public class ListProductUseCaseIT {
                 new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
         // when
-        final var actualOutput = useCase.execute(aQuery);
+        final var actualOutput = useCase.execute(ListProductCommand.with(aQuery));
 
         // then
         Assertions.assertEquals(expectedPage, actualOutput.currentPage());
@@ -122,20 +122,20 @@ public class ListProductUseCaseIT {
         final var expectedErrorMessage = "Gateway error";
 
         doThrow(new IllegalStateException(expectedErrorMessage))
-                .when(productGateway).findAll(any());
+                .when(productGateway).findAllPreviews(any(), any());
 
         final var aQuery =
                 new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
         // when
         final var actualOutput = Assertions.assertThrows(
-                IllegalStateException.class, () -> useCase.execute(aQuery)
+                IllegalStateException.class, () -> useCase.execute(ListProductCommand.with(aQuery))
         );
 
         // then
         Assertions.assertEquals(expectedErrorMessage, actualOutput.getMessage());
 
-        Mockito.verify(productGateway, times(1)).findAll(eq(aQuery));
+        Mockito.verify(productGateway, times(1)).findAllPreviews(eq(aQuery), eq(ProductFilter.empty()));
     }
 
 
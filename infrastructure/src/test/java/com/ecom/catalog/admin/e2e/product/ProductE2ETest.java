@@ -40,10 +40,13 @@ import java.util.stream.Stream;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -331,6 +334,34 @@ public class ProductE2ETest implements MockDsl {
         Assertions.assertNotNull(actualProduct.getUpdatedAt());
     }
 
+    @Test
+    public void asACatalogProductAdminIShouldNotGetANotModifiedProductAfterUploadingImages() throws Exception {
+        Assertions.assertEquals(0, productRepository.count());
+        Assertions.assertTrue(MYSQL_CONTAINER.isRunning());
+
+        final var expectedCategory =
+                givenACategory("Eletrônico", "Eletrônicos do tipo A", true);
+        final var expectedStore =
+                storeGateway.create(Fixture.Stores.lojaEletromania());
+
+        final var actualId = givenAProduct("Celular", "Celular do tipo ABC", ProductStatus.ACTIVE.name(), Money.of(1800.03, "BRL"), 10, expectedCategory.getValue(), expectedStore.getId(), 1, mockImages());
+
+        final var anETag = mvc.perform(get("/products/{id}", actualId.getValue()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(ETAG);
+
+        mvc.perform(multipart("/products/{id}/images", actualId.getValue())
+                        .file(new MockMultipartFile("images", "image03.jpg", MediaType.IMAGE_JPEG_VALUE, "IMAGE03".getBytes()))
+                        .contentType(MediaType.MULTIPART_FORM_DATA))
+                .andExpect(status().isCreated());
+
+        mvc.perform(get("/products/{id}", actualId.getValue()).header(IF_NONE_MATCH, anETag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ETAG, not(equalTo(anETag))));
+    }
+
     private static Set<MockMultipartFile> mockImages() {
         final var images = Set.of(
                 new MockMultipartFile("images", "image01.jpg", MediaType.IMAGE_JPEG_VALUE, "IMAGE01".getBytes()),
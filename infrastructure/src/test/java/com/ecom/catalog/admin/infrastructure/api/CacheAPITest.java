@@ -0,0 +1,64 @@
+package com.ecom.catalog.admin.infrastructure.api;
+
+import com.ecom.catalog.admin.ControllerTest;
+import com.ecom.catalog.admin.infrastructure.cache.ImageContentCache;
+import com.ecom.catalog.admin.infrastructure.cache.ResponseCache;
+import com.ecom.catalog.admin.infrastructure.cache.SingleFlight;
+import com.ecom.catalog.admin.infrastructure.services.impl.AwsS3Service;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ControllerTest(controllers = CacheAPI.class)
+public class CacheAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private ImageContentCache imageContentCache;
+
+    @MockBean
+    private ResponseCache responseCache;
+
+    @MockBean(name = "productLoads")
+    private SingleFlight<?, ?> productLoads;
+
+    @MockBean(name = "productImageFills")
+    private SingleFlight<?, ?> productImageFills;
+
+    @MockBean
+    private AwsS3Service storageService;
+
+    @Test
+    public void givenAnS3Storage_whenCallsUploads_shouldReturnItsUploadStats() throws Exception {
+        // given
+        when(storageService.stats())
+                .thenReturn(new AwsS3Service.UploadStats(4, 1, 2, 8192, 8_000_000, 5_000_000));
+
+        // when
+        final var response = this.mvc.perform(get("/caches/uploads"))
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.uploads", equalTo(4)))
+                .andExpect(jsonPath("$.multipart_uploads", equalTo(1)))
+                .andExpect(jsonPath("$.failures", equalTo(2)))
+                .andExpect(jsonPath("$.bytes", equalTo(8192)))
+                .andExpect(jsonPath("$.average_millis", equalTo(2)))
+                .andExpect(jsonPath("$.max_millis", equalTo(5)));
+    }
+}
@@ -4,7 +4,9 @@ import com.ecom.catalog.admin.ControllerTest;
 import com.ecom.catalog.admin.application.category.create.CreateCategoryOutput;
 import com.ecom.catalog.admin.application.category.create.CreateCategoryUseCase;
 import com.ecom.catalog.admin.application.category.retrieve.get.CategoryOutput;
+import com.ecom.catalog.admin.application.category.retrieve.get.CategoryVersionOutput;
 import com.ecom.catalog.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.ecom.catalog.admin.application.category.retrieve.get.GetCategoryVersionUseCase;
 import com.ecom.catalog.admin.application.category.retrieve.list.CategoryListOutput;
 import com.ecom.catalog.admin.application.category.retrieve.list.ListCategoryUseCase;
 import com.ecom.catalog.admin.application.category.update.UpdateCategoryOutput;
@@ -18,14 +20,19 @@ import com.ecom.catalog.admin.domain.validation.Error;
 import com.ecom.catalog.admin.domain.validation.handler.Notification;
 import com.ecom.catalog.admin.infrastructure.category.models.CreateCategoryRequest;
 import com.ecom.catalog.admin.infrastructure.category.models.UpdateCategoryRequest;
+import com.ecom.catalog.admin.infrastructure.utils.ETagUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Objects;
 
@@ -33,6 +40,7 @@ import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
+import static org.springframework.http.HttpHeaders.ETAG;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -55,6 +63,9 @@ public class CategoryAPITest {
     @MockBean
     private GetCategoryByIdUseCase getCategoryByIdUseCase;
 
+    @MockBean
+    private GetCategoryVersionUseCase getCategoryVersionUseCase;
+
     @MockBean
     private ListCategoryUseCase listCategoryUseCase;
 
@@ -214,6 +225,8 @@ public class CategoryAPITest {
 
         final var expectedId = aCategory.getId();
 
+        when(getCategoryVersionUseCase.execute(any()))
+                .thenReturn(CategoryVersionOutput.with(expectedId.getValue(), aCategory.getUpdatedAt()));
         when(getCategoryByIdUseCase.execute(any()))
                 .thenReturn(CategoryOutput.from((aCategory)));
 
@@ -227,6 +240,7 @@ public class CategoryAPITest {
         // then
         response.andExpect(status().isOk())
                 .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(header().string(ETAG, ETagUtils.weak(expectedId.getValue(), aCategory.getUpdatedAt())))
                 .andExpect(jsonPath("$.id", equalTo(expectedId.getValue())))
                 .andExpect(jsonPath("$.name", equalTo(expectedName)))
                 .andExpect(jsonPath("$.is_active", equalTo(expectedIsActive)))
@@ -245,7 +259,7 @@ public class CategoryAPITest {
 
         final var expectedId = CategoryID.from("123");
 
-        when(getCategoryByIdUseCase.execute(any()))
+        when(getCategoryVersionUseCase.execute(any()))
                 .thenThrow(NotFoundException.with(Category.class, expectedId));
 
         // when
@@ -260,7 +274,31 @@ public class CategoryAPITest {
                 .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
 
-        Mockito.verify(getCategoryByIdUseCase).execute(eq(expectedId.getValue()));
+        Mockito.verify(getCategoryVersionUseCase).execute(eq(expectedId.getValue()));
+        Mockito.verify(getCategoryByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAnUnchangedCategorySinceLastModified_whenCallsGetCategory_shouldReturnNotModifiedWithoutLoadingIt() throws Exception {
+        // given
+        final var expectedId = CategoryID.from("123");
+        final var expectedUpdatedAt = Instant.parse("2024-01-01T10:15:30.123456Z");
+
+        when(getCategoryVersionUseCase.execute(any()))
+                .thenReturn(CategoryVersionOutput.with(expectedId.getValue(), expectedUpdatedAt));
+
+        // when
+        final var aRequest = get("/categories/{id}", expectedId.getValue())
+                .header(HttpHeaders.IF_MODIFIED_SINCE, DateTimeFormatter.RFC_1123_DATE_TIME.format(expectedUpdatedAt.atZone(ZoneOffset.UTC)))
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        Mockito.verify(getCategoryByIdUseCase, never()).execute(any());
     }
 
     @Test
@@ -4,14 +4,23 @@ import com.ecom.catalog.admin.ControllerTest;
 import com.ecom.catalog.admin.application.product.create.CreateProductCommand;
 import com.ecom.catalog.admin.application.product.create.CreateProductOutput;
 import com.ecom.catalog.admin.application.product.create.CreateProductUseCase;
+import com.ecom.catalog.admin.application.product.export.ExportProductsCommand;
+import com.ecom.catalog.admin.application.product.export.ExportProductsUseCase;
 import com.ecom.catalog.admin.application.product.image.get.GetProductImageCommand;
 import com.ecom.catalog.admin.application.product.image.get.GetProductImageUseCase;
+import com.ecom.catalog.admin.application.product.image.get.GetProductImageVersionUseCase;
+import com.ecom.catalog.admin.application.product.image.get.ProductImageVersionOutput;
 import com.ecom.catalog.admin.application.product.image.get.ProductImageOutput;
 import com.ecom.catalog.admin.application.product.image.upload.UploadProductImagesCommand;
 import com.ecom.catalog.admin.application.product.image.upload.UploadProductImagesOutput;
 import com.ecom.catalog.admin.application.product.image.upload.UploadProductImagesUseCase;
+import com.ecom.catalog.admin.application.product.retrieve.facets.GetProductFacetsUseCase;
+import com.ecom.catalog.admin.application.product.retrieve.facets.ProductFacetsOutput;
 import com.ecom.catalog.admin.application.product.retrieve.get.GetProductByIdUseCase;
+import com.ecom.catalog.admin.application.product.retrieve.get.GetProductVersionUseCase;
 import com.ecom.catalog.admin.application.product.retrieve.get.ProductOutput;
+import com.ecom.catalog.admin.application.product.retrieve.get.ProductVersionOutput;
+import com.ecom.catalog.admin.application.product.retrieve.list.ListProductCommand;
 import com.ecom.catalog.admin.application.product.retrieve.list.ListProductUseCase;
 import com.ecom.catalog.admin.application.product.retrieve.list.ProductListOutput;
 import com.ecom.catalog.admin.application.product.update.UpdateProductOutput;
@@ -21,7 +30,8 @@ import com.ecom.catalog.admin.domain.category.CategoryID;
 import com.ecom.catalog.admin.domain.exceptions.NotFoundException;
 import com.ecom.catalog.admin.domain.exceptions.NotificationException;
 import com.ecom.catalog.admin.domain.pagination.Pagination;
-import com.ecom.catalog.admin.domain.pagination.SearchQuery;
+import com.ecom.catalog.admin.domain.product.ByteRange;
+import com.ecom.catalog.admin.domain.product.ImageContent;
 import com.ecom.catalog.admin.domain.product.Product;
 import com.ecom.catalog.admin.domain.product.ProductID;
 import com.ecom.catalog.admin.domain.product.ProductImage;
@@ -29,8 +39,10 @@ import com.ecom.catalog.admin.domain.product.ProductStatus;
 import com.ecom.catalog.admin.domain.utils.CollectionUtils;
 import com.ecom.catalog.admin.domain.validation.Error;
 import com.ecom.catalog.admin.domain.validation.handler.Notification;
+import com.ecom.catalog.admin.infrastructure.product.ProductDocumentStore;
 import com.ecom.catalog.admin.infrastructure.product.models.CreateProductRequest;
 import com.ecom.catalog.admin.infrastructure.product.models.UpdateProductRequest;
+import com.ecom.catalog.admin.infrastructure.utils.ETagUtils;
 import com.ecom.catalog.admin.infrastructure.utils.ImageTypeUtils;
 import com.ecom.catalog.admin.infrastructure.utils.MoneyUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -44,9 +56,16 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.io.ByteArrayInputStream;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -78,15 +97,30 @@ public class ProductAPITest {
     @MockBean
     private GetProductByIdUseCase getProductByIdUseCase;
 
+    @MockBean
+    private GetProductVersionUseCase getProductVersionUseCase;
+
     @MockBean
     private ListProductUseCase listProductUseCase;
 
     @MockBean
     private GetProductImageUseCase getProductImageUseCase;
 
+    @MockBean
+    private GetProductImageVersionUseCase getProductImageVersionUseCase;
+
     @MockBean
     private UploadProductImagesUseCase uploadProductImagesUseCase;
 
+    @MockBean
+    private ExportProductsUseCase exportProductsUseCase;
+
+    @MockBean
+    private GetProductFacetsUseCase getProductFacetsUseCase;
+
+    @MockBean
+    private ProductDocumentStore productDocuments;
+
     @Test
     public void givenAValidCommandWithImages_whenCallsCreateProduct_shouldReturnProductId() throws Exception {
         // given
@@ -373,6 +407,8 @@ public class ProductAPITest {
 
         final var expectedId = aProduct.getId();
 
+        when(getProductVersionUseCase.execute(any()))
+                .thenReturn(ProductVersionOutput.with(expectedId.getValue(), aProduct.getUpdatedAt()));
         when(getProductByIdUseCase.execute(any()))
                 .thenReturn(ProductOutput.from(aProduct));
 
@@ -386,6 +422,8 @@ public class ProductAPITest {
         response.andExpect(status().isOk())
                 .andDo(print())
                 .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(header().string(ETAG, ETagUtils.weak(expectedId.getValue(), aProduct.getUpdatedAt())))
+                .andExpect(header().dateValue(LAST_MODIFIED, aProduct.getUpdatedAt().toEpochMilli() / 1000 * 1000))
                 .andExpect(jsonPath("$.id", equalTo(expectedId.getValue())))
                 .andExpect(jsonPath("$.name", equalTo(expectedName)))
                 .andExpect(jsonPath("$.description", equalTo(expectedDescription)))
@@ -416,6 +454,36 @@ public class ProductAPITest {
         Mockito.verify(getProductByIdUseCase).execute(eq(expectedId.getValue()));
     }
 
+    @Test
+    public void givenARenderedDocument_whenCallsGetProduct_shouldReturnItWithoutLoadingTheProduct() throws Exception {
+        // given
+        final var aProduct = Product.newProduct("Celular", "Celular do tipo ABC", ProductStatus.ACTIVE, com.ecom.catalog.admin.domain.product.Money.with(1800.03), 10, CategoryID.from("123"), Fixture.Stores.lojaEletromania());
+        final var expectedId = aProduct.getId().getValue();
+
+        when(getProductVersionUseCase.execute(any()))
+                .thenReturn(ProductVersionOutput.with(expectedId, aProduct.getUpdatedAt()));
+        when(productDocuments.find(any()))
+                .thenReturn(Optional.of(ProductDocumentStore.render(aProduct)));
+
+        // when
+        final var aRequest = get("/products/{id}", expectedId)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(header().string(ETAG, ETagUtils.weak(expectedId, aProduct.getUpdatedAt())))
+                .andExpect(jsonPath("$.id", equalTo(expectedId)))
+                .andExpect(jsonPath("$.name", equalTo("Celular")))
+                .andExpect(jsonPath("$.price.amount", equalTo("1800.03")))
+                .andExpect(jsonPath("$.updated_at", equalTo(aProduct.getUpdatedAt().toString())));
+
+        verify(productDocuments).find(eq(expectedId));
+        verify(getProductByIdUseCase, never()).execute(any());
+    }
+
     @Test
     public void givenANonExistentId_whenCallGetProductAndDoesNotExists_shouldReturnNotFound() throws Exception {
         // given
@@ -423,7 +491,7 @@ public class ProductAPITest {
 
         final var expectedId = ProductID.from("123");
 
-        when(getProductByIdUseCase.execute(any()))
+        when(getProductVersionUseCase.execute(any()))
                 .thenThrow(NotFoundException.with(Product.class, expectedId));
 
         // when
@@ -438,7 +506,58 @@ public class ProductAPITest {
                 .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
 
-        verify(getProductByIdUseCase).execute(eq(expectedId.getValue()));
+        verify(getProductVersionUseCase).execute(eq(expectedId.getValue()));
+        verify(getProductByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenTheCurrentETag_whenCallsGetProduct_shouldReturnNotModifiedWithoutLoadingIt() throws Exception {
+        // given
+        final var expectedId = ProductID.from("123");
+        final var expectedUpdatedAt = Instant.parse("2024-01-01T10:15:30.123456Z");
+        final var expectedETag = ETagUtils.weak(expectedId.getValue(), expectedUpdatedAt);
+
+        when(getProductVersionUseCase.execute(any()))
+                .thenReturn(ProductVersionOutput.with(expectedId.getValue(), expectedUpdatedAt));
+
+        // when
+        final var aRequest = get("/products/{id}", expectedId.getValue())
+                .header(IF_NONE_MATCH, expectedETag)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, expectedETag))
+                .andExpect(content().string(""));
+
+        verify(getProductByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAnOldETag_whenCallsGetProduct_shouldReturnTheProduct() throws Exception {
+        // given
+        final var aProduct = Product.newProduct("Celular", "Celular do tipo ABC", ProductStatus.ACTIVE, com.ecom.catalog.admin.domain.product.Money.with(1800.03), 10, CategoryID.from("123"), Fixture.Stores.lojaEletromania());
+        final var expectedId = aProduct.getId().getValue();
+
+        when(getProductVersionUseCase.execute(any()))
+                .thenReturn(ProductVersionOutput.with(expectedId, aProduct.getUpdatedAt()));
+        when(getProductByIdUseCase.execute(any()))
+                .thenReturn(ProductOutput.from(aProduct));
+
+        // when
+        final var aRequest = get("/products/{id}", expectedId)
+                .header(IF_NONE_MATCH, ETagUtils.weak(expectedId, aProduct.getUpdatedAt().minusSeconds(1)))
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+
+        verify(getProductByIdUseCase).execute(eq(expectedId));
     }
 
     @Test
@@ -495,11 +614,11 @@ public class ProductAPITest {
                 .andExpect(jsonPath("$.items[0].store", equalTo(aProduct.getStore().getId())))
                 .andExpect(jsonPath("$.items[0].created_at", equalTo(aProduct.getCreatedAt().toString())));
 
-        final var captor = ArgumentCaptor.forClass(SearchQuery.class);
+        final var captor = ArgumentCaptor.forClass(ListProductCommand.class);
 
         verify(listProductUseCase).execute(captor.capture());
 
-        final var actualQuery = captor.getValue();
+        final var actualQuery = captor.getValue().query();
         Assertions.assertEquals(expectedPage, actualQuery.page());
         Assertions.assertEquals(expectedPerPage, actualQuery.perPage());
         Assertions.assertEquals(expectedDirection, actualQuery.direction());
@@ -542,11 +661,11 @@ public class ProductAPITest {
                 .andExpect(jsonPath("$.total", equalTo(expectedTotal)))
                 .andExpect(jsonPath("$.items", hasSize(expectedItemsCount)));
 
-        final var captor = ArgumentCaptor.forClass(SearchQuery.class);
+        final var captor = ArgumentCaptor.forClass(ListProductCommand.class);
 
         verify(listProductUseCase).execute(captor.capture());
 
-        final var actualQuery = captor.getValue();
+        final var actualQuery = captor.getValue().query();
         Assertions.assertEquals(expectedPage, actualQuery.page());
         Assertions.assertEquals(expectedPerPage, actualQuery.perPage());
         Assertions.assertEquals(expectedDirection, actualQuery.direction());
@@ -555,28 +674,184 @@ public class ProductAPITest {
 
     }
 
+    @Test
+    public void givenFilters_whenCallsListProduct_shouldPassThemToTheUseCase() throws Exception {
+        // given
+        final var expectedStore = "store-1";
+        final var expectedCategory = "category-1";
+
+        when(listProductUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.<ProductListOutput>of()));
+
+        // when
+        final var aRequest = get("/products")
+                .queryParam("store", expectedStore)
+                .queryParam("category", expectedCategory)
+                .queryParam("status", "active")
+                .queryParam("inStock", "true")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isOk());
+
+        final var captor = ArgumentCaptor.forClass(ListProductCommand.class);
+
+        verify(listProductUseCase).execute(captor.capture());
+
+        final var actualFilter = captor.getValue().filter();
+        Assertions.assertEquals(expectedStore, actualFilter.storeId());
+        Assertions.assertEquals(CategoryID.from(expectedCategory), actualFilter.categoryId());
+        Assertions.assertEquals(ProductStatus.ACTIVE, actualFilter.status());
+        Assertions.assertTrue(actualFilter.inStock());
+    }
+
+    @Test
+    public void givenFacetsRequested_whenCallsListProduct_shouldReturnFacetsBesideTheItems() throws Exception {
+        // given
+        final var expectedStore = "store-1";
+        final var expectedTerms = "celular";
+
+        when(listProductUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.<ProductListOutput>of()));
+        when(getProductFacetsUseCase.execute(any()))
+                .thenReturn(new ProductFacetsOutput(
+                        Map.of("category-1", 3L, "category-2", 1L),
+                        Map.of(ProductStatus.ACTIVE, 4L),
+                        Map.of(expectedStore, 4L)
+                ));
+
+        // when
+        final var aRequest = get("/products")
+                .queryParam("search", expectedTerms)
+                .queryParam("store", expectedStore)
+                .queryParam("facets", "true")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.current_page", equalTo(0)))
+                .andExpect(jsonPath("$.items", hasSize(0)))
+                .andExpect(jsonPath("$.facets.categories.category-1", equalTo(3)))
+                .andExpect(jsonPath("$.facets.categories.category-2", equalTo(1)))
+                .andExpect(jsonPath("$.facets.status.ACTIVE", equalTo(4)))
+                .andExpect(jsonPath("$.facets.stores.store-1", equalTo(4)));
+
+        final var captor = ArgumentCaptor.forClass(ListProductCommand.class);
+
+        verify(getProductFacetsUseCase).execute(captor.capture());
+
+        Assertions.assertEquals(expectedTerms, captor.getValue().query().terms());
+        Assertions.assertEquals(expectedStore, captor.getValue().filter().storeId());
+    }
+
+    @Test
+    public void givenFacetsNotRequested_whenCallsListProduct_shouldOmitFacets() throws Exception {
+        // given
+        when(listProductUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.<ProductListOutput>of()));
+
+        // when
+        final var response = this.mvc.perform(get("/products").accept(MediaType.APPLICATION_JSON));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.facets").doesNotExist());
+
+        verify(getProductFacetsUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAnInvalidStatus_whenCallsListProduct_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedErrorMessage = "'status' should be one of active or inactive";
+
+        // when
+        final var aRequest = get("/products")
+                .queryParam("status", "archived")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(listProductUseCase, times(0)).execute(any());
+    }
+
+    @Test
+    public void givenAStoreFilter_whenCallsExportProducts_shouldStreamOneJsonDocumentPerLine() throws Exception {
+        // given
+        final var expectedStore = Fixture.Stores.lojaEletromania();
+        final var products = List.of(
+                Product.newProduct("Celular", "Celular do tipo ABC", ProductStatus.ACTIVE, com.ecom.catalog.admin.domain.product.Money.with(1800.03), 10, CategoryID.from("123"), expectedStore),
+                Product.newProduct("Notebook", "Notebook do tipo 123", ProductStatus.ACTIVE, com.ecom.catalog.admin.domain.product.Money.with(5000.0), 10, CategoryID.from("123"), expectedStore)
+        );
+
+        doAnswer(invocation -> {
+            final ExportProductsCommand aCommand = invocation.getArgument(0);
+            products.forEach(aProduct -> aCommand.consumer().accept(ProductListOutput.from(aProduct)));
+            return null;
+        }).when(exportProductsUseCase).execute(any());
+
+        // when
+        final var aRequest = get("/products/export")
+                .queryParam("store", expectedStore.getId())
+                .accept(MediaType.APPLICATION_NDJSON);
+
+        final var asyncResult = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(asyncResult));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE));
+
+        final var actualLines = response.andReturn().getResponse().getContentAsString().split("\n");
+        Assertions.assertEquals(2, actualLines.length);
+        Assertions.assertEquals(products.get(0).getId().getValue(), mapper.readTree(actualLines[0]).get("id").asText());
+        Assertions.assertEquals(products.get(1).getName(), mapper.readTree(actualLines[1]).get("name").asText());
+
+        final var captor = ArgumentCaptor.forClass(ExportProductsCommand.class);
+
+        verify(exportProductsUseCase).execute(captor.capture());
+
+        Assertions.assertEquals(expectedStore.getId(), captor.getValue().filter().storeId());
+        Assertions.assertNull(captor.getValue().filter().categoryId());
+    }
+
     @Test
     public void givenAValidProductIdAndImageId_whenCallsGetProductImage_shouldReturnContent() throws Exception {
         // given
         final var expectedProductId = ProductID.unique();
         final var expectedImage = Fixture.ProductImages.img01();
         final var expectedImageId = expectedImage.getId();
-        final var expectedImageOutput = ProductImageOutput.with(expectedImage);
+        final var expectedContent = expectedImage.getContent().readAllBytes();
 
-        when(getProductImageUseCase.execute(any())).thenReturn(expectedImageOutput);
+        when(getProductImageVersionUseCase.execute(any())).thenReturn(ProductImageVersionOutput.with(expectedImage));
+        when(getProductImageUseCase.execute(any())).thenReturn(imageOutput(expectedImage, ByteRange.all()));
 
         // when
         final var aRequest = get("/products/{id}/images/{idImage}",
                 expectedProductId.getValue(), expectedImageId.getValue());
 
-        final var response = this.mvc.perform(aRequest);
+        final var response = performAsync(aRequest);
 
         // then
         response.andExpect(status().isOk())
+                .andExpect(header().string(ETAG, "\"%s\"".formatted(expectedImage.getChecksum())))
+                .andExpect(header().string(CACHE_CONTROL, "no-cache"))
+                .andExpect(header().string(ACCEPT_RANGES, "bytes"))
                 .andExpect(header().string(CONTENT_TYPE, ImageTypeUtils.getContentType(expectedImage.getName())))
-                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedImageOutput.content().length)))
-                .andExpect(header().string(CONTENT_DISPOSITION, "attachment; filename=%s".formatted(expectedImageOutput.name())))
-                .andExpect(content().bytes(expectedImageOutput.content()));
+                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedContent.length)))
+                .andExpect(header().string(CONTENT_DISPOSITION, "attachment; filename=%s".formatted(expectedImage.getName())))
+                .andExpect(content().bytes(expectedContent));
 
         final var captor = ArgumentCaptor.forClass(GetProductImageCommand.class);
 
@@ -585,7 +860,233 @@ public class ProductAPITest {
         final var actualCommand = captor.getValue();
         Assertions.assertEquals(expectedProductId.getValue(), actualCommand.productId());
         Assertions.assertEquals(expectedImageId.getValue(), actualCommand.imageId());
+        Assertions.assertEquals(ByteRange.all(), actualCommand.range());
+
+    }
+
+    @Test
+    public void givenTheCurrentChecksum_whenCallsGetProductImage_shouldReturnContentCachedAsImmutable() throws Exception {
+        // given
+        final var expectedProductId = ProductID.unique();
+        final var expectedImage = Fixture.ProductImages.img01();
+
+        when(getProductImageVersionUseCase.execute(any())).thenReturn(ProductImageVersionOutput.with(expectedImage));
+        when(getProductImageUseCase.execute(any())).thenReturn(imageOutput(expectedImage, ByteRange.all()));
+
+        // when
+        final var aRequest = get("/products/{id}/images/{idImage}",
+                expectedProductId.getValue(), expectedImage.getId().getValue())
+                .queryParam("v", expectedImage.getChecksum());
+
+        final var response = performAsync(aRequest);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(ETAG, "\"%s\"".formatted(expectedImage.getChecksum())))
+                .andExpect(header().string(CACHE_CONTROL, "public, max-age=31536000, immutable"))
+                .andExpect(content().bytes(expectedImage.getContent().readAllBytes()));
+    }
+
+    @Test
+    public void givenAGeneratedVariant_whenCallsGetProductImageWithASize_shouldReturnTheVariant() throws Exception {
+        // given
+        final var expectedProductId = ProductID.unique();
+        final var expectedImage = Fixture.ProductImages.img01();
+        final var expectedVariant = new byte[]{1, 2, 3};
+
+        when(getProductImageVersionUseCase.execute(any())).thenReturn(ProductImageVersionOutput.with(expectedImage));
+        when(getProductImageUseCase.execute(any())).thenReturn(ProductImageOutput.with(
+                expectedImage, ImageContent.with(3, 0, 3, new ByteArrayInputStream(expectedVariant)), 150));
+
+        // when
+        final var aRequest = get("/products/{id}/images/{idImage}",
+                expectedProductId.getValue(), expectedImage.getId().getValue())
+                .queryParam("v", expectedImage.getChecksum())
+                .queryParam("size", "150");
+
+        final var response = performAsync(aRequest);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(ETAG, "\"%s-150\"".formatted(expectedImage.getChecksum())))
+                .andExpect(header().string(CACHE_CONTROL, "public, max-age=31536000, immutable"))
+                .andExpect(content().bytes(expectedVariant));
+
+        final var captor = ArgumentCaptor.forClass(GetProductImageCommand.class);
+        verify(this.getProductImageUseCase).execute(captor.capture());
+        Assertions.assertEquals(150, captor.getValue().size());
+    }
+
+    @Test
+    public void givenAVariantNotGeneratedYet_whenCallsGetProductImageWithASize_shouldReturnTheOriginalUncached() throws Exception {
+        // given
+        final var expectedProductId = ProductID.unique();
+        final var expectedImage = Fixture.ProductImages.img01();
+
+        when(getProductImageVersionUseCase.execute(any())).thenReturn(ProductImageVersionOutput.with(expectedImage));
+        when(getProductImageUseCase.execute(any())).thenReturn(imageOutput(expectedImage, ByteRange.all()));
+
+        // when
+        final var aRequest = get("/products/{id}/images/{idImage}",
+                expectedProductId.getValue(), expectedImage.getId().getValue())
+                .queryParam("v", expectedImage.getChecksum())
+                .queryParam("size", "150");
+
+        final var response = performAsync(aRequest);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(ETAG, "\"%s\"".formatted(expectedImage.getChecksum())))
+                .andExpect(header().string(CACHE_CONTROL, "no-cache"))
+                .andExpect(content().bytes(expectedImage.getContent().readAllBytes()));
+    }
+
+    @Test
+    public void givenACachedVariant_whenCallsGetProductImageWithASize_shouldReturnNotModified() throws Exception {
+        // given
+        final var expectedProductId = ProductID.unique();
+        final var expectedImage = Fixture.ProductImages.img01();
+
+        when(getProductImageVersionUseCase.execute(any())).thenReturn(ProductImageVersionOutput.with(expectedImage));
+        when(getProductImageUseCase.execute(any())).thenReturn(ProductImageOutput.with(
+                expectedImage, ImageContent.with(3, 0, 3, new ByteArrayInputStream(new byte[]{1, 2, 3})), 150));
+
+        // when
+        final var aRequest = get("/products/{id}/images/{idImage}",
+                expectedProductId.getValue(), expectedImage.getId().getValue())
+                .queryParam("size", "150")
+                .header(IF_NONE_MATCH, "\"%s-150\"".formatted(expectedImage.getChecksum()));
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void givenARange_whenCallsGetProductImage_shouldReturnPartialContent() throws Exception {
+        // given
+        final var expectedProductId = ProductID.unique();
+        final var expectedImage = Fixture.ProductImages.img01();
+        final var expectedContent = expectedImage.getContent().readAllBytes();
+
+        when(getProductImageVersionUseCase.execute(any())).thenReturn(ProductImageVersionOutput.with(expectedImage));
+        when(getProductImageUseCase.execute(any())).thenReturn(imageOutput(expectedImage, ByteRange.of(1, 2L)));
+
+        // when
+        final var aRequest = get("/products/{id}/images/{idImage}",
+                expectedProductId.getValue(), expectedImage.getId().getValue())
+                .header(RANGE, "bytes=1-2");
+
+        final var response = performAsync(aRequest);
+
+        // then
+        response.andExpect(status().isPartialContent())
+                .andExpect(header().string(CONTENT_RANGE, "bytes 1-2/%d".formatted(expectedContent.length)))
+                .andExpect(header().string(CONTENT_LENGTH, "2"))
+                .andExpect(content().bytes(Arrays.copyOfRange(expectedContent, 1, 3)));
+
+        final var captor = ArgumentCaptor.forClass(GetProductImageCommand.class);
+        verify(this.getProductImageUseCase).execute(captor.capture());
+        Assertions.assertEquals(ByteRange.of(1, 2L), captor.getValue().range());
+    }
+
+    @Test
+    public void givenARangeOfAnotherVersion_whenCallsGetProductImage_shouldReturnTheWholeContent() throws Exception {
+        // given
+        final var expectedImage = Fixture.ProductImages.img01();
+
+        when(getProductImageVersionUseCase.execute(any())).thenReturn(ProductImageVersionOutput.with(expectedImage));
+        when(getProductImageUseCase.execute(any())).thenReturn(imageOutput(expectedImage, ByteRange.all()));
+
+        // when
+        final var aRequest = get("/products/{id}/images/{idImage}",
+                ProductID.unique().getValue(), expectedImage.getId().getValue())
+                .header(RANGE, "bytes=1-2")
+                .header(IF_RANGE, "\"old-checksum\"");
+
+        final var response = performAsync(aRequest);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(content().bytes(expectedImage.getContent().readAllBytes()));
+
+        final var captor = ArgumentCaptor.forClass(GetProductImageCommand.class);
+        verify(this.getProductImageUseCase).execute(captor.capture());
+        Assertions.assertEquals(ByteRange.all(), captor.getValue().range());
+    }
+
+    @Test
+    public void givenARangePastTheEnd_whenCallsGetProductImage_shouldReturnRangeNotSatisfiable() throws Exception {
+        // given
+        final var expectedImage = Fixture.ProductImages.img01();
+        final var expectedSize = expectedImage.getContent().readAllBytes().length;
+
+        when(getProductImageVersionUseCase.execute(any())).thenReturn(ProductImageVersionOutput.with(expectedImage));
+        when(getProductImageUseCase.execute(any()))
+                .thenReturn(ProductImageOutput.with(expectedImage, ImageContent.unsatisfiable(expectedSize)));
+
+        // when
+        final var aRequest = get("/products/{id}/images/{idImage}",
+                ProductID.unique().getValue(), expectedImage.getId().getValue())
+                .header(RANGE, "bytes=%d-".formatted(expectedSize));
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(CONTENT_RANGE, "bytes */%d".formatted(expectedSize)));
+    }
+
+    @Test
+    public void givenAHeadRequest_whenCallsGetProductImage_shouldReturnTheSizeWithoutTheContent() throws Exception {
+        // given
+        final var expectedImage = Fixture.ProductImages.img01();
+        final var expectedSize = expectedImage.getContent().readAllBytes().length;
+
+        when(getProductImageVersionUseCase.execute(any())).thenReturn(ProductImageVersionOutput.with(expectedImage));
+        when(getProductImageUseCase.execute(any())).thenReturn(imageOutput(expectedImage, ByteRange.of(0, 0L)));
+
+        // when
+        final var aRequest = head("/products/{id}/images/{idImage}",
+                ProductID.unique().getValue(), expectedImage.getId().getValue());
 
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedSize)))
+                .andExpect(header().string(ACCEPT_RANGES, "bytes"))
+                .andExpect(content().bytes(new byte[0]));
+
+        final var captor = ArgumentCaptor.forClass(GetProductImageCommand.class);
+        verify(this.getProductImageUseCase).execute(captor.capture());
+        Assertions.assertEquals(ByteRange.of(0, 0L), captor.getValue().range());
+    }
+
+    @Test
+    public void givenAMatchingIfNoneMatch_whenCallsGetProductImage_shouldReturnNotModifiedWithoutReadingTheContent() throws Exception {
+        // given
+        final var expectedProductId = ProductID.unique();
+        final var expectedImage = Fixture.ProductImages.img01();
+
+        when(getProductImageVersionUseCase.execute(any())).thenReturn(ProductImageVersionOutput.with(expectedImage));
+
+        // when
+        final var aRequest = get("/products/{id}/images/{idImage}",
+                expectedProductId.getValue(), expectedImage.getId().getValue())
+                .queryParam("v", expectedImage.getChecksum())
+                .header(IF_NONE_MATCH, "\"%s\"".formatted(expectedImage.getChecksum()));
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, "\"%s\"".formatted(expectedImage.getChecksum())))
+                .andExpect(header().string(CACHE_CONTROL, "public, max-age=31536000, immutable"));
+
+        verify(getProductImageUseCase, never()).execute(any());
     }
 
     @Test
@@ -598,10 +1099,10 @@ public class ProductAPITest {
         final var expectedProduct = Product.with(Fixture.Products.celular(), expectedImages);
         final var expectedId = expectedProduct.getId();
         final var expectedUris = CollectionUtils.mapTo(expectedImages, img ->
-                "/products/%s/images/%s".formatted(expectedId.getValue(), img.getId().getValue()));
+                "/products/%s/images/%s?v=%s".formatted(expectedId.getValue(), img.getId().getValue(), img.getChecksum()));
 
-        final var expectedFile01 = new MockMultipartFile("images", expectedImage01.getName(), MediaType.IMAGE_JPEG_VALUE, expectedImage01.getContent());
-        final var expectedFile02 = new MockMultipartFile("images", expectedImage02.getName(), MediaType.IMAGE_JPEG_VALUE, expectedImage02.getContent());
+        final var expectedFile01 = new MockMultipartFile("images", expectedImage01.getName(), MediaType.IMAGE_JPEG_VALUE, expectedImage01.getContent().readAllBytes());
+        final var expectedFile02 = new MockMultipartFile("images", expectedImage02.getName(), MediaType.IMAGE_JPEG_VALUE, expectedImage02.getContent().readAllBytes());
 
         when(uploadProductImagesUseCase.execute(any()))
                 .thenReturn(UploadProductImagesOutput.with(expectedProduct));
@@ -655,4 +1156,19 @@ public class ProductAPITest {
 
 
 
+
+    private static ProductImageOutput imageOutput(final ProductImage anImage, final ByteRange aRange) {
+        final var content = anImage.getContent().readAllBytes();
+        final var start = aRange.start(content.length);
+        final var length = aRange.length(content.length);
+        return ProductImageOutput.with(anImage, ImageContent.with(
+                content.length, start, length, new ByteArrayInputStream(content, (int) start, (int) length)));
+    }
+
+    private ResultActions performAsync(final MockHttpServletRequestBuilder aRequest) throws Exception {
+        final var asyncResult = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return this.mvc.perform(asyncDispatch(asyncResult));
+    }
 }
@@ -0,0 +1,96 @@
+package com.ecom.catalog.admin.infrastructure.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ExistenceCacheTest {
+
+    private final Set<String> table = new HashSet<>(Set.of("1", "2", "3"));
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final List<String> lookups = new ArrayList<>();
+
+    @Test
+    public void givenAnExistingId_whenCallsExistsTwice_shouldLookItUpOnce() {
+        final var cache = newCache(Duration.ofMinutes(1));
+
+        Assertions.assertTrue(cache.exists("1", this::lookup));
+        Assertions.assertTrue(cache.exists("1", this::lookup));
+
+        Assertions.assertEquals(List.of("1"), lookups);
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsExists_shouldAnswerFromTheBloomFilter() {
+        final var cache = newCache(Duration.ofMinutes(1));
+
+        Assertions.assertFalse(cache.exists("404", this::lookup));
+        Assertions.assertFalse(cache.exists("404", this::lookup));
+
+        Assertions.assertEquals(List.of(), lookups);
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void givenAnAddedId_whenCallsExists_shouldNotLookItUp() {
+        final var cache = newCache(Duration.ofMinutes(1));
+        cache.exists("1", this::lookup);
+
+        table.add("4");
+        cache.added("4");
+
+        Assertions.assertTrue(cache.exists("4", this::lookup));
+        Assertions.assertEquals(List.of("1"), lookups);
+    }
+
+    @Test
+    public void givenARemovedId_whenCallsExists_shouldLookItUpAgain() {
+        final var cache = newCache(Duration.ofMinutes(1));
+        cache.exists("1", this::lookup);
+
+        table.remove("1");
+        cache.removed("1");
+
+        Assertions.assertFalse(cache.exists("1", this::lookup));
+        Assertions.assertEquals(List.of("1", "1"), lookups);
+    }
+
+    @Test
+    public void givenAStaleFilter_whenAskedForAnUnknownId_shouldReloadTheIds() {
+        final var cache = newCache(Duration.ZERO);
+        cache.exists("1", this::lookup);
+
+        // created elsewhere, never announced to this cache
+        table.add("5");
+
+        Assertions.assertTrue(cache.exists("5", this::lookup));
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    private ExistenceCache newCache(final Duration rebuildAfter) {
+        return new ExistenceCache(
+                () -> {
+                    loads.incrementAndGet();
+                    return List.copyOf(table);
+                },
+                100,
+                Duration.ofMinutes(1),
+                1_000,
+                rebuildAfter
+        );
+    }
+
+    private boolean lookup(final String anId) {
+        lookups.add(anId);
+        return table.contains(anId);
+    }
+}
@@ -0,0 +1,107 @@
+package com.ecom.catalog.admin.infrastructure.cache;
+
+import com.ecom.catalog.admin.infrastructure.utils.HashingUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+
+public class ImageContentCacheTest {
+
+    @Test
+    public void givenAStoredContent_whenCallsGet_shouldReturnACopyOfIt() {
+        final var cache = new ImageContentCache(1024, 1024);
+        final var content = new byte[]{1, 2, 3};
+
+        cache.put("a#1", content);
+        content[0] = 9;
+
+        final var actual = cache.get("a#1").orElseThrow();
+        Assertions.assertArrayEquals(new byte[]{1, 2, 3}, actual);
+        actual[1] = 9;
+
+        Assertions.assertArrayEquals(new byte[]{1, 2, 3}, cache.get("a#1").orElseThrow());
+        Assertions.assertTrue(cache.get("a#2").isEmpty());
+        Assertions.assertEquals(2, cache.stats().hitCount());
+        Assertions.assertEquals(1, cache.stats().missCount());
+        Assertions.assertEquals(3, cache.bytes());
+    }
+
+    @Test
+    public void givenMoreContentThanTheBudget_whenCallsPut_shouldEvictAndKeepTheBytesWithinIt() {
+        final var budget = 4 * 1024;
+        final var cache = new ImageContentCache(budget, budget);
+
+        for (int i = 0; i < 100; i++) {
+            cache.put("image-" + i, new byte[256]);
+            Assertions.assertTrue(cache.bytes() <= budget);
+        }
+
+        Assertions.assertTrue(cache.stats().evictionCount() > 0);
+        Assertions.assertEquals(cache.size() * 256, cache.bytes());
+    }
+
+    @Test
+    public void givenAContentLargerThanAnEntry_whenCallsPut_shouldNotCacheIt() {
+        final var cache = new ImageContentCache(1024, 10);
+
+        cache.put("big", new byte[11]);
+
+        Assertions.assertTrue(cache.get("big").isEmpty());
+        Assertions.assertEquals(0, cache.bytes());
+    }
+
+    @Test
+    public void givenCachedContents_whenCallsEvictAll_shouldDropOnlyThePrefixedOnes() {
+        final var cache = new ImageContentCache(1024, 1024);
+        cache.put("1|a#1", new byte[]{1});
+        cache.put("1|b#1", new byte[]{2});
+        cache.put("2|a#1", new byte[]{3});
+
+        cache.evictAll("1|");
+
+        Assertions.assertTrue(cache.get("1|a#1").isEmpty());
+        Assertions.assertTrue(cache.get("1|b#1").isEmpty());
+        Assertions.assertTrue(cache.get("2|a#1").isPresent());
+        Assertions.assertEquals(1, cache.bytes());
+    }
+
+    @Test
+    public void givenAStreamReadToTheEnd_whenItMatchesTheChecksum_shouldCacheIt() throws Exception {
+        final var cache = new ImageContentCache(1024, 1024);
+        final var content = new byte[]{1, 2, 3, 4, 5};
+
+        try (final var stream = cache.filling("a#1", HashingUtils.checksum(content), content.length, new ByteArrayInputStream(content))) {
+            Assertions.assertArrayEquals(content, stream.readAllBytes());
+        }
+
+        final var actual = cache.view("a#1").orElseThrow();
+        Assertions.assertEquals(5, actual.remaining());
+        Assertions.assertArrayEquals(content, new ByteBufferInputStream(actual).readAllBytes());
+    }
+
+    @Test
+    public void givenAStreamNotReadToTheEndOrWithAnotherChecksum_whenClosed_shouldNotCacheIt() throws Exception {
+        final var cache = new ImageContentCache(1024, 1024);
+        final var content = new byte[]{1, 2, 3, 4, 5};
+
+        try (final var stream = cache.filling("a#1", HashingUtils.checksum(content), content.length, new ByteArrayInputStream(content))) {
+            Assertions.assertEquals(2, stream.read(new byte[2]));
+        }
+        try (final var stream = cache.filling("a#2", "other", content.length, new ByteArrayInputStream(content))) {
+            stream.readAllBytes();
+        }
+
+        Assertions.assertTrue(cache.view("a#1").isEmpty());
+        Assertions.assertTrue(cache.view("a#2").isEmpty());
+        Assertions.assertEquals(0, cache.bytes());
+    }
+
+    @Test
+    public void givenContentLargerThanAnEntry_whenCallsFilling_shouldReturnTheStreamUnwrapped() {
+        final var cache = new ImageContentCache(1024, 4);
+        final var stream = new ByteArrayInputStream(new byte[8]);
+
+        Assertions.assertSame(stream, cache.filling("a#1", "1", 8, stream));
+    }
+}
@@ -0,0 +1,87 @@
+package com.ecom.catalog.admin.infrastructure.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ResponseCacheFilterTest {
+
+    private final CatalogVersion catalogVersion = new CatalogVersion();
+
+    private final AtomicInteger renders = new AtomicInteger();
+
+    private final ResponseCacheFilter filter = new ResponseCacheFilter(new ResponseCache(catalogVersion, 1024 * 1024, Duration.ofMinutes(1)), 2);
+
+    @Test
+    public void givenTheSameListing_whenCalledTwice_shouldRenderItOnce() throws Exception {
+        final var first = perform(listing("/products"));
+        final var second = perform(listing("/products", "page", "0", "sort", "name"));
+
+        Assertions.assertEquals(1, renders.get());
+        Assertions.assertEquals(first.getContentAsString(), second.getContentAsString());
+        Assertions.assertEquals(MediaType.APPLICATION_JSON_VALUE, second.getContentType());
+    }
+
+    @Test
+    public void givenACatalogWrite_whenCallsTheListingAgain_shouldRenderItAgain() throws Exception {
+        final var first = perform(listing("/products"));
+        catalogVersion.bump();
+        final var second = perform(listing("/products"));
+
+        Assertions.assertEquals(2, renders.get());
+        Assertions.assertNotEquals(first.getContentAsString(), second.getContentAsString());
+    }
+
+    @Test
+    public void givenSearchTermsOrADeepPage_whenCalledTwice_shouldNotCacheThem() throws Exception {
+        perform(listing("/products", "search", "celular"));
+        perform(listing("/products", "search", "celular"));
+        perform(listing("/categories", "page", "3"));
+        perform(listing("/categories", "page", "3"));
+
+        Assertions.assertEquals(4, renders.get());
+    }
+
+    @Test
+    public void givenDifferentParameters_whenCallsKeyOf_shouldOnlyShareTheKeyWhenEquivalent() {
+        Assertions.assertEquals(
+                ResponseCacheFilter.keyOf(listing("/products", "perPage", "10", "dir", "asc")),
+                ResponseCacheFilter.keyOf(listing("/products", "search", " ")));
+        Assertions.assertEquals(
+                ResponseCacheFilter.keyOf(listing("/products", "store", "1", "category", "2")),
+                ResponseCacheFilter.keyOf(listing("/products", "category", "2", "store", "1")));
+        Assertions.assertNotEquals(
+                ResponseCacheFilter.keyOf(listing("/products", "store", "1")),
+                ResponseCacheFilter.keyOf(listing("/categories", "store", "1")));
+    }
+
+    private MockHttpServletResponse perform(final MockHttpServletRequest request) throws Exception {
+        final var response = new MockHttpServletResponse();
+        this.filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(final HttpServletRequest req, final HttpServletResponse resp) throws IOException {
+                resp.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                resp.getWriter().write("{\"render\":%d}".formatted(renders.incrementAndGet()));
+            }
+        }));
+        return response;
+    }
+
+    private static MockHttpServletRequest listing(final String path, final String... params) {
+        final var request = new MockHttpServletRequest("GET", path);
+        for (int i = 0; i < params.length; i += 2) {
+            request.addParameter(params[i], params[i + 1]);
+        }
+        return request;
+    }
+}
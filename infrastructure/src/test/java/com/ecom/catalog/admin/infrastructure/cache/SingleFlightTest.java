@@ -0,0 +1,113 @@
+package com.ecom.catalog.admin.infrastructure.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SingleFlightTest {
+
+    private final SingleFlight<String, String> loads = new SingleFlight<>();
+
+    @Test
+    public void givenConcurrentLoadsOfTheSameKey_whenCallsLoad_shouldRunTheLoaderOnce() throws Exception {
+        final var callers = 8;
+        final var calls = new AtomicInteger();
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(callers);
+        try {
+            final var results = new ArrayList<Future<String>>();
+            results.add(executor.submit(() -> loads.load("1", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "product-1";
+            })));
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> loads.load("1", () -> {
+                    calls.incrementAndGet();
+                    return "other";
+                })));
+            }
+            waitUntilCoalesced(callers - 1);
+            release.countDown();
+
+            for (final var result : results) {
+                Assertions.assertEquals("product-1", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(1, loads.stats().missCount());
+        Assertions.assertEquals(callers - 1, loads.stats().hitCount());
+        Assertions.assertEquals(0, loads.inFlight());
+    }
+
+    @Test
+    public void givenACompletedLoad_whenCallsLoadAgain_shouldRunTheLoaderAgain() {
+        final var calls = new AtomicInteger();
+
+        loads.load("1", () -> String.valueOf(calls.incrementAndGet()));
+        loads.load("1", () -> String.valueOf(calls.incrementAndGet()));
+        loads.load("2", () -> String.valueOf(calls.incrementAndGet()));
+
+        Assertions.assertEquals(3, calls.get());
+        Assertions.assertEquals(0, loads.stats().hitCount());
+    }
+
+    @Test
+    public void givenAFailingLoad_whenCallersAreCoalesced_shouldRethrowToAllOfThem() throws Exception {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<String> leader = executor.submit(() -> loads.load("1", () -> {
+                started.countDown();
+                await(release);
+                throw new IllegalStateException("storage down");
+            }));
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            final Future<String> follower = executor.submit(() -> loads.load("1", () -> "never"));
+            waitUntilCoalesced(1);
+            release.countDown();
+
+            final List<Future<String>> callers = List.of(leader, follower);
+            for (final var caller : callers) {
+                final var actual = Assertions.assertThrows(ExecutionException.class, () -> caller.get(5, TimeUnit.SECONDS));
+                Assertions.assertInstanceOf(IllegalStateException.class, actual.getCause());
+                Assertions.assertEquals("storage down", actual.getCause().getMessage());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals("loaded", loads.load("1", () -> "loaded"));
+    }
+
+    private void waitUntilCoalesced(final long expected) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loads.stats().hitCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        Assertions.assertEquals(expected, loads.stats().hitCount());
+    }
+
+    private static void await(final CountDownLatch aLatch) {
+        try {
+            aLatch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
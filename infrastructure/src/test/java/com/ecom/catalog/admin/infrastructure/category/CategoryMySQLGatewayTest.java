@@ -3,6 +3,8 @@ package com.ecom.catalog.admin.infrastructure.category;
 import com.ecom.catalog.admin.MySQLGatewayTest;
 import com.ecom.catalog.admin.domain.category.Category;
 import com.ecom.catalog.admin.domain.category.CategoryID;
+import com.ecom.catalog.admin.domain.exceptions.DomainException;
+import com.ecom.catalog.admin.domain.pagination.CountMode;
 import com.ecom.catalog.admin.domain.pagination.SearchQuery;
 import com.ecom.catalog.admin.infrastructure.category.persistence.CategoryJpaEntity;
 import com.ecom.catalog.admin.infrastructure.category.persistence.CategoryRepository;
@@ -12,6 +14,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @MySQLGatewayTest
@@ -336,6 +339,165 @@ public class CategoryMySQLGatewayTest {
 
 
 
+    @ParameterizedTest
+    @CsvSource({
+            "name,asc,Artesanato+Automotivo;Beleza e Perfumaria+Decoração;Eletrônicos",
+            "name,desc,Eletrônicos+Decoração;Beleza e Perfumaria+Automotivo;Artesanato",
+    })
+    public void givenACursor_whenCallFindAll_shouldSeekAfterTheLastItem(
+            final String expectedSort,
+            final String expectedDirection,
+            final String expectedNames
+    ) {
+        // given
+        mockCategories();
+        final var expectedPerPage = 2;
+        final var expectedPages = expectedNames.split(";");
+
+        // when
+        String aCursor = null;
+        for (final var expectedPage : expectedPages) {
+            final var aQuery =
+                    new SearchQuery(0, expectedPerPage, "", expectedSort, expectedDirection, aCursor);
+            final var actualPage = categoryGateway.findAll(aQuery);
+
+            // then
+            Assertions.assertEquals(5, actualPage.total());
+            Assertions.assertEquals(
+                    List.of(expectedPage.split("\\+")),
+                    actualPage.items().stream().map(Category::getName).toList()
+            );
+            aCursor = actualPage.nextCursor();
+        }
+
+        Assertions.assertNull(aCursor);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"asc", "desc"})
+    public void givenNullSortValues_whenCallFindAllByCursor_shouldWalkEveryItemInOffsetOrder(final String expectedDirection) {
+        // given
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Automotivo", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Eletrônicos", "Eletrônicos do tipo A", true)),
+                CategoryJpaEntity.from(Category.newCategory("Artesanato", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Beleza e Perfumaria", "Beleza e Perfumaria do tipo D", true)),
+                CategoryJpaEntity.from(Category.newCategory("Decoração", null, true))
+        ));
+        final var expectedNames = categoryGateway.findAll(new SearchQuery(0, 10, "", "description", expectedDirection))
+                .items().stream().map(Category::getName).toList();
+
+        // when
+        final var actualNames = new ArrayList<String>();
+        String aCursor = null;
+        do {
+            final var actualPage = categoryGateway.findAll(
+                    new SearchQuery(0, 2, "", "description", expectedDirection, aCursor));
+            actualPage.items().forEach(it -> actualNames.add(it.getName()));
+            aCursor = actualPage.nextCursor();
+        } while (aCursor != null);
+
+        // then
+        Assertions.assertEquals(5, expectedNames.size());
+        Assertions.assertEquals(expectedNames, actualNames);
+    }
+
+    @Test
+    public void givenACursorOfAnotherSort_whenCallFindAll_shouldThrowDomainException() {
+        // given
+        mockCategories();
+        final var expectedErrorMessage = "'cursor' is invalid for the requested sort";
+
+        final var aCursor = categoryGateway.findAll(new SearchQuery(0, 2, "", "name", "asc"))
+                .nextCursor();
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> categoryGateway.findAll(new SearchQuery(0, 2, "", "createdAt", "asc", aCursor))
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenCountModeNone_whenCallFindAll_shouldSkipTotalAndReportHasNext() {
+        // given
+        mockCategories();
+        final var aQuery = new SearchQuery(1, 2, "", "name", "asc", null, CountMode.NONE);
+
+        // when
+        final var actualPage = categoryGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(CountMode.UNKNOWN_TOTAL, actualPage.total());
+        Assertions.assertEquals(2, actualPage.items().size());
+        Assertions.assertTrue(actualPage.hasNext());
+    }
+
+    @Test
+    public void givenCountModeCached_whenCallFindAllTwice_shouldReuseTheFirstTotal() {
+        // given
+        mockCategories();
+        final var aQuery = new SearchQuery(1, 2, " ", "name", "asc", null, CountMode.CACHED);
+        final var expectedTotal = categoryGateway.findAll(aQuery).total();
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Brinquedos", null, true)));
+
+        // when
+        final var actualPage = categoryGateway.findAll(new SearchQuery(2, 2, "", "createdAt", "desc", null, CountMode.CACHED));
+
+        // then
+        Assertions.assertEquals(5, expectedTotal);
+        Assertions.assertEquals(expectedTotal, actualPage.total());
+    }
+
+    @Test
+    public void givenCountModeEstimatedOnH2_whenCallFindAll_shouldFallbackToACount() {
+        // given
+        mockCategories();
+        final var aQuery = new SearchQuery(1, 2, "", "name", "asc", null, CountMode.ESTIMATED);
+
+        // when
+        final var actualPage = categoryGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(5, actualPage.total());
+    }
+
+    @Test
+    public void givenSortByRelevanceOnH2_whenCallFindAll_shouldFallbackToLikeWithoutCursor() {
+        // given
+        mockCategories();
+        final var aQuery = new SearchQuery(0, 1, "tipo d", "relevance", "asc");
+
+        // when
+        final var actualPage = categoryGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertEquals(1, actualPage.items().size());
+        Assertions.assertTrue(actualPage.hasNext());
+        Assertions.assertNull(actualPage.nextCursor());
+    }
+
+    @Test
+    public void givenSortByRelevanceAndACursor_whenCallFindAll_shouldThrowDomainException() {
+        // given
+        final var expectedErrorMessage = "'cursor' is not supported when sorting by relevance";
+        final var aQuery = new SearchQuery(0, 1, "tipo", "relevance", "asc", "Y3Vyc29y");
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> categoryGateway.findAll(aQuery)
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
     private void mockCategories() {
         categoryRepository.saveAllAndFlush(List.of(
                 CategoryJpaEntity.from(Category.newCategory("Automotivo", "Automotivo do tipo C",true)),
@@ -0,0 +1,186 @@
+package com.ecom.catalog.admin.infrastructure.category;
+
+import com.ecom.catalog.admin.domain.category.Category;
+import com.ecom.catalog.admin.domain.category.CategoryGateway;
+import com.ecom.catalog.admin.domain.category.CategoryID;
+import com.ecom.catalog.admin.domain.pagination.SearchQuery;
+import com.ecom.catalog.admin.infrastructure.pagination.KeysetCursor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class SnapshotCategoryGatewayTest {
+
+    private final List<Category> table = new ArrayList<>(List.of(
+            category("Eletrônicos", "Celulares e TVs"),
+            category("Livros", "Livros físicos"),
+            category("Moda", "Roupas e eletrônicos vestíveis")
+    ));
+
+    private final CategoryGateway delegate = Mockito.mock(CategoryGateway.class);
+
+    private final CategorySnapshot snapshot = new CategorySnapshot(
+            () -> List.copyOf(table),
+            anId -> table.stream().filter(it -> it.getId().equals(anId)).findFirst(),
+            since -> table.stream().filter(it -> !it.getUpdatedAt().isBefore(since)).toList(),
+            () -> table.size(),
+            Duration.ofMinutes(1)
+    );
+
+    private final SnapshotCategoryGateway gateway = new SnapshotCategoryGateway(delegate, snapshot, false);
+
+    @Test
+    public void givenAColdSnapshot_whenCallsFindById_shouldGoToTheDelegate() {
+        final var expected = table.get(0);
+        when(delegate.findById(any())).thenReturn(Optional.of(expected));
+
+        Assertions.assertEquals(Optional.of(expected), gateway.findById(expected.getId()));
+    }
+
+    @Test
+    public void givenALoadedSnapshot_whenCallsReads_shouldServeThemFromMemory() {
+        snapshot.refresh();
+        final var expected = table.get(1);
+
+        final var actual = gateway.findById(expected.getId()).orElseThrow();
+
+        Assertions.assertEquals(expected.getName(), actual.getName());
+        Assertions.assertNotSame(expected, actual);
+        Assertions.assertTrue(gateway.existsById(expected.getId()));
+        Assertions.assertFalse(gateway.existsById(CategoryID.unique()));
+        Assertions.assertEquals(List.of(expected.getId()), gateway.existsByIds(List.of(expected.getId(), CategoryID.unique())));
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    public void givenTermsAndSort_whenCallsFindAll_shouldSearchAndPageInMemory() {
+        snapshot.refresh();
+
+        final var firstPage = gateway.findAll(new SearchQuery(0, 1, "ELETRÔNICOS", "name", "desc"));
+        final var secondPage = gateway.findAll(new SearchQuery(1, 1, "eletrônicos", "name", "desc"));
+
+        Assertions.assertEquals(2, firstPage.total());
+        Assertions.assertEquals("Moda", firstPage.items().get(0).getName());
+        Assertions.assertTrue(firstPage.hasNext());
+        Assertions.assertEquals("Eletrônicos", secondPage.items().get(0).getName());
+        Assertions.assertFalse(secondPage.hasNext());
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    public void givenACursorOfAPageFromMemory_whenCallsFindAll_shouldResumeAfterItsLastItem() {
+        snapshot.refresh();
+
+        final var actualNames = new ArrayList<String>();
+        String aCursor = null;
+        do {
+            final var actualPage = gateway.findAll(new SearchQuery(0, 1, "", "name", "desc", aCursor));
+            actualPage.items().forEach(it -> actualNames.add(it.getName()));
+            aCursor = actualPage.nextCursor();
+            if (aCursor != null) {
+                // the same cursor the database pages emit, the delegate can resume from it too
+                Assertions.assertEquals(actualPage.items().get(0).getId().getValue(), KeysetCursor.decode(aCursor, "name", "DESC").id());
+            }
+        } while (aCursor != null);
+
+        Assertions.assertEquals(List.of("Moda", "Livros", "Eletrônicos"), actualNames);
+
+        final var firstByDate = gateway.findAll(new SearchQuery(0, 2, "", "createdAt", "asc"));
+        final var secondByDate = gateway.findAll(new SearchQuery(0, 2, "", "createdAt", "asc", firstByDate.nextCursor()));
+
+        Assertions.assertEquals(2, firstByDate.items().size());
+        Assertions.assertEquals(1, secondByDate.items().size());
+        Assertions.assertFalse(secondByDate.hasNext());
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    public void givenAnUnknownSortOrARelevanceCursor_whenCallsFindAll_shouldGoToTheDelegate() {
+        snapshot.refresh();
+
+        gateway.findAll(new SearchQuery(0, 10, "", "active", "asc"));
+        gateway.findAll(new SearchQuery(0, 10, "", "relevance", "asc", "cursor"));
+
+        Mockito.verify(delegate, Mockito.times(2)).findAll(any());
+    }
+
+    @Test
+    public void givenTermsOnAFullTextDatabase_whenCallsFindAll_shouldSearchTheDelegate() {
+        final var fullTextGateway = new SnapshotCategoryGateway(delegate, snapshot, true);
+        snapshot.refresh();
+
+        fullTextGateway.findAll(new SearchQuery(0, 10, "eletrônicos", "name", "asc"));
+        final var actualPage = fullTextGateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+
+        Mockito.verify(delegate, Mockito.times(1)).findAll(any());
+        Assertions.assertEquals(3, actualPage.total());
+    }
+
+    @Test
+    public void givenWrites_whenCallsReads_shouldSeeThemRightAway() {
+        snapshot.refresh();
+        final var created = category("Games", "Consoles");
+        final var removed = table.get(0);
+        when(delegate.create(any())).thenReturn(created);
+
+        gateway.create(created);
+        gateway.deleteById(removed.getId());
+
+        Assertions.assertTrue(gateway.existsById(created.getId()));
+        Assertions.assertFalse(gateway.existsById(removed.getId()));
+    }
+
+    @Test
+    public void givenChangesByAnotherInstance_whenRefreshes_shouldPickThemUp() {
+        snapshot.refresh();
+        final var updated = Category.with(table.get(0).getId(), "Eletrônicos e Games", "Celulares", true,
+                table.get(0).getCreatedAt(), Instant.now().plusSeconds(1), null);
+        final var added = category("Games", "Consoles");
+        table.set(0, updated);
+        snapshot.refresh();
+
+        Assertions.assertEquals("Eletrônicos e Games", gateway.findById(updated.getId()).orElseThrow().getName());
+
+        table.add(added);
+        snapshot.refresh();
+
+        Assertions.assertTrue(gateway.existsById(added.getId()));
+
+        final var removed = table.remove(1);
+        snapshot.refresh();
+
+        Assertions.assertEquals(3, gateway.findAll(new SearchQuery(0, 10, "", "name", "asc")).total());
+        Assertions.assertFalse(gateway.existsById(removed.getId()));
+    }
+
+    @Test
+    public void givenChangesReportedByAnotherInstance_whenCallsChanged_shouldApplyThemById() {
+        snapshot.refresh();
+        // same row count and an older clock than the snapshot has seen, the poll alone would miss both
+        final var removed = table.remove(0);
+        final var added = Category.with(CategoryID.unique(), "Games", "Consoles", true,
+                Instant.EPOCH, Instant.EPOCH, null);
+        table.add(added);
+
+        snapshot.changed(removed.getId(), true);
+        snapshot.changed(added.getId(), false);
+
+        Assertions.assertFalse(gateway.existsById(removed.getId()));
+        Assertions.assertEquals("Games", gateway.findById(added.getId()).orElseThrow().getName());
+        verifyNoInteractions(delegate);
+    }
+
+    private static Category category(final String aName, final String aDescription) {
+        return Category.newCategory(aName, aDescription, true);
+    }
+}
@@ -0,0 +1,110 @@
+package com.ecom.catalog.admin.infrastructure.changes;
+
+import com.ecom.catalog.admin.IntegrationTest;
+import com.ecom.catalog.admin.domain.category.Category;
+import com.ecom.catalog.admin.infrastructure.cache.CatalogVersion;
+import com.ecom.catalog.admin.infrastructure.cache.ExistenceCache;
+import com.ecom.catalog.admin.infrastructure.category.CategoryMySQLGateway;
+import com.ecom.catalog.admin.infrastructure.category.CategorySnapshot;
+import com.ecom.catalog.admin.infrastructure.changes.persistence.CatalogChangeJpaEntity;
+import com.ecom.catalog.admin.infrastructure.changes.persistence.CatalogChangeRepository;
+import com.ecom.catalog.admin.infrastructure.configuration.CacheConfig;
+import com.ecom.catalog.admin.infrastructure.configuration.properties.cache.ChangeLogProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+
+@IntegrationTest
+public class CatalogChangeCacheEvictionTest {
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private CatalogChangeRepository catalogChangeRepository;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    @Qualifier("categoryExistenceCache")
+    private ExistenceCache categoryExistenceCache;
+
+    @Autowired
+    @Qualifier("storeExistenceCache")
+    private ExistenceCache storeExistenceCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CatalogChangePoller poller;
+
+    @BeforeEach
+    void setUp() {
+        poller = new CacheConfig().catalogChangePoller(
+                catalogChangeRepository,
+                new ChangeLogProperties(),
+                catalogVersion,
+                categoryExistenceCache,
+                storeExistenceCache,
+                new StaticListableBeanFactory().getBeanProvider(CategorySnapshot.class),
+                entityManagerFactory
+        );
+        poller.poll();
+    }
+
+    @Test
+    public void givenACategoryUpdatedByAnotherNode_whenThePollerDispatchesIt_shouldReadTheNewRow() {
+        // given
+        final var expectedName = "Informática";
+        final var aCategory = categoryGateway.create(Category.newCategory("Eletrônico", "Eletrônicos do tipo A", true));
+        categoryGateway.findById(aCategory.getId());
+
+        writeBehindTheCache("update categories set name = ? where id = ?", expectedName, aCategory.getId().getValue());
+        catalogChangeRepository.saveAndFlush(CatalogChangeJpaEntity.of(CatalogChange.Type.CATEGORY, aCategory.getId().getValue(), false));
+        Assertions.assertEquals("Eletrônico", categoryGateway.findById(aCategory.getId()).orElseThrow().getName());
+
+        // when
+        poller.poll();
+
+        // then
+        Assertions.assertEquals(expectedName, categoryGateway.findById(aCategory.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void givenACategoryDeletedByAnotherNode_whenThePollerDispatchesIt_shouldNoLongerExist() {
+        // given
+        final var aCategory = categoryGateway.create(Category.newCategory("Eletrônico", "Eletrônicos do tipo A", true));
+        Assertions.assertTrue(categoryGateway.existsById(aCategory.getId()));
+
+        writeBehindTheCache("delete from categories where id = ?", aCategory.getId().getValue());
+        catalogChangeRepository.saveAndFlush(CatalogChangeJpaEntity.of(CatalogChange.Type.CATEGORY, aCategory.getId().getValue(), true));
+        Assertions.assertTrue(categoryGateway.existsById(aCategory.getId()));
+
+        // when
+        poller.poll();
+
+        // then
+        Assertions.assertFalse(categoryGateway.existsById(aCategory.getId()));
+        Assertions.assertTrue(categoryGateway.findById(aCategory.getId()).isEmpty());
+    }
+
+    private void writeBehindTheCache(final String sql, final Object... args) {
+        // auto-commit is off, a raw statement needs its own transaction
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> jdbcTemplate.update(sql, args));
+    }
+}
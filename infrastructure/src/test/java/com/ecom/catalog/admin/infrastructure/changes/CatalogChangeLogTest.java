@@ -0,0 +1,42 @@
+package com.ecom.catalog.admin.infrastructure.changes;
+
+import com.ecom.catalog.admin.infrastructure.cache.CatalogVersion;
+import com.ecom.catalog.admin.infrastructure.changes.persistence.CatalogChangeRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.mockito.ArgumentMatchers.any;
+
+public class CatalogChangeLogTest {
+
+    private final CatalogChangeRepository repository = Mockito.mock(CatalogChangeRepository.class);
+
+    private final CatalogVersion catalogVersion = new CatalogVersion();
+
+    @Test
+    public void givenTheChangeLogEnabled_whenCallsSaved_shouldAppendTheChange() {
+        // given
+        final var changeLog = new CatalogChangeLog(repository, catalogVersion, true);
+
+        // when
+        changeLog.saved(CatalogChange.Type.PRODUCT, "p1");
+
+        // then
+        Mockito.verify(repository).save(any());
+        Assertions.assertEquals(1, catalogVersion.current());
+    }
+
+    @Test
+    public void givenTheChangeLogDisabled_whenCallsRemoved_shouldOnlyBumpTheVersion() {
+        // given
+        final var changeLog = new CatalogChangeLog(repository, catalogVersion, false);
+
+        // when
+        changeLog.removed(CatalogChange.Type.CATEGORY, "c1");
+
+        // then
+        Mockito.verifyNoInteractions(repository);
+        Assertions.assertEquals(1, catalogVersion.current());
+    }
+}
@@ -0,0 +1,220 @@
+package com.ecom.catalog.admin.infrastructure.changes;
+
+import com.ecom.catalog.admin.domain.Fixture;
+import com.ecom.catalog.admin.domain.category.CategoryID;
+import com.ecom.catalog.admin.domain.pagination.SearchQuery;
+import com.ecom.catalog.admin.domain.product.Money;
+import com.ecom.catalog.admin.domain.product.Product;
+import com.ecom.catalog.admin.domain.product.ProductID;
+import com.ecom.catalog.admin.infrastructure.changes.persistence.CatalogChangeJpaEntity;
+import com.ecom.catalog.admin.infrastructure.changes.persistence.CatalogChangeRepository;
+import com.ecom.catalog.admin.infrastructure.configuration.SearchConfig;
+import com.ecom.catalog.admin.infrastructure.product.persistence.ProductJpaEntity;
+import com.ecom.catalog.admin.infrastructure.product.persistence.ProductRepository;
+import com.ecom.catalog.admin.infrastructure.product.search.InMemoryProductSearchGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+public class CatalogChangePollerTest {
+
+    private final TreeMap<Long, CatalogChangeJpaEntity> table = new TreeMap<>();
+
+    private final List<String> received = new ArrayList<>();
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+
+    private CatalogChangeRepository repository;
+
+    private CatalogChangePoller poller;
+
+    @BeforeEach
+    void setUp() {
+        repository = Mockito.mock(CatalogChangeRepository.class);
+        Mockito.when(repository.findMaxId()).thenAnswer(t -> Optional.ofNullable(table.isEmpty() ? null : table.lastKey()));
+        Mockito.when(repository.findAllAfter(anyLong(), any()))
+                .thenAnswer(t -> new ArrayList<>(table.tailMap(t.getArgument(0, Long.class), false).values()));
+
+        poller = new CatalogChangePoller(
+                repository,
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(30),
+                Duration.ofHours(1),
+                Duration.ofMinutes(10),
+                500,
+                clock
+        );
+        poller.register(aChange -> received.add(aChange.type() + ":" + aChange.entityId() + (aChange.removed() ? "-" : "+")));
+    }
+
+    @Test
+    public void givenChangesMadeBeforeStart_whenCallsPoll_shouldOnlyDispatchLaterOnes() {
+        insert(1, CatalogChange.Type.PRODUCT, "old", false);
+        poller.poll();
+
+        insert(2, CatalogChange.Type.CATEGORY, "c1", false);
+        insert(3, CatalogChange.Type.STORE, "s1", false);
+        insert(4, CatalogChange.Type.CATEGORY, "c1", true);
+        poller.poll();
+        poller.poll();
+
+        Assertions.assertEquals(List.of("CATEGORY:c1+", "STORE:s1+", "CATEGORY:c1-"), received);
+        Assertions.assertEquals(4, poller.watermark());
+    }
+
+    @Test
+    public void givenAGapFromAnOpenTransaction_whenItCommits_shouldDispatchItOnce() {
+        poller.poll();
+
+        insert(2, CatalogChange.Type.PRODUCT, "p2", false);
+        poller.poll();
+
+        Assertions.assertEquals(List.of("PRODUCT:p2+"), received);
+        Assertions.assertEquals(0, poller.watermark());
+
+        insert(1, CatalogChange.Type.PRODUCT, "p1", false);
+        poller.poll();
+        poller.poll();
+
+        Assertions.assertEquals(List.of("PRODUCT:p2+", "PRODUCT:p1+"), received);
+        Assertions.assertEquals(2, poller.watermark());
+    }
+
+    @Test
+    public void givenAGapThatNeverCommits_whenTheTimeoutElapses_shouldSkipIt() {
+        poller.poll();
+
+        insert(2, CatalogChange.Type.PRODUCT, "p2", false);
+        poller.poll();
+        clock.advance(Duration.ofSeconds(29));
+        poller.poll();
+
+        Assertions.assertEquals(0, poller.watermark());
+
+        clock.advance(Duration.ofSeconds(2));
+        poller.poll();
+
+        Assertions.assertEquals(2, poller.watermark());
+        Assertions.assertEquals(List.of("PRODUCT:p2+"), received);
+    }
+
+    @Test
+    public void givenASkippedGap_whenTheNextGapCommits_shouldStillDispatchIt() {
+        poller.poll();
+
+        insert(3, CatalogChange.Type.PRODUCT, "p3", false);
+        poller.poll();
+        clock.advance(Duration.ofSeconds(31));
+        poller.poll();
+
+        Assertions.assertEquals(1, poller.watermark());
+
+        insert(2, CatalogChange.Type.PRODUCT, "p2", false);
+        poller.poll();
+
+        Assertions.assertEquals(List.of("PRODUCT:p3+", "PRODUCT:p2+"), received);
+        Assertions.assertEquals(3, poller.watermark());
+    }
+
+    @Test
+    public void givenAFailingListener_whenCallsPoll_shouldStillDispatchToTheOthers() {
+        final var failing = new CatalogChangePoller(
+                repository, Duration.ofSeconds(1), Duration.ofSeconds(30), Duration.ofHours(1), Duration.ofMinutes(10), 500, clock
+        );
+        failing.register(aChange -> {
+            throw new IllegalStateException("boom");
+        });
+        failing.register(aChange -> received.add(aChange.entityId()));
+        failing.poll();
+
+        insert(1, CatalogChange.Type.PRODUCT, "p1", false);
+        failing.poll();
+
+        Assertions.assertEquals(List.of("p1"), received);
+        Assertions.assertEquals(1, failing.watermark());
+    }
+
+    @Test
+    public void givenTheInMemorySearchIndex_whenCallsPollWithProductChanges_shouldReindexOrDropThem() {
+        final var productRepository = Mockito.mock(ProductRepository.class);
+        Mockito.when(productRepository.streamAllForSearch()).thenReturn(Stream.empty());
+        final var aProduct = Product.newProduct("Celular", "Celular do tipo ABC", Money.with(1800.03), 10, CategoryID.unique(), Fixture.Stores.lojaEletromania(), Set.of());
+        final var anId = aProduct.getId().getValue();
+        final var searchGateway = (InMemoryProductSearchGateway) new SearchConfig()
+                .inMemoryProductSearchGateway(productRepository, new StaticListableBeanFactory(Map.of("catalogChangePoller", poller)).getBeanProvider(CatalogChangePoller.class));
+        searchGateway.build();
+        final var aQuery = new SearchQuery(0, 10, "celular", "name", "asc");
+        poller.poll();
+
+        Mockito.when(productRepository.findById(anId)).thenReturn(Optional.of(ProductJpaEntity.from(aProduct)));
+        insert(1, CatalogChange.Type.PRODUCT, anId, false);
+        poller.poll();
+
+        Assertions.assertEquals(List.of(ProductID.from(anId)), searchGateway.search(aQuery).orElseThrow().items());
+
+        Mockito.when(productRepository.findById(anId)).thenReturn(Optional.empty());
+        insert(2, CatalogChange.Type.PRODUCT, anId, true);
+        poller.poll();
+
+        Assertions.assertEquals(List.of(), searchGateway.search(aQuery).orElseThrow().items());
+    }
+
+    @Test
+    public void whenCallsCompact_shouldDeleteChangesOlderThanTheRetention() {
+        poller.compact();
+
+        Mockito.verify(repository).deleteAllChangedBefore(Instant.parse("2023-12-31T23:00:00Z"));
+    }
+
+    private void insert(final long anId, final CatalogChange.Type aType, final String anEntityId, final boolean removed) {
+        final var anEntity = CatalogChangeJpaEntity.of(aType, anEntityId, removed);
+        ReflectionTestUtils.setField(anEntity, "id", anId);
+        table.put(anId, anEntity);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(final Instant now) {
+            this.now = now;
+        }
+
+        void advance(final Duration aDuration) {
+            this.now = this.now.plus(aDuration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return this.now;
+        }
+    }
+}
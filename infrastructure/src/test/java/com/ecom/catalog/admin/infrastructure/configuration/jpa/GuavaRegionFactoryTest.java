@@ -0,0 +1,57 @@
+package com.ecom.catalog.admin.infrastructure.configuration.jpa;
+
+import com.ecom.catalog.admin.IntegrationTest;
+import com.ecom.catalog.admin.domain.category.Category;
+import com.ecom.catalog.admin.infrastructure.api.controllers.CacheController;
+import com.ecom.catalog.admin.infrastructure.cache.models.CacheRegionResponse;
+import com.ecom.catalog.admin.infrastructure.category.CategoryMySQLGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@IntegrationTest
+public class GuavaRegionFactoryTest {
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private CacheController cacheController;
+
+    @Test
+    public void givenAPersistedCategory_whenCallsFindByIdTwice_shouldHitTheSecondLevelCache() {
+        // given
+        final var aCategory = categoryGateway.create(Category.newCategory("Eletrônico", "Eletrônicos do tipo A", true));
+        final var hitsBefore = categoryRegion().hits();
+
+        // when
+        categoryGateway.findById(aCategory.getId());
+        final var actualExists = categoryGateway.existsById(aCategory.getId());
+
+        // then
+        Assertions.assertTrue(actualExists);
+        Assertions.assertTrue(categoryRegion().hits() >= hitsBefore + 2);
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsUpdate_shouldReadTheUpdatedCategory() {
+        // given
+        final var expectedName = "Informática";
+        final var aCategory = categoryGateway.create(Category.newCategory("Eletrônico", "Eletrônicos do tipo A", true));
+        categoryGateway.findById(aCategory.getId());
+
+        // when
+        categoryGateway.update(Category.with(aCategory).update(expectedName, aCategory.getDescription(), true));
+        final var actualCategory = categoryGateway.findById(aCategory.getId()).orElseThrow();
+
+        // then
+        Assertions.assertEquals(expectedName, actualCategory.getName());
+    }
+
+    private CacheRegionResponse categoryRegion() {
+        return cacheController.list().stream()
+                .filter(it -> it.region().equals("category"))
+                .findFirst()
+                .orElseThrow();
+    }
+}
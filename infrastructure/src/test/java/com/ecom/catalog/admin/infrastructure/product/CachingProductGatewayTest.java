@@ -0,0 +1,161 @@
+package com.ecom.catalog.admin.infrastructure.product;
+
+import com.ecom.catalog.admin.domain.Fixture;
+import com.ecom.catalog.admin.domain.category.CategoryID;
+import com.ecom.catalog.admin.domain.product.Money;
+import com.ecom.catalog.admin.domain.product.Product;
+import com.ecom.catalog.admin.domain.product.ProductGateway;
+import com.ecom.catalog.admin.domain.product.ProductImage;
+import com.ecom.catalog.admin.domain.product.ProductStatus;
+import com.ecom.catalog.admin.infrastructure.cache.SingleFlight;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingProductGatewayTest {
+
+    private final ProductGateway delegate = Mockito.mock(ProductGateway.class);
+
+    private final CachingProductGateway gateway = new CachingProductGateway(delegate, new SingleFlight<>(), 100, Duration.ofMinutes(1));
+
+    @Test
+    public void givenACachedProduct_whenCallsFindByIdAgain_shouldNotHitTheDelegate() {
+        // given
+        final var aProduct = newProduct();
+        when(delegate.findById(aProduct.getId())).thenReturn(Optional.of(aProduct));
+
+        // when
+        gateway.findById(aProduct.getId());
+        final var actualProduct = gateway.findById(aProduct.getId()).orElseThrow();
+
+        // then
+        Assertions.assertEquals(aProduct.getId(), actualProduct.getId());
+        Assertions.assertEquals(aProduct.getName(), actualProduct.getName());
+        verify(delegate, times(1)).findById(aProduct.getId());
+    }
+
+    @Test
+    public void givenACachedProduct_whenTheCallerChangesIt_shouldKeepTheCachedSnapshot() {
+        // given
+        final var aProduct = newProduct();
+        when(delegate.findById(aProduct.getId())).thenReturn(Optional.of(aProduct));
+
+        // when
+        gateway.findById(aProduct.getId()).orElseThrow().deactivate();
+        aProduct.deactivate();
+        final var actualProduct = gateway.findById(aProduct.getId()).orElseThrow();
+
+        // then
+        Assertions.assertEquals(ProductStatus.ACTIVE, actualProduct.getStatus());
+    }
+
+    @Test
+    public void givenACachedProduct_whenCallsUpdate_shouldReadItFromTheDelegateAgain() {
+        // given
+        final var aProduct = newProduct();
+        when(delegate.findById(aProduct.getId())).thenReturn(Optional.of(aProduct));
+        when(delegate.update(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        gateway.findById(aProduct.getId());
+
+        // when
+        gateway.update(Product.with(aProduct).deactivate());
+        gateway.findById(aProduct.getId());
+
+        // then
+        Assertions.assertEquals(1, gateway.size());
+        verify(delegate, times(2)).findById(aProduct.getId());
+    }
+
+    @Test
+    public void givenAnEvictionDuringALoad_whenTheLoadCompletes_shouldNotCacheWhatItRead() {
+        // given
+        final var aProduct = newProduct();
+        when(delegate.findById(aProduct.getId())).thenAnswer(invocation -> {
+            // e.g. an update or a change from another node landing while the old row is read
+            gateway.evict(aProduct.getId());
+            return Optional.of(aProduct);
+        });
+
+        // when
+        final var actualProduct = gateway.findById(aProduct.getId());
+
+        // then
+        Assertions.assertTrue(actualProduct.isPresent());
+        Assertions.assertEquals(0, gateway.size());
+        Assertions.assertTrue(gateway.findUpdatedAtById(aProduct.getId()).isEmpty());
+    }
+
+    @Test
+    public void givenAnUnknownProduct_whenCallsFindById_shouldNotCacheTheMiss() {
+        // given
+        final var aProduct = newProduct();
+        when(delegate.findById(aProduct.getId())).thenReturn(Optional.empty());
+
+        // when
+        final var actualProduct = gateway.findById(aProduct.getId());
+
+        // then
+        Assertions.assertTrue(actualProduct.isEmpty());
+        Assertions.assertEquals(0, gateway.size());
+    }
+
+    @Test
+    public void givenAProductFoundByImageId_whenCallsFindByImageIdAgain_shouldNotHitTheDelegate() {
+        // given
+        final var anImage = ProductImage.with("abc", "image.png", "/images/image.png", true);
+        final var aProduct = newProduct().updateImages(Set.of(anImage));
+        when(delegate.findByImageId(anImage.getId())).thenReturn(Optional.of(aProduct));
+
+        // when
+        gateway.findByImageId(anImage.getId());
+        final var actualProduct = gateway.findByImageId(anImage.getId()).orElseThrow();
+
+        // then
+        Assertions.assertEquals(aProduct.getId(), actualProduct.getId());
+        Assertions.assertEquals(aProduct.getId(), gateway.findById(aProduct.getId()).orElseThrow().getId());
+        verify(delegate, times(1)).findByImageId(anImage.getId());
+        verify(delegate, times(0)).findById(any());
+    }
+
+    @Test
+    public void givenAnImageRemovedFromTheCachedProduct_whenCallsFindByImageId_shouldReadItFromTheDelegateAgain() {
+        // given
+        final var anImage = ProductImage.with("abc", "image.png", "/images/image.png", true);
+        final var aProduct = newProduct().updateImages(Set.of(anImage));
+        when(delegate.findByImageId(anImage.getId())).thenReturn(Optional.of(aProduct), Optional.empty());
+        when(delegate.findById(aProduct.getId())).thenReturn(Optional.of(Product.with(aProduct).updateImages(Set.of())));
+        when(delegate.update(any())).thenAnswer(it -> it.getArgument(0));
+
+        gateway.findByImageId(anImage.getId());
+        gateway.update(Product.with(aProduct).updateImages(Set.of()));
+
+        // when
+        final var actualProduct = gateway.findByImageId(anImage.getId());
+
+        // then
+        Assertions.assertTrue(actualProduct.isEmpty());
+        verify(delegate, times(2)).findByImageId(anImage.getId());
+    }
+
+    private static Product newProduct() {
+        return Product.newProduct(
+                "Celular",
+                "Celular do tipo ABC",
+                ProductStatus.ACTIVE,
+                Money.with(1800.03),
+                10,
+                CategoryID.from("123"),
+                Fixture.Stores.lojaEletromania()
+        );
+    }
+}
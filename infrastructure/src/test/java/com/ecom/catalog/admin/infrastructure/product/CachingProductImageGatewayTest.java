@@ -0,0 +1,99 @@
+package com.ecom.catalog.admin.infrastructure.product;
+
+import com.ecom.catalog.admin.domain.Fixture;
+import com.ecom.catalog.admin.domain.product.ByteRange;
+import com.ecom.catalog.admin.domain.product.ImageContent;
+import com.ecom.catalog.admin.domain.product.ProductID;
+import com.ecom.catalog.admin.domain.product.ProductImage;
+import com.ecom.catalog.admin.domain.product.ProductImageGateway;
+import com.ecom.catalog.admin.infrastructure.cache.ImageContentCache;
+import com.ecom.catalog.admin.infrastructure.cache.SingleFlight;
+import com.ecom.catalog.admin.infrastructure.utils.HashingUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingProductImageGatewayTest {
+
+    private static final byte[] CONTENT = new byte[]{1, 2, 3};
+
+    private final ProductImageGateway delegate = Mockito.mock(ProductImageGateway.class);
+
+    private final SingleFlight<String, Boolean> fills = new SingleFlight<>();
+
+    private final ProductImage anImage = ProductImage.with(HashingUtils.checksum(CONTENT), "a.png", "storeId-1/productId-1/a.png", true);
+
+    private final ProductID aProductId = ProductID.unique();
+
+    @Test
+    public void givenConcurrentMisses_whenCallsOpenImage_shouldReadTheStorageOnce() throws Exception {
+        // given
+        final var contents = new ImageContentCache(1024, 1024);
+        final var gateway = new CachingProductImageGateway(delegate, contents, fills);
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        when(delegate.openImage(any(), any(), any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            Assertions.assertTrue(release.await(5, TimeUnit.SECONDS));
+            return Optional.of(ImageContent.with(CONTENT.length, 0, CONTENT.length, new ByteArrayInputStream(CONTENT)));
+        });
+        final var executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            final var leader = executor.submit(() -> readAll(gateway));
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+            final var follower = executor.submit(() -> readAll(gateway));
+            while (fills.stats().hitCount() < 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // then
+            Assertions.assertArrayEquals(CONTENT, leader.get(5, TimeUnit.SECONDS));
+            Assertions.assertArrayEquals(CONTENT, follower.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(delegate, times(1)).openImage(any(), any(), any(), any());
+        Assertions.assertEquals(1, contents.size());
+    }
+
+    @Test
+    public void givenAnImageLargerThanAnEntry_whenCallsOpenImage_shouldStreamItWithoutCaching() {
+        // given
+        final var contents = new ImageContentCache(1024, CONTENT.length - 1);
+        final var gateway = new CachingProductImageGateway(delegate, contents, fills);
+        when(delegate.openImage(any(), any(), any(), any()))
+                .thenAnswer(invocation -> Optional.of(ImageContent.with(CONTENT.length, 0, CONTENT.length, new ByteArrayInputStream(CONTENT))));
+
+        // when
+        final var actualContent = readAll(gateway);
+
+        // then
+        Assertions.assertArrayEquals(CONTENT, actualContent);
+        Assertions.assertEquals(0, contents.size());
+        verify(delegate, times(1)).openImage(any(), any(), any(), any());
+    }
+
+    private byte[] readAll(final CachingProductImageGateway gateway) {
+        try (final var content = gateway.openImage(Fixture.Stores.lojaEletromania(), aProductId, anImage, ByteRange.all()).orElseThrow()) {
+            return content.stream().readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.ecom.catalog.admin.infrastructure.product;
+
+import com.ecom.catalog.admin.IntegrationTest;
+import com.ecom.catalog.admin.domain.Fixture;
+import com.ecom.catalog.admin.domain.product.ProductID;
+import com.ecom.catalog.admin.domain.product.ProductImage;
+import com.ecom.catalog.admin.infrastructure.product.persistence.ImageBlobRefRepository;
+import com.ecom.catalog.admin.infrastructure.product.persistence.ImageBlobRepository;
+import com.ecom.catalog.admin.infrastructure.services.local.InMemoryStorageService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+
+@IntegrationTest
+class ContentAddressedProductImageGatewayTest {
+
+    @Autowired
+    private ImageBlobStore imageBlobStore;
+
+    @Autowired
+    private ImageBlobRepository blobRepository;
+
+    @Autowired
+    private ImageBlobRefRepository refRepository;
+
+    @Autowired
+    private InMemoryStorageService storageService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ContentAddressedProductImageGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        this.storageService.reset();
+        this.gateway = new ContentAddressedProductImageGateway(imageBlobStore, storageService, false);
+    }
+
+    @Test
+    public void givenTheSameImageForTwoProducts_whenCallsCreate_shouldStoreItOnce() {
+        // given
+        final var aStore = Fixture.Stores.lojaEletromania();
+        final var aProductId = ProductID.unique();
+        final var otherProductId = ProductID.unique();
+
+        // when
+        final var actualImage = single(this.gateway.create(aStore, aProductId, Set.of(Fixture.ProductImages.img01())));
+        final var otherImage = single(this.gateway.create(aStore, otherProductId, Set.of(Fixture.ProductImages.img01())));
+
+        // then
+        Assertions.assertEquals(actualImage.getLocation(), otherImage.getLocation());
+        Assertions.assertTrue(actualImage.getLocation().startsWith("blobs/"));
+        Assertions.assertEquals(1, this.storageService.storage().size());
+        Assertions.assertEquals(2, this.blobRepository.findById(actualImage.getLocation()).orElseThrow().getRefCount());
+        Assertions.assertEquals(2, this.refRepository.count());
+        Assertions.assertArrayEquals(
+                Fixture.ProductImages.img01().getContent().readAllBytes(),
+                this.gateway.getImage(aStore, otherProductId, otherImage).orElseThrow().getContent().readAllBytes());
+    }
+
+    @Test
+    public void givenASharedBlob_whenCallsClearImages_shouldDeleteItWithTheLastReference() {
+        // given
+        final var aStore = Fixture.Stores.lojaEletromania();
+        final var aProductId = ProductID.unique();
+        final var otherProductId = ProductID.unique();
+        final var key = single(this.gateway.create(aStore, aProductId, Set.of(Fixture.ProductImages.img01()))).getLocation();
+        this.gateway.create(aStore, otherProductId, Set.of(Fixture.ProductImages.img01()));
+
+        // when
+        this.gateway.clearImages(aStore, aProductId);
+
+        // then
+        Assertions.assertEquals(1, this.blobRepository.findById(key).orElseThrow().getRefCount());
+        Assertions.assertTrue(this.storageService.get(key).isPresent());
+
+        // when
+        this.gateway.clearImages(aStore, otherProductId);
+
+        // then
+        Assertions.assertTrue(this.blobRepository.findById(key).isEmpty());
+        Assertions.assertTrue(this.storageService.get(key).isEmpty());
+        Assertions.assertEquals(0, this.refRepository.count());
+    }
+
+    @Test
+    public void givenARolledBackRelease_whenCallsRelease_shouldKeepTheBlobAndItsFile() {
+        // given
+        final var aStore = Fixture.Stores.lojaEletromania();
+        final var aProductId = ProductID.unique();
+        final var key = single(this.gateway.create(aStore, aProductId, Set.of(Fixture.ProductImages.img01()))).getLocation();
+
+        // when
+        new TransactionTemplate(this.transactionManager).executeWithoutResult(status -> {
+            this.imageBlobStore.release(aProductId.getValue(), Set.of());
+            Assertions.assertTrue(this.storageService.get(key).isPresent());
+            status.setRollbackOnly();
+        });
+
+        // then
+        Assertions.assertEquals(1, this.blobRepository.findById(key).orElseThrow().getRefCount());
+        Assertions.assertTrue(this.storageService.get(key).isPresent());
+    }
+
+    @Test
+    public void givenAProductWithImages_whenCallsCreateWithOtherImages_shouldReleaseTheDroppedOnes() {
+        // given
+        final var aStore = Fixture.Stores.lojaEletromania();
+        final var aProductId = ProductID.unique();
+        final var droppedKey = single(this.gateway.create(aStore, aProductId, Set.of(Fixture.ProductImages.img01()))).getLocation();
+
+        // when
+        final var actualKey = single(this.gateway.create(aStore, aProductId, Set.of(Fixture.ProductImages.img02()))).getLocation();
+
+        // then
+        Assertions.assertTrue(this.blobRepository.findById(droppedKey).isEmpty());
+        Assertions.assertTrue(this.storageService.get(droppedKey).isEmpty());
+        Assertions.assertEquals(1, this.blobRepository.findById(actualKey).orElseThrow().getRefCount());
+        Assertions.assertEquals(1, this.refRepository.count());
+    }
+
+    @Test
+    public void givenTwoContentsSharingAChecksum_whenCallsCreateWithStrongHash_shouldStoreBoth() {
+        // given
+        final var aStore = Fixture.Stores.lojaEletromania();
+        final var anImage = ProductImage.with("collision", new byte[]{1, 2, 3}, "a.jpg", true);
+        final var otherImage = ProductImage.with("collision", new byte[]{4, 5, 6}, "b.jpg", true);
+        final var strongGateway = new ContentAddressedProductImageGateway(imageBlobStore, storageService, true);
+
+        // when
+        final var actualKey = single(strongGateway.create(aStore, ProductID.unique(), Set.of(anImage))).getLocation();
+        final var otherKey = single(strongGateway.create(aStore, ProductID.unique(), Set.of(otherImage))).getLocation();
+
+        // then
+        Assertions.assertNotEquals(actualKey, otherKey);
+        Assertions.assertEquals(2, this.storageService.storage().size());
+    }
+
+    private static ProductImage single(final Set<ProductImage> images) {
+        Assertions.assertEquals(1, images.size());
+        return images.iterator().next();
+    }
+}
@@ -5,6 +5,8 @@ import com.ecom.catalog.admin.MySQLGatewayTest;
 import com.ecom.catalog.admin.domain.Fixture;
 import com.ecom.catalog.admin.domain.category.Category;
 import com.ecom.catalog.admin.domain.category.CategoryID;
+import com.ecom.catalog.admin.domain.exceptions.DomainException;
+import com.ecom.catalog.admin.domain.pagination.CountMode;
 import com.ecom.catalog.admin.domain.pagination.SearchQuery;
 import com.ecom.catalog.admin.domain.product.*;
 import com.ecom.catalog.admin.infrastructure.category.CategoryMySQLGateway;
@@ -12,6 +14,7 @@ import com.ecom.catalog.admin.infrastructure.category.persistence.CategoryJpaEnt
 import com.ecom.catalog.admin.infrastructure.category.persistence.CategoryRepository;
 import com.ecom.catalog.admin.infrastructure.product.persistence.ProductJpaEntity;
 import com.ecom.catalog.admin.infrastructure.product.persistence.ProductRepository;
+import com.ecom.catalog.admin.domain.utils.IdUtils;
 import com.ecom.catalog.admin.infrastructure.utils.MoneyUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -19,7 +22,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 @IntegrationTest
@@ -40,6 +46,9 @@ public class DefaultProductGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private ProductDocumentStore productDocuments;
+
     @Test
     public void givenAValidProduct_whenCallsCreateProduct_shouldPersistProduct() {
         // given
@@ -96,6 +105,46 @@ public class DefaultProductGatewayTest {
     }
 
 
+    @Test
+    public void givenAValidProduct_whenCallsCreateProduct_shouldRenderItsDocument() {
+        // given
+        final var expectedCategory =
+                categoryGateway.create(Category.newCategory("Eletrônico", "Eletrônicos do tipo A", true));
+        final var expectedStore =
+                storeGateway.create(Fixture.Stores.lojaEletromania());
+        final var aProduct = Product.newProduct("Celular", "Celular do tipo ABC", Money.with(1800.03), 10, expectedCategory.getId(), expectedStore, Set.of(Fixture.ProductImages.img01()));
+
+        // when
+        final var actualProduct = productGateway.create(aProduct);
+
+        // then
+        final var actualDocument = productDocuments.find(actualProduct.getId().getValue()).orElseThrow();
+        Assertions.assertArrayEquals(ProductDocumentStore.render(actualProduct), actualDocument);
+    }
+
+    @Test
+    public void givenProductsWithoutDocument_whenCallsBackfill_shouldRenderThem() {
+        // given
+        final var expectedCategory =
+                categoryGateway.create(Category.newCategory("Eletrônico", "Eletrônicos do tipo A", true));
+        final var expectedStore =
+                storeGateway.create(Fixture.Stores.lojaEletromania());
+        final var aProduct = Product.newProduct("Celular", "Celular do tipo ABC", Money.with(1800.03), 10, expectedCategory.getId(), expectedStore, Set.of());
+        final var expectedId = aProduct.getId().getValue();
+
+        // saved before the documents existed
+        productRepository.saveAndFlush(ProductJpaEntity.from(aProduct));
+        Assertions.assertTrue(productDocuments.find(expectedId).isEmpty());
+
+        // when
+        final var actualRendered = productDocuments.backfill(10);
+
+        // then
+        Assertions.assertEquals(1, actualRendered);
+        Assertions.assertTrue(productDocuments.find(expectedId).isPresent());
+        Assertions.assertEquals(0, productDocuments.backfill(10));
+    }
+
     @Test
     public void givenAValidProductInactive_whenCallsUpdateProductActivating_shouldPersistProduct() {
         // given
@@ -258,6 +307,24 @@ public class DefaultProductGatewayTest {
 
     }
 
+    @Test
+    public void givenAPrePersistedProduct_whenCallsFindUpdatedAtById_shouldReturnItsVersion() {
+        // given
+        final var aCategory =
+                categoryGateway.create(Category.newCategory("Eletrônico", "Eletrônicos do tipo A", true));
+        final var aStore =
+                storeGateway.create(Fixture.Stores.lojaEletromania());
+        final var aProduct = productGateway.create(
+                Product.newProduct("Celular", "Celular do tipo ABC", Money.with(1800.03), 10, aCategory.getId(), aStore, Set.of()));
+
+        // when
+        final var actualUpdatedAt = productGateway.findUpdatedAtById(aProduct.getId());
+
+        // then
+        Assertions.assertEquals(Optional.of(aProduct.getUpdatedAt()), actualUpdatedAt);
+        Assertions.assertTrue(productGateway.findUpdatedAtById(ProductID.from("empty")).isEmpty());
+    }
+
     @Test
     public void givenAnInvalidProductId_whenCallsFindById_shouldReturnEmpty() {
         // given
@@ -302,6 +369,7 @@ public class DefaultProductGatewayTest {
             "carr,0,10,1,1,Carregador",
             "moch,0,10,1,1,Mochila",
             "pen,0,10,1,1,Penal",
+            "outra descr,0,10,5,5,Carregador",
     })
 
     public void givenAValidTerm_whenCallFindAll_shouldReturnFiltered(
@@ -367,6 +435,179 @@ public class DefaultProductGatewayTest {
 
     }
 
+    @Test
+    public void givenStoreCategoryStatusAndStockFilters_whenCallFindAll_shouldReturnOnlyMatchingProducts() {
+        // given
+        final var expectedPrice = Money.with(1800.03);
+        final var expectedImages = Set.of(Fixture.ProductImages.img01());
+        final var aStore = storeGateway.create(Fixture.Stores.lojaEletromania());
+        final var anotherStore = storeGateway.create(Store.with(IdUtils.uuid(), "Outra Loja"));
+        final var aCategory = categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Eletrônico", "Eletrônicos do tipo A", true)));
+        final var anotherCategory = categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Papelaria", "Papelaria do tipo A", true)));
+
+        productRepository.saveAllAndFlush(List.of(
+                ProductJpaEntity.from(Product.newProduct("Celular", "Celular", ProductStatus.ACTIVE, expectedPrice, 10, CategoryID.from(aCategory.getId()), aStore, expectedImages)),
+                ProductJpaEntity.from(Product.newProduct("Tablet", "Tablet", ProductStatus.ACTIVE, expectedPrice, 0, CategoryID.from(aCategory.getId()), aStore, expectedImages)),
+                ProductJpaEntity.from(Product.newProduct("Carregador", "Carregador", ProductStatus.INACTIVE, expectedPrice, 10, CategoryID.from(aCategory.getId()), aStore, expectedImages)),
+                ProductJpaEntity.from(Product.newProduct("Mochila", "Mochila", ProductStatus.ACTIVE, expectedPrice, 10, CategoryID.from(anotherCategory.getId()), aStore, expectedImages)),
+                ProductJpaEntity.from(Product.newProduct("Penal", "Penal", ProductStatus.ACTIVE, expectedPrice, 10, CategoryID.from(aCategory.getId()), anotherStore, expectedImages))
+        ));
+
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+        final var aFilter = ProductFilter.with(aStore.getId(), CategoryID.from(aCategory.getId()), ProductStatus.ACTIVE, true);
+
+        // when
+        final var actualPage = productGateway.findAll(aQuery, aFilter);
+
+        // then
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals("Celular", actualPage.items().get(0).getName());
+        Assertions.assertEquals(4, productGateway.findAll(aQuery, ProductFilter.with(aStore.getId(), null, null, false)).total());
+        Assertions.assertEquals(4, productGateway.findAll(aQuery, ProductFilter.with(null, null, ProductStatus.ACTIVE, false)).total());
+    }
+
+    @Test
+    public void givenTwoEqualCategoryFilters_whenCallFindAllWithCachedCount_shouldShareOneCachedCount() {
+        // given
+        final var expectedPrice = Money.with(1800.03);
+        final var expectedImages = Set.of(Fixture.ProductImages.img01());
+        final var aStore = storeGateway.create(Fixture.Stores.lojaEletromania());
+        final var aCategory = categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Eletrônico", "Eletrônicos do tipo A", true)));
+        final var aCategoryId = aCategory.getId();
+        productRepository.saveAllAndFlush(List.of(
+                ProductJpaEntity.from(Product.newProduct("Celular", "Celular", ProductStatus.ACTIVE, expectedPrice, 10, CategoryID.from(aCategoryId), aStore, expectedImages)),
+                ProductJpaEntity.from(Product.newProduct("Tablet", "Tablet", ProductStatus.ACTIVE, expectedPrice, 10, CategoryID.from(aCategoryId), aStore, expectedImages))
+        ));
+        final var aQuery = new SearchQuery(1, 1, "", "name", "asc", null, CountMode.CACHED);
+        final var actualTotal = productGateway.findAll(aQuery, ProductFilter.with(null, CategoryID.from(aCategoryId), null, false)).total();
+        productRepository.saveAndFlush(ProductJpaEntity.from(
+                Product.newProduct("Fone", "Fone", ProductStatus.ACTIVE, expectedPrice, 10, CategoryID.from(aCategoryId), aStore, expectedImages)));
+
+        // when
+        final var actualCachedTotal = productGateway.findAll(aQuery, ProductFilter.with(null, CategoryID.from(aCategoryId), null, false)).total();
+
+        // then
+        Assertions.assertEquals(2, actualTotal);
+        Assertions.assertEquals(2, actualCachedTotal);
+        Assertions.assertEquals(
+                ProductFilter.with(null, CategoryID.from(aCategoryId), null, false).cacheKey(),
+                ProductFilter.with(null, CategoryID.from(aCategoryId), null, false).cacheKey());
+    }
+
+    @Test
+    public void givenPrePersistedProducts_whenCallsFindAllPreviews_shouldReturnListedColumnsAndCursor() {
+        // given
+        mockProducts();
+        final var expectedCelular = productRepository.findAll().stream()
+                .filter(it -> it.getName().equals("Celular"))
+                .findFirst()
+                .orElseThrow()
+                .toPartialAggregate();
+
+        final var aQuery = new SearchQuery(0, 2, "", "name", "asc");
+
+        // when
+        final var actualPage = productGateway.findAllPreviews(aQuery, ProductFilter.empty());
+        final var actualNextPage = productGateway.findAllPreviews(
+                new SearchQuery(0, 2, "", "name", "asc", actualPage.nextCursor()), ProductFilter.empty());
+        final var actualByIds = productGateway.findAllPreviewsByIds(List.of(expectedCelular.getId()));
+
+        // then
+        Assertions.assertEquals(5, actualPage.total());
+        Assertions.assertEquals(List.of("Carregador", "Celular"), actualPage.items().stream().map(ProductPreview::name).toList());
+        Assertions.assertEquals(ProductPreview.from(expectedCelular), actualPage.items().get(1));
+        Assertions.assertEquals(List.of("Mochila", "Penal"), actualNextPage.items().stream().map(ProductPreview::name).toList());
+        Assertions.assertEquals(List.of(ProductPreview.from(expectedCelular)), actualByIds);
+    }
+
+    @Test
+    public void givenACategoryFilter_whenCallsForEachPreview_shouldVisitMatchingProductsInIdOrder() {
+        // given
+        mockProducts();
+        final var aCategoryId = productRepository.findAll().stream()
+                .filter(it -> it.getName().equals("Mochila"))
+                .findFirst()
+                .orElseThrow()
+                .getCategory()
+                .getId();
+        final var actualNames = new ArrayList<String>();
+        final var actualIds = new ArrayList<String>();
+
+        // when
+        productGateway.forEachPreview(
+                ProductFilter.with(null, CategoryID.from(aCategoryId), null, false),
+                aPreview -> {
+                    actualNames.add(aPreview.name());
+                    actualIds.add(aPreview.id().getValue());
+                }
+        );
+
+        // then
+        Assertions.assertEquals(Set.of("Mochila", "Penal"), Set.copyOf(actualNames));
+        Assertions.assertEquals(actualIds.stream().sorted().toList(), actualIds);
+    }
+
+    @Test
+    public void givenTermsAndAFilter_whenCallsFacets_shouldCountMatchingProductsPerColumn() {
+        // given
+        mockProducts();
+        final var products = productRepository.findAll();
+        final var aStoreId = products.get(0).getStore().getId();
+        final var aCategoryId = products.stream()
+                .filter(it -> it.getName().equals("Celular"))
+                .findFirst()
+                .orElseThrow()
+                .getCategory()
+                .getId();
+
+        // when
+        final var actualFacets = productGateway.facets(
+                new SearchQuery(0, 10, "l", "name", "asc"),
+                ProductFilter.with(aStoreId, null, null, false)
+        );
+
+        // then
+        Assertions.assertEquals(2, actualFacets.categories().size());
+        Assertions.assertEquals(2, actualFacets.categories().get(aCategoryId));
+        Assertions.assertEquals(Map.of(ProductStatus.ACTIVE, 4L), actualFacets.statuses());
+        Assertions.assertEquals(Map.of(aStoreId, 4L), actualFacets.stores());
+    }
+
+    @Test
+    public void givenTwoEqualCategoryFilters_whenCallsFacets_shouldShareOneCachedFacets() {
+        // given
+        final var expectedPrice = Money.with(1800.03);
+        final var expectedImages = Set.of(Fixture.ProductImages.img01());
+        final var aStore = storeGateway.create(Fixture.Stores.lojaEletromania());
+        final var aCategoryId = categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Eletrônico", "Eletrônicos do tipo A", true))).getId();
+        productRepository.saveAndFlush(ProductJpaEntity.from(
+                Product.newProduct("Celular", "Celular", ProductStatus.ACTIVE, expectedPrice, 10, CategoryID.from(aCategoryId), aStore, expectedImages)));
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc");
+        final var expectedFacets = productGateway.facets(aQuery, ProductFilter.with(null, CategoryID.from(aCategoryId), null, false));
+        productRepository.saveAndFlush(ProductJpaEntity.from(
+                Product.newProduct("Tablet", "Tablet", ProductStatus.ACTIVE, expectedPrice, 10, CategoryID.from(aCategoryId), aStore, expectedImages)));
+
+        // when
+        final var actualFacets = productGateway.facets(aQuery, ProductFilter.with(null, CategoryID.from(aCategoryId), null, false));
+
+        // then
+        Assertions.assertSame(expectedFacets, actualFacets);
+        Assertions.assertEquals(1, actualFacets.categories().get(aCategoryId));
+    }
+
+    @Test
+    public void givenASortWithoutIndex_whenCallFindAll_shouldThrowDomainException() {
+        // given
+        final var expectedErrorMessage = "'sort' should be one of name, createdAt or relevance";
+        final var aQuery = new SearchQuery(0, 10, "", "description", "asc");
+
+        // when
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> productGateway.findAll(aQuery));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
 
     private void mockProducts() {
 
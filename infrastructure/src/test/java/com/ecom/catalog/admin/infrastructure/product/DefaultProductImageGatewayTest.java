@@ -33,6 +33,21 @@ class DefaultProductImageGatewayTest {
         Assertions.assertInstanceOf(InMemoryStorageService.class, storageService);
     }
 
+    @Test
+    public void givenANameWithPathSegments_whenCallsCreate_shouldKeepItInTheProductFolder() {
+        // given
+        final var expectedStore = Fixture.Stores.lojaEletromania();
+        final var expectedProductId = ProductID.unique();
+        final var anImage = ProductImage.with(Fixture.ProductImages.img01().getChecksum(), Fixture.ProductImages.img01().getContent(), "../productId-other/a.png", true);
+        final var expectedLocation = "storeId-%s/productId-%s/a.png".formatted(expectedStore.getId(), expectedProductId.getValue());
+
+        // when
+        final var actualImage = this.productImageGateway.create(expectedStore, expectedProductId, anImage);
+
+        // then
+        Assertions.assertEquals(expectedLocation, actualImage.getLocation());
+    }
+
     @Test
     public void givenValidImages_whenCallsCreate_shouldCreateIt() {
         // given
@@ -72,10 +87,10 @@ class DefaultProductImageGatewayTest {
         final var actualImageStored2 = this.storageService.get(expectedLocations.get(1)).get();
 
         Assertions.assertEquals(actualImageStored1.getLocation(), expectedLocations.get(0));
-        Assertions.assertArrayEquals(actualImageStored1.getContent(), expectedImage1.getContent());
+        Assertions.assertArrayEquals(actualImageStored1.getContent().readAllBytes(), expectedImage1.getContent().readAllBytes());
 
         Assertions.assertEquals(actualImageStored2.getLocation(), expectedLocations.get(1));
-        Assertions.assertArrayEquals(actualImageStored2.getContent(), expectedImage2.getContent());
+        Assertions.assertArrayEquals(actualImageStored2.getContent().readAllBytes(), expectedImage2.getContent().readAllBytes());
 
     }
 
@@ -95,7 +110,7 @@ class DefaultProductImageGatewayTest {
         final var actualImage = this.productImageGateway.getImage(expectedStore, expectedProductId, expectedImageWithLocation).get();
 
         // then
-        Assertions.assertArrayEquals(actualImage.getContent(), expectedImageWithLocation.getContent());
+        Assertions.assertArrayEquals(actualImage.getContent().readAllBytes(), expectedImageWithLocation.getContent().readAllBytes());
         Assertions.assertEquals(actualImage.getLocation(), expectedLocation);
     }
 
@@ -147,7 +162,7 @@ class DefaultProductImageGatewayTest {
 
         final var actualImage1Product2 =  storageService.get(expectedImage1Product2.getLocation()).get();
         Assertions.assertEquals(actualImage1Product2.getLocation(), expectedImage1Product2.getLocation());
-        Assertions.assertArrayEquals(actualImage1Product2.getContent(), expectedImage1Product2.getContent());
+        Assertions.assertArrayEquals(actualImage1Product2.getContent().readAllBytes(), expectedImage1Product2.getContent().readAllBytes());
 
     }
 
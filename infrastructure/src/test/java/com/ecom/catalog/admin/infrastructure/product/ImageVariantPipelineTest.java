@@ -0,0 +1,129 @@
+package com.ecom.catalog.admin.infrastructure.product;
+
+import com.ecom.catalog.admin.domain.product.ProductImage;
+import com.ecom.catalog.admin.infrastructure.services.local.InMemoryStorageService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+public class ImageVariantPipelineTest {
+
+    private final InMemoryStorageService storage = new InMemoryStorageService();
+
+    private final ImageVariantPipeline pipeline = new ImageVariantPipeline(storage, List.of(600, 150), 10_000_000, 1, 10);
+
+    @AfterEach
+    void tearDown() {
+        this.pipeline.close();
+    }
+
+    @Test
+    public void givenAStoredImage_whenCallsGenerate_shouldStoreEveryNarrowerVariant() throws Exception {
+        // given
+        final var anImage = stored("storeId-1/productId-1/banner.png", png(800, 400));
+
+        // when
+        this.pipeline.generate(anImage);
+
+        // then
+        Assertions.assertEquals(3, this.storage.storage().size());
+        assertSize(150, 75, ImageVariantPipeline.location(anImage.getLocation(), 150));
+        assertSize(600, 300, ImageVariantPipeline.location(anImage.getLocation(), 600));
+    }
+
+    @Test
+    public void givenAnImageNarrowerThanAVariant_whenCallsGenerate_shouldSkipThatVariant() throws Exception {
+        // given
+        final var anImage = stored("storeId-1/productId-1/icon.png", png(300, 300));
+
+        // when
+        this.pipeline.generate(anImage);
+
+        // then
+        Assertions.assertEquals(2, this.storage.storage().size());
+        assertSize(150, 150, ImageVariantPipeline.location(anImage.getLocation(), 150));
+    }
+
+    @Test
+    public void givenAnImageOverThePixelBudget_whenCallsGenerate_shouldStoreNothing() throws Exception {
+        // given
+        final var aPipeline = new ImageVariantPipeline(storage, List.of(600, 150), 800 * 400 - 1, 1, 10);
+        final var anImage = stored("storeId-1/productId-1/banner.png", png(800, 400));
+
+        // when
+        aPipeline.generate(anImage);
+        aPipeline.close();
+
+        // then
+        Assertions.assertEquals(1, this.storage.storage().size());
+    }
+
+    @Test
+    public void givenATallImage_whenCallsGenerate_shouldKeepItsAspectRatio() throws Exception {
+        // given
+        final var anImage = stored("storeId-1/productId-1/poster.png", png(700, 2800));
+
+        // when
+        this.pipeline.generate(anImage);
+
+        // then
+        assertSize(150, 600, ImageVariantPipeline.location(anImage.getLocation(), 150));
+        assertSize(600, 2400, ImageVariantPipeline.location(anImage.getLocation(), 600));
+    }
+
+    @Test
+    public void givenContentThatIsNotAnImage_whenCallsGenerate_shouldStoreNothing() {
+        // given
+        final var anImage = stored("storeId-1/productId-1/file.png", new byte[]{1, 2, 3});
+
+        // when
+        this.pipeline.generate(anImage);
+
+        // then
+        Assertions.assertEquals(1, this.storage.storage().size());
+    }
+
+    @Test
+    public void givenAStoredImage_whenCallsSubmit_shouldGenerateItsVariantsInTheBackground() throws Exception {
+        // given
+        final var anImage = stored("storeId-1/productId-1/banner.png", png(800, 400));
+
+        // when
+        this.pipeline.submit(Set.of(anImage));
+
+        // then
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (this.storage.storage().size() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(3, this.storage.storage().size());
+    }
+
+    private ProductImage stored(final String location, final byte[] content) {
+        final var anImage = ProductImage.with("checksum", content, location.substring(location.lastIndexOf('/') + 1), location, true);
+        this.storage.store(Set.of(anImage));
+        return anImage;
+    }
+
+    private void assertSize(final int width, final int height, final String location) throws IOException {
+        final var content = this.storage.get(location).orElseThrow().getContent().readAllBytes();
+        final var actualImage = ImageIO.read(new ByteArrayInputStream(content));
+        Assertions.assertEquals(width, actualImage.getWidth());
+        Assertions.assertEquals(height, actualImage.getHeight());
+    }
+
+    private static byte[] png(final int width, final int height) throws IOException {
+        final var out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
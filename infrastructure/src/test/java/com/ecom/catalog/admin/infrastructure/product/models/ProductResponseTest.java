@@ -37,7 +37,7 @@ public class ProductResponseTest {
         final var expectedUpdatedAt = Instant.now();
         final var expectedImages = CollectionUtils.mapTo(
                 Set.of(Fixture.ProductImages.img01(), Fixture.ProductImages.img02()),
-                image -> ProductApiPresenter.present(image));
+                image -> ProductApiPresenter.present(expectedId, image));
 
         final var response = new ProductResponse(
                 expectedId,
@@ -78,7 +78,8 @@ public class ProductResponseTest {
                     .hasJsonPathValue(imageJsonPath + ".checksum", expectedImage.checksum())
                     .hasJsonPathValue(imageJsonPath + ".name", expectedImage.name())
                     .hasJsonPathValue(imageJsonPath + ".location", expectedImage.location())
-                    .hasJsonPathValue(imageJsonPath + ".featured", expectedImage.featured());
+                    .hasJsonPathValue(imageJsonPath + ".featured", expectedImage.featured())
+                    .hasJsonPathValue(imageJsonPath + ".uri", expectedImage.uri());
         }
 
     }
@@ -97,12 +98,12 @@ public class ProductResponseTest {
         final var expectedUpdatedAt = Instant.now();
         final var expectedImages = CollectionUtils.mapTo(
                 Set.of(Fixture.ProductImages.img01(), Fixture.ProductImages.img02()),
-                image -> ProductApiPresenter.present(image));
+                image -> ProductApiPresenter.present(expectedId, image));
 
         final var imagesJson = expectedImages.stream()
                 .map(image -> String.format(
-                        "{ \"id\": \"%s\", \"checksum\": \"%s\", \"name\": \"%s\", \"location\": \"%s\", \"featured\": %s }",
-                        image.id(), image.checksum(), image.name(), image.location(), image.featured()))
+                        "{ \"id\": \"%s\", \"checksum\": \"%s\", \"name\": \"%s\", \"location\": \"%s\", \"featured\": %s, \"uri\": \"%s\" }",
+                        image.id(), image.checksum(), image.name(), image.location(), image.featured(), image.uri()))
                 .collect(Collectors.joining(","));
 
         final var json = """
@@ -0,0 +1,52 @@
+package com.ecom.catalog.admin.infrastructure.product.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+public class TrigramIndexTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    public void givenIndexedProducts_whenSearchesWithATypo_shouldReturnTheBestMatchesFirst() {
+        final var index = new TrigramIndex();
+        index.index("1", "Camiseta Azul", "Algodão", NOW, NOW);
+        index.index("2", "Camisa Social", "Linho", NOW.plusSeconds(1), NOW);
+        index.index("3", "Tênis Corrida", "Esportivo", NOW.plusSeconds(2), NOW);
+
+        final var actualPage = index.search("camiseta azl", TrigramIndex.Order.RELEVANCE, true, 0, 10);
+
+        Assertions.assertEquals(List.of("1"), actualPage.ids());
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals(List.of("3"), index.search("TENIS", TrigramIndex.Order.RELEVANCE, true, 0, 10).ids());
+    }
+
+    @Test
+    public void givenAnUpdatedProduct_whenSearches_shouldOnlyMatchTheLatestVersion() {
+        final var index = new TrigramIndex();
+        index.index("1", "Camiseta Azul", "Algodão", NOW, NOW);
+        index.index("1", "Bermuda Verde", "Algodão", NOW, NOW.plusSeconds(10));
+        index.index("1", "Camiseta Azul", "Algodão", NOW, NOW.plusSeconds(5));
+
+        Assertions.assertEquals(0, index.search("camiseta", TrigramIndex.Order.RELEVANCE, true, 0, 10).total());
+        Assertions.assertEquals(List.of("1"), index.search("bermuda", TrigramIndex.Order.RELEVANCE, true, 0, 10).ids());
+        Assertions.assertEquals(1, index.size());
+    }
+
+    @Test
+    public void givenManyUpdates_whenCompacts_shouldKeepSearchResults() {
+        final var index = new TrigramIndex();
+        for (int i = 0; i < 3_000; i++) {
+            index.index(String.valueOf(i % 10), "Produto " + (i % 10), "Versão " + i, NOW, NOW.plusSeconds(i));
+        }
+
+        final var actualPage = index.search("produto", TrigramIndex.Order.NAME, false, 2, 3);
+
+        Assertions.assertEquals(10, actualPage.total());
+        Assertions.assertEquals(List.of("7", "6", "5"), actualPage.ids());
+        Assertions.assertEquals(10, index.size());
+    }
+}
@@ -0,0 +1,134 @@
+package com.ecom.catalog.admin.infrastructure.services.impl;
+
+import com.ecom.catalog.admin.domain.product.ProductImage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+
+public class AwsS3ServiceTest {
+
+    private final S3Client client = Mockito.mock(S3Client.class);
+
+    private AwsS3Service service;
+
+    @AfterEach
+    void tearDown() {
+        this.service.close();
+    }
+
+    @Test
+    public void givenAContentUnderTheThreshold_whenCallsStore_shouldPutItAtOnce() {
+        // given
+        this.service = new AwsS3Service("bucket", client, 2, 16, 4);
+        Mockito.when(client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenReturn(PutObjectResponse.builder().build());
+
+        // when
+        this.service.store(Set.of(image("a.png", 10)));
+
+        // then
+        Mockito.verify(client).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        Mockito.verify(client, Mockito.never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+        Assertions.assertEquals(1, this.service.stats().uploads());
+        Assertions.assertEquals(0, this.service.stats().multipartUploads());
+        Assertions.assertEquals(10, this.service.stats().bytes());
+    }
+
+    @Test
+    public void givenAContentOverTheThreshold_whenCallsStore_shouldUploadItInParts() {
+        // given
+        this.service = new AwsS3Service("bucket", client, 2, 8, 4);
+        mockMultipart();
+
+        // when
+        this.service.store(Set.of(image("a.png", 10)));
+
+        // then
+        final var parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+        Mockito.verify(client, Mockito.times(3)).uploadPart(parts.capture(), any(RequestBody.class));
+        Assertions.assertEquals(
+                List.of(4L, 4L, 2L),
+                parts.getAllValues().stream().map(UploadPartRequest::contentLength).toList());
+
+        final var complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        Mockito.verify(client).completeMultipartUpload(complete.capture());
+        Assertions.assertEquals("upload-1", complete.getValue().uploadId());
+        Assertions.assertEquals(3, complete.getValue().multipartUpload().parts().size());
+        Mockito.verify(client, Mockito.never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        Assertions.assertEquals(1, this.service.stats().multipartUploads());
+    }
+
+    @Test
+    public void givenAFailingPart_whenCallsStore_shouldAbortTheUpload() {
+        // given
+        this.service = new AwsS3Service("bucket", client, 2, 8, 4);
+        mockMultipart();
+        Mockito.when(client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenReturn(UploadPartResponse.builder().eTag("etag").build())
+                .thenThrow(S3Exception.builder().statusCode(500).build());
+
+        // when
+        Assertions.assertThrows(CompletionException.class, () -> this.service.store(Set.of(image("a.png", 10))));
+
+        // then
+        final var abort = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        Mockito.verify(client).abortMultipartUpload(abort.capture());
+        Assertions.assertEquals("upload-1", abort.getValue().uploadId());
+        Mockito.verify(client, Mockito.never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        Assertions.assertEquals(1, this.service.stats().failures());
+        Assertions.assertEquals(0, this.service.stats().uploads());
+    }
+
+    @Test
+    public void givenMoreImagesThanTheLimit_whenCallsStore_shouldNotExceedTheLimitInFlight() {
+        // given
+        final var limit = 2;
+        this.service = new AwsS3Service("bucket", client, limit, 16, 4);
+        final var inFlight = new AtomicInteger();
+        final var maxInFlight = new AtomicInteger();
+        Mockito.when(client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            inFlight.decrementAndGet();
+            return PutObjectResponse.builder().build();
+        });
+        final var images = IntStream.range(0, 8)
+                .mapToObj(i -> image(i + ".png", 10))
+                .collect(Collectors.toSet());
+
+        // when
+        this.service.store(images);
+
+        // then
+        Mockito.verify(client, Mockito.times(8)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        Assertions.assertTrue(maxInFlight.get() <= limit);
+        Assertions.assertEquals(8, this.service.stats().uploads());
+    }
+
+    private void mockMultipart() {
+        Mockito.when(client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        Mockito.when(client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenReturn(UploadPartResponse.builder().eTag("etag").build());
+        Mockito.when(client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .thenReturn(CompleteMultipartUploadResponse.builder().build());
+    }
+
+    private static ProductImage image(final String name, final int size) {
+        return ProductImage.with("checksum-" + name, new byte[size], name, "store/" + name, false);
+    }
+}
@@ -0,0 +1,140 @@
+package com.ecom.catalog.admin.infrastructure.services.local;
+
+import com.ecom.catalog.admin.domain.Fixture;
+import com.ecom.catalog.admin.domain.product.ByteRange;
+import com.ecom.catalog.admin.domain.product.ProductID;
+import com.ecom.catalog.admin.domain.product.ProductImage;
+import com.ecom.catalog.admin.domain.product.Store;
+import com.ecom.catalog.admin.infrastructure.utils.HashingUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+class FileSystemStorageServiceTest {
+
+    @TempDir
+    Path root;
+
+    private FileSystemStorageService storage;
+
+    @BeforeEach
+    public void setUp() {
+        this.storage = new FileSystemStorageService(root);
+    }
+
+    @Test
+    public void givenValidImages_whenCallsStore_shouldStoreThemUnderTheRoot() throws Exception {
+        // given
+        final var expectedStore = Fixture.Stores.lojaEletromania();
+        final var expectedProductId = ProductID.unique();
+        final var expectedImage1 = getImage(expectedStore, expectedProductId, Fixture.ProductImages.img01());
+        final var expectedImage2 = getImage(expectedStore, expectedProductId, Fixture.ProductImages.img02());
+
+        // when
+        this.storage.store(Set.of(expectedImage1, expectedImage2));
+
+        // then
+        for (final var expectedImage : List.of(expectedImage1, expectedImage2)) {
+            final var expectedContent = expectedImage.getContent().readAllBytes();
+            Assertions.assertArrayEquals(expectedContent, Files.readAllBytes(root.resolve(expectedImage.getLocation())));
+
+            final var actualImage = this.storage.get(expectedImage.getLocation()).orElseThrow();
+            Assertions.assertEquals(HashingUtils.checksum(expectedContent), actualImage.getChecksum());
+            Assertions.assertEquals(expectedImage.getLocation(), actualImage.getLocation());
+            Assertions.assertArrayEquals(expectedContent, actualImage.getContent().readAllBytes());
+        }
+        try (final Stream<Path> files = Files.walk(root)) {
+            Assertions.assertEquals(2, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    public void givenAStoredImage_whenCallsStoreAgain_shouldReplaceIt() {
+        // given
+        final var anImage = getImage(Fixture.Stores.lojaEletromania(), ProductID.unique(), Fixture.ProductImages.img01());
+        final byte[] expectedContent = {1, 2, 3};
+        this.storage.store(Set.of(anImage));
+
+        // when
+        this.storage.store(Set.of(ProductImage.with("other", expectedContent, anImage.getName(), anImage.getLocation(), true)));
+
+        // then
+        Assertions.assertArrayEquals(expectedContent, this.storage.get(anImage.getLocation()).orElseThrow().getContent().readAllBytes());
+    }
+
+    @Test
+    public void givenInvalidParams_whenCallsGet_shouldReturnEmpty() {
+        Assertions.assertTrue(this.storage.get("storeId-1/productId-1/missing.jpg").isEmpty());
+        Assertions.assertTrue(this.storage.open("missing", ByteRange.all()).isEmpty());
+    }
+
+    @Test
+    public void givenANameOutsideTheRoot_whenCallsGet_shouldThrow() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> this.storage.get("../outside.jpg"));
+    }
+
+    @Test
+    public void givenANameWithParentSegments_whenCallsGet_shouldThrow() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> this.storage.get("storeId-1/productId-1/../productId-2/a.png"));
+    }
+
+    @Test
+    public void givenAStoredImage_whenCallsOpenWithARange_shouldStreamOnlyThoseBytes() throws Exception {
+        // given
+        final var expectedImage = getImage(Fixture.Stores.lojaEletromania(), ProductID.unique(), Fixture.ProductImages.img01());
+        final var content = expectedImage.getContent().readAllBytes();
+        this.storage.store(Set.of(expectedImage));
+
+        // when
+        try (final var actualContent = this.storage.open(expectedImage.getLocation(), ByteRange.of(1, 3L)).orElseThrow();
+             final var actualSuffix = this.storage.open(expectedImage.getLocation(), ByteRange.suffix(2)).orElseThrow()) {
+
+            // then
+            Assertions.assertEquals(content.length, actualContent.size());
+            Assertions.assertEquals(1, actualContent.start());
+            Assertions.assertArrayEquals(Arrays.copyOfRange(content, 1, 4), actualContent.stream().readAllBytes());
+            Assertions.assertArrayEquals(Arrays.copyOfRange(content, content.length - 2, content.length), actualSuffix.stream().readAllBytes());
+        }
+
+        Assertions.assertFalse(this.storage.open(expectedImage.getLocation(), ByteRange.of(content.length, null)).orElseThrow().isSatisfiable());
+    }
+
+    @Test
+    public void givenAProductFolder_whenCallsListAndDeleteAll_shouldClearTheFolder() {
+        // given
+        final var aStore = Fixture.Stores.lojaEletromania();
+        final var aProductId = ProductID.unique();
+        final var otherProductId = ProductID.unique();
+        final var images = Set.of(
+                getImage(aStore, aProductId, Fixture.ProductImages.img01()),
+                getImage(aStore, aProductId, Fixture.ProductImages.img02()));
+        final var otherImage = getImage(aStore, otherProductId, Fixture.ProductImages.img03());
+        this.storage.store(images);
+        this.storage.store(Set.of(otherImage));
+        final var folder = "storeId-%s/productId-%s".formatted(aStore.getId(), aProductId.getValue());
+
+        // when
+        final var actualNames = this.storage.list(folder);
+        this.storage.deleteAll(actualNames);
+
+        // then
+        Assertions.assertEquals(
+                images.stream().map(ProductImage::getLocation).sorted().toList(),
+                actualNames);
+        Assertions.assertTrue(this.storage.list(folder).isEmpty());
+        Assertions.assertFalse(Files.exists(root.resolve(folder)));
+        Assertions.assertEquals(List.of(otherImage.getLocation()), this.storage.list(""));
+    }
+
+    private ProductImage getImage(Store aStore, ProductID aProduct, ProductImage anImage) {
+        return ProductImage.with(anImage, "storeId-%s/productId-%s/%s".formatted(aStore.getId(), aProduct.getValue(), anImage.getName()));
+    }
+}
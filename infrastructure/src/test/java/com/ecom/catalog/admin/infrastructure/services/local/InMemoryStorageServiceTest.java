@@ -1,6 +1,7 @@
 package com.ecom.catalog.admin.infrastructure.services.local;
 
 import com.ecom.catalog.admin.domain.Fixture;
+import com.ecom.catalog.admin.domain.product.ByteRange;
 import com.ecom.catalog.admin.domain.product.ProductID;
 import com.ecom.catalog.admin.domain.product.ProductImage;
 import com.ecom.catalog.admin.domain.product.Store;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
@@ -137,6 +139,28 @@ class InMemoryStorageServiceTest {
         return "storeId-%s/productId-%s/%s".formatted(aStore.getId(), aProduct.getValue(), anImage.getName());
     }
 
+    @Test
+    public void givenAStoredImage_whenCallsOpenWithARange_shouldStreamOnlyThoseBytes() throws Exception {
+        // given
+        final var expectedImage = getImage(Fixture.Stores.lojaEletromania(), ProductID.unique(), Fixture.ProductImages.img01());
+        final var content = expectedImage.getContent().readAllBytes();
+        this.storage.store(Set.of(expectedImage));
+
+        // when
+        try (final var actualContent = this.storage.open(expectedImage.getLocation(), ByteRange.of(1, 3L)).orElseThrow();
+             final var actualSuffix = this.storage.open(expectedImage.getLocation(), ByteRange.suffix(2)).orElseThrow()) {
+
+            // then
+            Assertions.assertEquals(content.length, actualContent.size());
+            Assertions.assertEquals(1, actualContent.start());
+            Assertions.assertArrayEquals(Arrays.copyOfRange(content, 1, 4), actualContent.stream().readAllBytes());
+            Assertions.assertArrayEquals(Arrays.copyOfRange(content, content.length - 2, content.length), actualSuffix.stream().readAllBytes());
+        }
+
+        Assertions.assertFalse(this.storage.open(expectedImage.getLocation(), ByteRange.of(content.length, null)).orElseThrow().isSatisfiable());
+        Assertions.assertTrue(this.storage.open("missing", ByteRange.all()).isEmpty());
+    }
+
     private ProductImage getImage(Store aStore, ProductID aProduct, ProductImage anImage) {
         return ProductImage.with(anImage, getLocation(aStore, aProduct, anImage));
     }